@@ -0,0 +1,4 @@
+-- 복제 계정, 애플리케이션 계정의 복제 상태 조회 권한 (ReplicaLagMonitor의 SHOW REPLICA STATUS)
+CREATE USER 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+GRANT REPLICATION CLIENT ON *.* TO 'corecord'@'%';
@@ -0,0 +1,9 @@
+-- primary의 처음 GTID부터 복제 (스키마, 계정 포함)
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql-primary',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'repl',
+    SOURCE_PASSWORD = 'repl',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
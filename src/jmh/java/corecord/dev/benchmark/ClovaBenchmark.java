@@ -0,0 +1,91 @@
+package corecord.dev.benchmark;
+
+import corecord.dev.common.metrics.LlmMetrics;
+import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
+import corecord.dev.domain.chat.domain.entity.Chat;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.infra.clova.application.ClovaService;
+import corecord.dev.domain.chat.infra.clova.dto.request.ClovaRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 채팅마다 실행되는 Clova 요청 생성(채팅 내역 크기별)과 응답 파싱
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClovaBenchmark {
+
+    private static final String CHAT_RESPONSE = """
+            {"status":{"code":"20000","message":"OK"},"result":{"message":{"role":"assistant",\
+            "content":"좋아요! 그 경험에서 어떤 문제를 해결했는지 조금 더 자세히 알려주세요."},\
+            "inputLength":812,"outputLength":34,"stopReason":"stop_before","seed":1}}""";
+    private static final String SUMMARY_CONTENT =
+            "{\\\"title\\\":\\\"팀 프로젝트 리더 경험\\\",\\\"content\\\":\\\"일정이 밀린 프로젝트에서 역할을 다시 나누어 기한 내 배포했다.\\\"}";
+    private static final String SUMMARY_RESPONSE = """
+            {"status":{"code":"20000","message":"OK"},"result":{"message":{"role":"assistant",\
+            "content":"%s"},"inputLength":1520,"outputLength":88}}""".formatted(SUMMARY_CONTENT);
+
+    private ClovaService clovaService;
+    private MethodHandle parseContent;
+    private MethodHandle parseChatSummary;
+
+    // 요청 생성 벤치마크만 채팅 내역 크기별로 실행
+    @State(Scope.Benchmark)
+    public static class ChatHistory {
+
+        @Param({"2", "20", "100"})
+        private int historySize;
+
+        private List<Chat> chatList;
+
+        @Setup
+        public void setUp() {
+            ChatRoom chatRoom = ChatRoom.builder().chatRoomId(1L).build();
+            chatList = new ArrayList<>(historySize);
+            for (int i = 0; i < historySize; i++) {
+                chatList.add(Chat.builder()
+                        .chatId((long) i + 1)
+                        .author(i % 2)
+                        .content(i % 2 == 0 ? "어떤 상황이었는지 알려주세요." : "동아리 행사 준비 중 예산이 부족해서 후원사를 직접 찾아다녔어요.")
+                        .chatRoom(chatRoom)
+                        .build());
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        clovaService = new ClovaService(WebClient.builder(), new LlmMetrics(new SimpleMeterRegistry()));
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(ClovaService.class, MethodHandles.lookup());
+        parseContent = lookup.findVirtual(ClovaService.class, "parseContentFromResponse",
+                MethodType.methodType(String.class, String.class, String.class));
+        parseChatSummary = lookup.findVirtual(ClovaService.class, "parseChatSummaryResponse",
+                MethodType.methodType(ChatSummaryAiResponse.class, String.class));
+    }
+
+    @Benchmark
+    public ClovaRequest createChatRequest(ChatHistory chatHistory) {
+        return ClovaRequest.createChatRequest(chatHistory.chatList, "프로젝트에서 맡은 역할을 정리하고 싶어요.");
+    }
+
+    @Benchmark
+    public String parseChatResponse() throws Throwable {
+        return (String) parseContent.invokeExact(clovaService, LlmMetrics.CHAT, CHAT_RESPONSE);
+    }
+
+    @Benchmark
+    public ChatSummaryAiResponse parseChatSummaryResponse() throws Throwable {
+        String content = (String) parseContent.invokeExact(clovaService, LlmMetrics.CHAT_SUMMARY, SUMMARY_RESPONSE);
+        return (ChatSummaryAiResponse) parseChatSummary.invokeExact(clovaService, content);
+    }
+}
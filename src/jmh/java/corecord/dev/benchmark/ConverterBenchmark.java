@@ -0,0 +1,91 @@
+package corecord.dev.benchmark;
+
+import corecord.dev.domain.ability.domain.converter.AbilityConverter;
+import corecord.dev.domain.ability.domain.dto.response.AbilityResponse;
+import corecord.dev.domain.ability.domain.entity.Ability;
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.record.domain.converter.RecordConverter;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 목록, 역량 조회 응답마다 반복되는 DTO 변환, Keyword 조회, 날짜 포맷
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConverterBenchmark {
+
+    // RecordDbService의 목록 조회 크기
+    private static final int RECORD_LIST_SIZE = 30;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 11, 1, 12, 0);
+    private List<Ability> abilityList;
+    private List<AbilityResponse.KeywordStateDto> keywordStateDtoList;
+
+    @State(Scope.Benchmark)
+    public static class KeywordValue {
+
+        // 첫 번째, 마지막, 없는 키워드
+        @Param({"문제해결능력", "책임감", "없는키워드"})
+        private String value;
+    }
+
+    @Setup
+    public void setUp() {
+        Keyword[] keywords = Keyword.values();
+
+        abilityList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Ability ability = Ability.builder()
+                    .keyword(keywords[i])
+                    .content("주어진 문제를 분석하고 해결 방안을 실행한 경험이 있습니다.")
+                    .build();
+            ability.setCreatedAt(createdAt);
+            abilityList.add(ability);
+        }
+
+        keywordStateDtoList = Arrays.stream(keywords)
+                .map(keyword -> new AbilityResponse.KeywordStateDto(keyword, 3L, 100.0 / keywords.length))
+                .toList();
+    }
+
+    // 목록 조회 projection 생성자(키워드 분리, 날짜 포맷 포함)부터 응답 DTO 생성까지
+    @Benchmark
+    public RecordResponse.RecordListDto toRecordListDto() {
+        List<RecordResponse.RecordDto> recordDtoList = new ArrayList<>(RECORD_LIST_SIZE);
+        for (long i = 0; i < RECORD_LIST_SIZE; i++) {
+            recordDtoList.add(new RecordResponse.RecordDto(i, i, "기본 폴더", "경험 기록 제목",
+                    "COMMUNICATION,LEADERSHIP,COLLABORATION", createdAt));
+        }
+        return RecordConverter.toRecordListDto("all", recordDtoList, true);
+    }
+
+    @Benchmark
+    public List<AbilityResponse.AbilityDto> toAbilityDtoList() {
+        return abilityList.stream()
+                .map(AbilityConverter::toAbilityDto)
+                .toList();
+    }
+
+    @Benchmark
+    public AbilityResponse.GraphDto toGraphDto() {
+        return AbilityConverter.toGraphDto(keywordStateDtoList);
+    }
+
+    @Benchmark
+    public Keyword getKeywordName(KeywordValue keywordValue) {
+        return Keyword.getName(keywordValue.value);
+    }
+
+    @Benchmark
+    public String getCreatedAtFormatted() {
+        return abilityList.get(0).getCreatedAtFormatted();
+    }
+}
@@ -0,0 +1,68 @@
+package corecord.dev.benchmark;
+
+import corecord.dev.common.util.CookieUtil;
+import corecord.dev.domain.auth.jwt.JwtFilter;
+import corecord.dev.domain.auth.jwt.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 모든 인증 요청이 거치는 JWT 발급, 검증과 JwtFilter 요청당 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET_KEY = "YmVuY2htYXJrc2VjcmV0a2V5YmVuY2htYXJrc2VjcmV0a2V5YmVuY2htYXJrc2VjcmV0a2V5";
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "REGISTER_TOKEN_EXPIRATION_TIME", 1000L * 60 * 60);
+        ReflectionTestUtils.setField(jwtUtil, "ACCESS_TOKEN_EXPIRATION_TIME", 1000L * 60 * 60 * 24);
+        ReflectionTestUtils.setField(jwtUtil, "REFRESH_TOKEN_EXPIRATION_TIME", 1000L * 60 * 60 * 24 * 7);
+
+        jwtFilter = new JwtFilter(jwtUtil, new CookieUtil());
+        accessToken = jwtUtil.generateAccessToken(1L);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1L);
+    }
+
+    @Benchmark
+    public boolean verifyAccessToken() {
+        return jwtUtil.isAccessTokenValid(accessToken);
+    }
+
+    @Benchmark
+    public String getUserIdFromAccessToken() {
+        return jwtUtil.getUserIdFromAccessToken(accessToken);
+    }
+
+    // 쿠키 조회, 토큰 검증, SecurityContext 설정까지 요청 하나를 통과시키는 비용
+    @Benchmark
+    public MockHttpServletResponse filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/records/memo");
+        request.setCookies(new Cookie("accessToken", accessToken));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
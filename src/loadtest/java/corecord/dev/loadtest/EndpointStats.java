@@ -0,0 +1,46 @@
+package corecord.dev.loadtest;
+
+import java.util.Arrays;
+
+/*
+ * 엔드포인트별 응답 시간(µs)과 오류 수 집계
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errorCount;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long latencyMicros, boolean error) {
+        if (count == latencies.length)
+            latencies = Arrays.copyOf(latencies, count * 2);
+        latencies[count++] = latencyMicros;
+        if (error)
+            errorCount++;
+    }
+
+    public synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint, count, errorCount, count / elapsedSeconds,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                count == 0 ? 0 : sorted[count - 1] / 1000.0);
+    }
+
+    // nearest-rank 방식, ms 단위로 반환
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1000.0;
+    }
+
+    public record Summary(String endpoint, int count, int errors, double throughput,
+                          double p50, double p95, double p99, double max) {
+    }
+}
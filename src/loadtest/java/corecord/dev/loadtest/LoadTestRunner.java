@@ -0,0 +1,141 @@
+package corecord.dev.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 실제 API를 여러 가상 사용자로 호출하고 엔드포인트별 처리량, p50/p95/p99를 보고
+ * 서버는 LLM 스텁을 바라보도록 loadtest 프로필로 실행 (application-loadtest.yml)
+ * 실행: ./gradlew loadTest -Pargs="--secret=<jwt.secret> --users=1-100 --duration=120"
+ *
+ * --base-url    기본 http://localhost:8080
+ * --secret      서버의 jwt.secret (BASE64), 사용자별 액세스 토큰 발급에 사용
+ * --users       가상 사용자로 사용할 userId 범위, 가입된 사용자여야 함 (기본 1-50)
+ * --duration    측정 시간 (s, 기본 60)
+ * --ramp-up     가상 사용자를 모두 시작하기까지 걸리는 시간 (s, 기본 10)
+ * --think-time  요청 간 평균 대기 시간 (ms, 기본 500)
+ * --mix         시나리오 비율 (기본 chat:2,memo:1,read:7)
+ * --chat-turns  chat 시나리오의 채팅 횟수 (기본 3)
+ * --timeout     요청 타임아웃 (s, 기본 120)
+ * --report-dir  결과(report.json) 저장 위치 (기본 build/results/loadtest)
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String baseUrl = options.get("base-url", "http://localhost:8080");
+        String secret = options.require("secret");
+        String[] userRange = options.get("users", "1-50").split("-");
+        long firstUserId = Long.parseLong(userRange[0]);
+        long lastUserId = Long.parseLong(userRange[userRange.length - 1]);
+        int userCount = (int) (lastUserId - firstUserId + 1);
+        long duration = TimeUnit.SECONDS.toMillis(options.getLong("duration", 60));
+        long rampUp = TimeUnit.SECONDS.toMillis(options.getLong("ramp-up", 10));
+        Map<String, Integer> scenarioWeights = parseMix(options.get("mix", "chat:2,memo:1,read:7"));
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        Map<String, EndpointStats> statsMap = new ConcurrentHashMap<>();
+
+        System.out.printf("%d users, %ds (ramp-up %ds), mix %s -> %s%n",
+                userCount, duration / 1000, rampUp / 1000, scenarioWeights, baseUrl);
+
+        long start = System.currentTimeMillis();
+        long deadline = start + rampUp + duration;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < userCount; i++) {
+                long delay = userCount == 1 ? 0 : rampUp * i / (userCount - 1);
+                String accessToken = generateAccessToken(secret, firstUserId + i);
+                VirtualUser virtualUser = new VirtualUser(httpClient, baseUrl, accessToken, statsMap, scenarioWeights,
+                        options.getInt("chat-turns", 3), options.getLong("think-time", 500),
+                        Duration.ofSeconds(options.getLong("timeout", 120)), deadline);
+
+                executor.submit(() -> {
+                    Thread.sleep(delay);
+                    virtualUser.run();
+                    return null;
+                });
+            }
+        } // 모든 가상 사용자가 끝날 때까지 대기
+
+        double elapsedSeconds = (System.currentTimeMillis() - start) / 1000.0;
+        List<EndpointStats.Summary> summaryList = statsMap.values().stream()
+                .map(stats -> stats.summarize(elapsedSeconds))
+                .sorted(Comparator.comparing(EndpointStats.Summary::endpoint))
+                .toList();
+
+        print(summaryList, elapsedSeconds);
+        writeReport(Path.of(options.get("report-dir", "build/results/loadtest")), options, userCount, elapsedSeconds, summaryList);
+    }
+
+    // JwtUtil.generateAccessToken과 같은 형식 (claim: userId)
+    private static String generateAccessToken(String secret, long userId) {
+        return Jwts.builder()
+                .claim("userId", String.valueOf(userId))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .compact();
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> scenarioWeights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            scenarioWeights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return scenarioWeights;
+    }
+
+    private static void print(List<EndpointStats.Summary> summaryList, double elapsedSeconds) {
+        System.out.printf("%n%-45s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats.Summary summary : summaryList) {
+            System.out.printf("%-45s %8d %7d %9.2f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.endpoint(), summary.count(), summary.errors(), summary.throughput(),
+                    summary.p50(), summary.p95(), summary.p99(), summary.max());
+        }
+
+        int total = summaryList.stream().mapToInt(EndpointStats.Summary::count).sum();
+        int errors = summaryList.stream().mapToInt(EndpointStats.Summary::errors).sum();
+        System.out.printf("%ntotal %d requests, %d errors, %.2f req/s in %.1fs%n",
+                total, errors, total / elapsedSeconds, elapsedSeconds);
+    }
+
+    private static void writeReport(Path reportDir, Options options, int userCount, double elapsedSeconds,
+                                    List<EndpointStats.Summary> summaryList) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().minusSeconds((long) elapsedSeconds).toString());
+        report.put("baseUrl", options.get("base-url", "http://localhost:8080"));
+        report.put("users", userCount);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("mix", options.get("mix", "chat:2,memo:1,read:7"));
+        report.put("endpoints", summaryList);
+
+        Files.createDirectories(reportDir);
+        Path reportPath = reportDir.resolve("report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("report: " + reportPath.toAbsolutePath());
+    }
+}
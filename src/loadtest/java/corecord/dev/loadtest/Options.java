@@ -0,0 +1,50 @@
+package corecord.dev.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * --key=value 형식의 실행 인자
+ */
+public class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public static Options parse(String[] args) {
+        Options options = new Options();
+        for (String arg : args) {
+            if (!arg.startsWith("--"))
+                throw new IllegalArgumentException("--key=value 형식이 아닌 인자: " + arg);
+
+            int index = arg.indexOf('=');
+            if (index < 0)
+                options.values.put(arg.substring(2), "true");
+            else
+                options.values.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        return options;
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public String require(String key) {
+        String value = values.get(key);
+        if (value == null || value.isBlank())
+            throw new IllegalArgumentException("--" + key + " 인자가 필요합니다.");
+        return value;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        return values.containsKey(key) ? Double.parseDouble(values.get(key)) : defaultValue;
+    }
+}
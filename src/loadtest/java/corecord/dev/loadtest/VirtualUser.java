@@ -0,0 +1,189 @@
+package corecord.dev.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 사용자 한 명의 행동을 흉내 내는 가상 사용자
+ * chat: 채팅방 생성 -> 채팅 chatTurns회 -> 요약 -> 경험 기록(CHAT) 저장
+ * memo: 경험 기록(MEMO) 저장
+ * read: 폴더별 경험 기록 목록, 역량 그래프, 폴더 목록 조회
+ */
+public class VirtualUser implements Runnable {
+
+    private static final List<String> CHAT_INPUT_LIST = List.of(
+            "프로젝트에서 배포가 자꾸 지연되는 문제가 있었어요.",
+            "로그를 분석해서 빌드 단계에서 병목을 찾았고 캐시를 적용했어요.",
+            "팀원들에게 배포 체크리스트를 만들어서 공유했어요.",
+            "그 뒤로 배포 시간이 절반 정도로 줄었어요."
+    );
+    private static final String MEMO_CONTENT = "동아리 프로젝트에서 배포가 반복적으로 지연되는 문제가 있었다. "
+            + "빌드 로그를 분석해 의존성 다운로드 단계의 병목을 찾아 캐시를 적용했고, 배포 체크리스트를 만들어 팀에 공유했다. "
+            + "그 결과 배포 시간이 절반으로 줄었고 배포 실패도 거의 사라졌다.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String accessToken;
+    private final Map<String, EndpointStats> statsMap;
+    private final Map<String, Integer> scenarioWeights;
+    private final int chatTurns;
+    private final long thinkTime;
+    private final Duration timeout;
+    private final long deadline;
+
+    private Long folderId;
+
+    public VirtualUser(HttpClient httpClient, String baseUrl, String accessToken, Map<String, EndpointStats> statsMap,
+                       Map<String, Integer> scenarioWeights, int chatTurns, long thinkTime, Duration timeout, long deadline) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.statsMap = statsMap;
+        this.scenarioWeights = scenarioWeights;
+        this.chatTurns = chatTurns;
+        this.thinkTime = thinkTime;
+        this.timeout = timeout;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void run() {
+        try {
+            folderId = findFolderId();
+            if (folderId == null)
+                return;
+
+            while (System.currentTimeMillis() < deadline) {
+                switch (nextScenario()) {
+                    case "chat" -> chatScenario();
+                    case "memo" -> memoScenario();
+                    default -> readScenario();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void chatScenario() throws InterruptedException {
+        JsonNode chatRoom = send("POST /api/records/chat", "POST", "/api/records/chat", null);
+        if (chatRoom == null)
+            return;
+        long chatRoomId = chatRoom.path("chatRoomId").asLong();
+        think();
+
+        for (int i = 0; i < chatTurns && System.currentTimeMillis() < deadline; i++) {
+            ObjectNode chat = objectMapper.createObjectNode()
+                    .put("guide", false)
+                    .put("content", CHAT_INPUT_LIST.get(i % CHAT_INPUT_LIST.size()));
+            if (send("POST /api/records/chat/{chatRoomId}", "POST", "/api/records/chat/" + chatRoomId, chat) == null)
+                return;
+            think();
+        }
+
+        JsonNode summary = send("GET /api/records/chat/{chatRoomId}/summary", "GET", "/api/records/chat/" + chatRoomId + "/summary", null);
+        if (summary == null)
+            return;
+        think();
+
+        ObjectNode record = objectMapper.createObjectNode()
+                .put("title", summary.path("title").asText())
+                .put("content", summary.path("content").asText())
+                .put("folderId", folderId)
+                .put("recordType", "CHAT")
+                .put("chatRoomId", chatRoomId);
+        send("POST /api/records (CHAT)", "POST", "/api/records", record);
+        think();
+    }
+
+    private void memoScenario() throws InterruptedException {
+        ObjectNode record = objectMapper.createObjectNode()
+                .put("title", "배포 지연 문제 해결")
+                .put("content", MEMO_CONTENT)
+                .put("folderId", folderId)
+                .put("recordType", "MEMO");
+        send("POST /api/records (MEMO)", "POST", "/api/records", record);
+        think();
+    }
+
+    private void readScenario() throws InterruptedException {
+        send("GET /api/records", "GET", "/api/records?folder=all", null);
+        think();
+        send("GET /api/keyword/graph", "GET", "/api/keyword/graph", null);
+        think();
+        send("GET /api/folders", "GET", "/api/folders", null);
+        think();
+    }
+
+    // 첫 폴더를 사용하고, 폴더가 없으면 하나 생성
+    private Long findFolderId() {
+        JsonNode folderList = send("GET /api/folders", "GET", "/api/folders", null);
+        if (folderList != null && folderList.path("folderDtoList").size() == 0) {
+            ObjectNode folder = objectMapper.createObjectNode().put("title", "부하 테스트");
+            folderList = send("POST /api/folders", "POST", "/api/folders", folder);
+        }
+        if (folderList == null || folderList.path("folderDtoList").size() == 0)
+            return null;
+        return folderList.path("folderDtoList").get(0).path("folderId").asLong();
+    }
+
+    /*
+     * 요청을 보내고 응답 시간과 오류 여부를 endpoint 단위로 기록
+     * @return 성공 시 ApiResponse.data, 실패 시 null
+     */
+    private JsonNode send(String endpoint, String method, String path, JsonNode body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Cookie", "accessToken=" + accessToken)
+                .header("Accept", "application/json");
+        if (body == null)
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        else
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body.toString()));
+
+        EndpointStats stats = statsMap.computeIfAbsent(endpoint, EndpointStats::new);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            boolean error = response.statusCode() >= 400;
+            stats.record((System.nanoTime() - start) / 1000, error);
+            return error ? null : objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            // 타임아웃, 연결 실패
+            stats.record((System.nanoTime() - start) / 1000, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String nextScenario() {
+        int total = scenarioWeights.values().stream().mapToInt(Integer::intValue).sum();
+        int random = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<String, Integer> entry : scenarioWeights.entrySet()) {
+            random -= entry.getValue();
+            if (random < 0)
+                return entry.getKey();
+        }
+        return "read";
+    }
+
+    private void think() throws InterruptedException {
+        if (thinkTime > 0)
+            Thread.sleep(ThreadLocalRandom.current().nextLong(thinkTime / 2, thinkTime * 3 / 2 + 1));
+    }
+}
@@ -0,0 +1,231 @@
+package corecord.dev.loadtest.dataset;
+
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/*
+ * 로컬 MySQL에 실제 분포와 비슷한 합성 데이터(사용자, 폴더, 경험 기록, 역량 분석, 역량, 채팅방, 채팅)를 생성
+ * - 사용자별 경험 기록 수는 파레토 분포 (대부분 수십 개, 소수의 사용자가 수천 개)
+ * - 사용자 순번별 시드로 생성하므로 같은 seed면 몇 번에 나눠 채워도 같은 분포와 내용이 만들어짐 (생성 시각은 실행 시점 기준)
+ * - 생성한 사용자는 provider_id = 'dataset'으로 구분하며 clear()로 한 번에 삭제
+ */
+public class DatasetGenerator {
+
+    static final String PROVIDER_ID = "dataset";
+
+    private static final int MIN_RECORD_PER_USER = 3;
+    private static final double PARETO_ALPHA = 1.16; // 상위 20% 사용자가 기록의 80%
+    private static final int FLUSH_SIZE = 5000;
+    private static final double TMP_RECORD_RATIO = 0.02;
+    private static final String[] SENTENCE_LIST = {
+            "동아리 프로젝트에서 배포가 반복적으로 지연되는 문제가 있었다. ",
+            "빌드 로그를 분석해 병목 구간을 찾아 캐시를 적용했다. ",
+            "팀원들과 주간 회의에서 진행 상황을 공유하고 일정을 조율했다. ",
+            "사용자 인터뷰 결과를 정리해 기능 우선순위를 다시 정했다. ",
+            "처음 맡은 역할이라 막막했지만 선배에게 조언을 구해 해결했다. ",
+            "발표 자료를 준비하며 핵심 메시지를 세 가지로 줄였다. ",
+            "마감 직전 장애가 발생해 원인을 추적하고 재발 방지책을 마련했다. "
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int maxRecordPerUser;
+    private final double chatRatio;
+
+    private final List<Object[]> userRowList = new ArrayList<>();
+    private final List<Object[]> folderRowList = new ArrayList<>();
+    private final List<Object[]> chatRoomRowList = new ArrayList<>();
+    private final List<Object[]> chatRowList = new ArrayList<>();
+    private final List<Object[]> recordRowList = new ArrayList<>();
+    private final List<Object[]> analysisRowList = new ArrayList<>();
+    private final List<Object[]> abilityRowList = new ArrayList<>();
+
+    private long userId, folderId, chatRoomId, chatId, recordId, analysisId, abilityId;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, long seed, int maxRecordPerUser, double chatRatio) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.maxRecordPerUser = maxRecordPerUser;
+        this.chatRatio = chatRatio;
+    }
+
+    /*
+     * 생성된 경험 기록 수가 targetRecordCount 이상이 될 때까지 사용자 단위로 추가 생성
+     * @param targetRecordCount
+     * @return 생성된 전체 경험 기록 수
+     */
+    public long fill(long targetRecordCount) {
+        long recordCount = countRecord();
+        int userIndex = countUser();
+        loadMaxId();
+
+        while (recordCount < targetRecordCount) {
+            recordCount += generateUser(userIndex++);
+            if (pendingRowCount() >= FLUSH_SIZE)
+                flush();
+        }
+        flush();
+        return recordCount;
+    }
+
+    public void clear() {
+        String datasetUsers = "(SELECT user_id FROM (SELECT user_id FROM user WHERE provider_id = '" + PROVIDER_ID + "') s)";
+        jdbcTemplate.update("DELETE FROM ability WHERE user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE an FROM analysis an JOIN record r ON r.record_id = an.record_id WHERE r.user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE FROM record WHERE user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE c FROM chat c JOIN chat_room cr ON cr.chat_room_id = c.chat_room_id WHERE cr.user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE FROM chat_room WHERE user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE FROM folder WHERE user_id IN " + datasetUsers);
+        jdbcTemplate.update("DELETE FROM user WHERE provider_id = ?", PROVIDER_ID);
+    }
+
+    public long countRecord() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM record r JOIN user u ON u.user_id = r.user_id " +
+                "WHERE u.provider_id = ?", Long.class, PROVIDER_ID);
+    }
+
+    private int countUser() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user WHERE provider_id = ?", Integer.class, PROVIDER_ID);
+    }
+
+    private int generateUser(int userIndex) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + userIndex);
+        int recordCount = (int) Math.min(maxRecordPerUser,
+                MIN_RECORD_PER_USER / Math.pow(1 - random.nextDouble(), 1 / PARETO_ALPHA));
+        int folderCount = Math.min(50, 1 + recordCount / 40);
+
+        // 가입 시점부터 최근까지 기록이 순서대로 쌓이도록 생성 시각을 배정
+        LocalDateTime joinedAt = LocalDateTime.now().minusDays(30 + random.nextInt(700));
+        long minutesSinceJoin = Duration.between(joinedAt, LocalDateTime.now()).toMinutes();
+
+        long currentUserId = ++userId;
+        userRowList.add(new Object[]{currentUserId, PROVIDER_ID, "dataset" + userIndex, "OTHER",
+                recordCount - countTmpRecord(recordCount), timestamp(joinedAt)});
+
+        long firstFolderId = folderId + 1;
+        int[] folderRecordCount = new int[folderCount];
+        long[] recordFolderList = new long[recordCount];
+        for (int i = 0; i < recordCount; i++) {
+            if (i < countTmpRecord(recordCount)) {
+                recordFolderList[i] = 0; // 임시 저장 기록
+                continue;
+            }
+            // 앞쪽 폴더에 기록이 몰리도록 배정
+            int folderIndex = (int) (folderCount * Math.pow(random.nextDouble(), 2));
+            folderRecordCount[folderIndex]++;
+            recordFolderList[i] = firstFolderId + folderIndex;
+        }
+        for (int i = 0; i < folderCount; i++)
+            folderRowList.add(new Object[]{++folderId, "폴더" + (i + 1), folderRecordCount[i], currentUserId, timestamp(joinedAt)});
+
+        for (int i = 0; i < recordCount; i++) {
+            LocalDateTime createdAt = joinedAt.plusMinutes(minutesSinceJoin * (i + 1) / (recordCount + 1));
+            boolean isChat = random.nextDouble() < chatRatio;
+            Long recordFolderId = recordFolderList[i] == 0 ? null : recordFolderList[i];
+
+            Long recordChatRoomId = null;
+            if (isChat) {
+                recordChatRoomId = ++chatRoomId;
+                chatRoomRowList.add(new Object[]{recordChatRoomId, currentUserId, timestamp(createdAt)});
+                int chatCount = 4 + random.nextInt(21);
+                for (int c = 0; c < chatCount; c++)
+                    chatRowList.add(new Object[]{++chatId, c % 2, text(random, 20, 200), recordChatRoomId, timestamp(createdAt)});
+            }
+
+            long currentRecordId = ++recordId;
+            recordRowList.add(new Object[]{currentRecordId, isChat ? "CHAT" : "MEMO", "경험 기록 " + (i + 1),
+                    text(random, 60, 480), currentUserId, recordChatRoomId, recordFolderId, timestamp(createdAt)});
+
+            if (recordFolderId == null)
+                continue;
+
+            long currentAnalysisId = ++analysisId;
+            analysisRowList.add(new Object[]{currentAnalysisId, text(random, 60, 480), text(random, 20, 280),
+                    currentRecordId, timestamp(createdAt)});
+            for (Keyword keyword : pickKeywordList(random))
+                abilityRowList.add(new Object[]{++abilityId, keyword.name(), text(random, 20, 280),
+                        currentUserId, currentAnalysisId, timestamp(createdAt)});
+        }
+        return recordCount;
+    }
+
+    private int countTmpRecord(int recordCount) {
+        return (int) (recordCount * TMP_RECORD_RATIO);
+    }
+
+    // 역량 1~3개, 앞쪽 키워드가 더 자주 나오도록 선택
+    private List<Keyword> pickKeywordList(SplittableRandom random) {
+        Keyword[] keywords = Keyword.values();
+        int count = 1 + random.nextInt(3);
+        List<Keyword> keywordList = new ArrayList<>(count);
+        while (keywordList.size() < count) {
+            Keyword keyword = keywords[(int) (keywords.length * Math.pow(random.nextDouble(), 1.5))];
+            if (!keywordList.contains(keyword))
+                keywordList.add(keyword);
+        }
+        return keywordList;
+    }
+
+    private String text(SplittableRandom random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder builder = new StringBuilder(length + 64);
+        while (builder.length() < length)
+            builder.append(SENTENCE_LIST[random.nextInt(SENTENCE_LIST.length)]);
+        return builder.substring(0, length);
+    }
+
+    private Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    private void loadMaxId() {
+        userId = maxId("user", "user_id");
+        folderId = maxId("folder", "folder_id");
+        chatRoomId = maxId("chat_room", "chat_room_id");
+        chatId = maxId("chat", "chat_id");
+        recordId = maxId("record", "record_id");
+        analysisId = maxId("analysis", "analysis_id");
+        abilityId = maxId("ability", "ability_id");
+    }
+
+    private long maxId(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+    }
+
+    private int pendingRowCount() {
+        return userRowList.size() + folderRowList.size() + chatRoomRowList.size() + chatRowList.size()
+                + recordRowList.size() + analysisRowList.size() + abilityRowList.size();
+    }
+
+    // FK 순서대로 저장 (rewriteBatchedStatements=true면 multi-row INSERT로 전송)
+    private void flush() {
+        insert("INSERT INTO user (user_id, provider_id, nick_name, status, record_count, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, NOW())", userRowList);
+        insert("INSERT INTO folder (folder_id, title, record_count, user_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, NOW())", folderRowList);
+        insert("INSERT INTO chat_room (chat_room_id, user_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, NOW())", chatRoomRowList);
+        insert("INSERT INTO chat (chat_id, author, content, chat_room_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, NOW())", chatRowList);
+        insert("INSERT INTO record (record_id, type, title, content, user_id, chat_room_id, folder_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW())", recordRowList);
+        insert("INSERT INTO analysis (analysis_id, content, comment, record_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, NOW())", analysisRowList);
+        insert("INSERT INTO ability (ability_id, keyword, content, user_id, analysis_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, NOW())", abilityRowList);
+    }
+
+    private void insert(String sql, List<Object[]> rowList) {
+        if (rowList.isEmpty())
+            return;
+        jdbcTemplate.batchUpdate(sql, rowList);
+        rowList.clear();
+    }
+}
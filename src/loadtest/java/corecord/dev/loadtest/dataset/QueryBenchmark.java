@@ -0,0 +1,309 @@
+package corecord.dev.loadtest.dataset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.ability.domain.repository.AbilityRepository;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.repository.ChatRepository;
+import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.folder.domain.repository.FolderRepository;
+import corecord.dev.domain.record.domain.repository.RecordRepository;
+import corecord.dev.domain.user.domain.entity.User;
+import corecord.dev.loadtest.Options;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/*
+ * 데이터 규모별 Repository 조회 쿼리 응답 시간 측정
+ * 규모(경험 기록 수)마다 DatasetGenerator로 데이터를 채운 뒤, 기록이 가장 많은 사용자 기준으로 각 쿼리를 반복 실행한다.
+ * 실행: ./gradlew queryBenchmark -Pargs="--url=jdbc:mysql://localhost:3306/<db> --username=root --password=..."
+ *
+ * --scales      경험 기록 수 단계 (기본 1000,100000,1000000)
+ * --warmup      쿼리별 워밍업 횟수 (기본 10)
+ * --iterations  쿼리별 측정 횟수 (기본 50)
+ * --seed        데이터 생성 시드 (기본 42)
+ * --max-record-per-user  사용자당 최대 경험 기록 수 (기본 5000)
+ * --chat-ratio  채팅으로 작성한 경험 기록 비율 (기본 0.3)
+ * --clear       시작 전에 기존 합성 데이터를 삭제
+ * --report-dir  결과(query-benchmark.json) 저장 위치
+ */
+@Configuration
+@ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+})
+@EntityScan(basePackages = "corecord.dev.domain")
+@EnableJpaRepositories(basePackages = "corecord.dev.domain", includeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = {RecordRepository.class, AbilityRepository.class, ChatRepository.class, FolderRepository.class}))
+public class QueryBenchmark {
+
+    private static final Pageable RECORD_PAGE = PageRequest.of(0, 31, Sort.by("recordId").descending());
+    private static final Pageable CHAT_PAGE = PageRequest.of(0, 31);
+    private static final Pageable BATCH_PAGE = PageRequest.of(0, 500);
+
+    record BenchmarkQuery(String name, Supplier<Object> call) {
+    }
+
+    // 기록이 가장 많은 사용자와 그 사용자의 가장 큰 폴더, 채팅방
+    record Target(Long userId, Long folderId, String folderTitle, Long chatRoomId, Long recordId,
+                  Long middleRecordId, Keyword keyword, List<Long> recordIdList) {
+    }
+
+    record Result(String query, long scale, int rows, double mean, double p50, double p95, double p99) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(QueryBenchmark.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "spring.config.name=query-benchmark", // application.yml(외부 연동 설정)은 읽지 않음
+                        "spring.datasource.url=" + options.require("url"),
+                        "spring.datasource.username=" + options.get("username", "root"),
+                        "spring.datasource.password=" + options.get("password", ""),
+                        "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false", // 2차 캐시 없이 쿼리 자체를 측정
+                        "spring.jpa.properties.hibernate.jdbc.time_zone=Asia/Seoul",
+                        "logging.level.root=WARN")
+                .run();
+
+        try (context) {
+            new QueryBenchmark().run(context, options);
+        }
+    }
+
+    private void run(ConfigurableApplicationContext context, Options options) throws Exception {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate, options.getLong("seed", 42),
+                options.getInt("max-record-per-user", 5000), options.getDouble("chat-ratio", 0.3));
+        if (options.get("clear", null) != null)
+            generator.clear();
+
+        int warmup = options.getInt("warmup", 10);
+        int iterations = options.getInt("iterations", 50);
+        List<Result> resultList = new ArrayList<>();
+
+        for (String scaleValue : options.get("scales", "1000,100000,1000000").split(",")) {
+            long scale = Long.parseLong(scaleValue.trim());
+            long start = System.currentTimeMillis();
+            long recordCount = generator.fill(scale);
+            // 옵티마이저가 실제 분포로 실행 계획을 세우도록 통계 갱신
+            jdbcTemplate.execute("ANALYZE TABLE user, folder, record, analysis, ability, chat_room, chat");
+            System.out.printf("%n== %,d records (generated in %.1fs)%n", recordCount, (System.currentTimeMillis() - start) / 1000.0);
+
+            Target target = findTarget(jdbcTemplate);
+            for (BenchmarkQuery query : queryList(context, entityManager, target)) {
+                Result result = measure(transactionTemplate, entityManager, query, scale, warmup, iterations);
+                resultList.add(result);
+                System.out.printf("%-62s rows %6d  mean %8.2f  p50 %8.2f  p95 %8.2f  p99 %8.2f ms%n",
+                        result.query(), result.rows(), result.mean(), result.p50(), result.p95(), result.p99());
+            }
+        }
+
+        printComparison(resultList);
+        writeReport(Path.of(options.get("report-dir", "build/results/dataset")), resultList);
+    }
+
+    private List<BenchmarkQuery> queryList(ConfigurableApplicationContext context, EntityManager entityManager, Target target) {
+        RecordRepository recordRepository = context.getBean(RecordRepository.class);
+        AbilityRepository abilityRepository = context.getBean(AbilityRepository.class);
+        ChatRepository chatRepository = context.getBean(ChatRepository.class);
+        FolderRepository folderRepository = context.getBean(FolderRepository.class);
+        Supplier<User> user = () -> entityManager.getReference(User.class, target.userId());
+        Supplier<ChatRoom> chatRoom = () -> entityManager.getReference(ChatRoom.class, target.chatRoomId());
+
+        return List.of(
+                new BenchmarkQuery("RecordRepository.findRecords",
+                        () -> recordRepository.findRecords(user.get(), 0L, RECORD_PAGE)),
+                new BenchmarkQuery("RecordRepository.findRecords (lastRecordId = 중간)",
+                        () -> recordRepository.findRecords(user.get(), target.middleRecordId(), RECORD_PAGE)),
+                new BenchmarkQuery("RecordRepository.findRecordsByFolder",
+                        () -> recordRepository.findRecordsByFolder(
+                                entityManager.getReference(Folder.class, target.folderId()),
+                                user.get(), 0L, RECORD_PAGE)),
+                new BenchmarkQuery("RecordRepository.findRecordsByKeyword",
+                        () -> recordRepository.findRecordsByKeyword(target.keyword(), user.get(), 0L, RECORD_PAGE)),
+                new BenchmarkQuery("RecordRepository.findRecordsOrderByCreatedAt",
+                        () -> recordRepository.findRecordsOrderByCreatedAt(user.get(), PageRequest.of(0, 6, Sort.by("recordId").descending()))),
+                new BenchmarkQuery("RecordRepository.findRecordById",
+                        () -> recordRepository.findRecordById(target.recordId())),
+                new BenchmarkQuery("RecordRepository.streamRecordExportList",
+                        () -> recordRepository.streamRecordExportList(target.userId())),
+                new BenchmarkQuery("RecordRepository.findRecordIdListByUserId",
+                        () -> recordRepository.findRecordIdListByUserId(target.userId(), BATCH_PAGE)),
+                new BenchmarkQuery("RecordRepository.findRecordIdListByFolderId",
+                        () -> recordRepository.findRecordIdListByFolderId(target.folderId(), BATCH_PAGE)),
+                new BenchmarkQuery("RecordRepository.findOrphanTmpRecordIdList",
+                        () -> recordRepository.findOrphanTmpRecordIdList(0L, LocalDateTime.now().minusDays(7), BATCH_PAGE)),
+                new BenchmarkQuery("RecordRepository.findChatRoomIdListByRecordIdList",
+                        () -> recordRepository.findChatRoomIdListByRecordIdList(target.recordIdList())),
+
+                new BenchmarkQuery("AbilityRepository.findKeywordStateDtoList",
+                        () -> abilityRepository.findKeywordStateDtoList(user.get())),
+                new BenchmarkQuery("AbilityRepository.getKeywordList",
+                        () -> abilityRepository.getKeywordList(user.get())),
+                new BenchmarkQuery("AbilityRepository.findAbilityIdListByUserId",
+                        () -> abilityRepository.findAbilityIdListByUserId(target.userId(), BATCH_PAGE)),
+                new BenchmarkQuery("AbilityRepository.findAbilityIdListByFolderId",
+                        () -> abilityRepository.findAbilityIdListByFolderId(target.folderId(), BATCH_PAGE)),
+
+                new BenchmarkQuery("ChatRepository.findByChatRoomOrderByChatId",
+                        () -> chatRepository.findByChatRoomOrderByChatId(chatRoom.get())),
+                new BenchmarkQuery("ChatRepository.findChatsAfter",
+                        () -> chatRepository.findChatsAfter(chatRoom.get(), 0L)),
+                new BenchmarkQuery("ChatRepository.findChatsBefore",
+                        () -> chatRepository.findChatsBefore(chatRoom.get(), 0L, CHAT_PAGE)),
+                new BenchmarkQuery("ChatRepository.countByChatRoom",
+                        () -> chatRepository.countByChatRoom(chatRoom.get())),
+                new BenchmarkQuery("ChatRepository.findChatIdListByUserId",
+                        () -> chatRepository.findChatIdListByUserId(target.userId(), BATCH_PAGE)),
+                new BenchmarkQuery("ChatRepository.findChatIdListByFolderId",
+                        () -> chatRepository.findChatIdListByFolderId(target.folderId(), BATCH_PAGE)),
+
+                new BenchmarkQuery("FolderRepository.findFolderDtoList",
+                        () -> folderRepository.findFolderDtoList(user.get())),
+                new BenchmarkQuery("FolderRepository.findFolderByTitle",
+                        () -> folderRepository.findFolderByTitle(target.folderTitle(), user.get())),
+                new BenchmarkQuery("FolderRepository.existsByTitleAndUser",
+                        () -> folderRepository.existsByTitleAndUser(target.folderTitle(), user.get())),
+                new BenchmarkQuery("FolderRepository.findDeletedFolderIdList",
+                        () -> folderRepository.findDeletedFolderIdList(PageRequest.of(0, 50))),
+                new BenchmarkQuery("FolderRepository.findFolderIdListByUserId",
+                        () -> folderRepository.findFolderIdListByUserId(target.userId(), BATCH_PAGE)),
+                new BenchmarkQuery("FolderRepository.findMaxFolderId",
+                        folderRepository::findMaxFolderId)
+        );
+    }
+
+    /*
+     * 쿼리마다 새 읽기 전용 트랜잭션에서 실행하고, 결과를 끝까지 읽는 시간까지 측정
+     * 1차 캐시 재사용을 막기 위해 실행 전 영속성 컨텍스트를 비움
+     */
+    private Result measure(TransactionTemplate transactionTemplate, EntityManager entityManager,
+                           BenchmarkQuery query, long scale, int warmup, int iterations) {
+        long[] elapsedList = new long[iterations];
+        int rows = 0;
+        for (int i = -warmup; i < iterations; i++) {
+            long[] measured = transactionTemplate.execute(status -> {
+                entityManager.clear();
+                long start = System.nanoTime();
+                int count = consume(query.call().get());
+                return new long[]{System.nanoTime() - start, count};
+            });
+            if (i >= 0) {
+                elapsedList[i] = measured[0];
+                rows = (int) measured[1];
+            }
+        }
+
+        Arrays.sort(elapsedList);
+        double mean = Arrays.stream(elapsedList).average().orElse(0) / 1_000_000.0;
+        return new Result(query.name(), scale, rows, mean,
+                percentile(elapsedList, 50), percentile(elapsedList, 95), percentile(elapsedList, 99));
+    }
+
+    private int consume(Object result) {
+        if (result instanceof Collection<?> collection)
+            return collection.size();
+        if (result instanceof Optional<?> optional)
+            return optional.isPresent() ? 1 : 0;
+        if (result instanceof Stream<?> stream) {
+            try (stream) {
+                return (int) stream.count();
+            }
+        }
+        return result == null ? 0 : 1;
+    }
+
+    private double percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    private Target findTarget(JdbcTemplate jdbcTemplate) {
+        Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM user WHERE provider_id = ? " +
+                "ORDER BY record_count DESC, user_id LIMIT 1", Long.class, DatasetGenerator.PROVIDER_ID);
+        Map<String, Object> folder = jdbcTemplate.queryForMap("SELECT folder_id, title FROM folder WHERE user_id = ? " +
+                "ORDER BY record_count DESC, folder_id LIMIT 1", userId);
+        Long chatRoomId = jdbcTemplate.queryForObject("SELECT cr.chat_room_id FROM chat_room cr " +
+                "JOIN chat c ON c.chat_room_id = cr.chat_room_id WHERE cr.user_id = ? " +
+                "GROUP BY cr.chat_room_id ORDER BY COUNT(*) DESC, cr.chat_room_id LIMIT 1", Long.class, userId);
+        List<Long> recordIdList = jdbcTemplate.queryForList("SELECT record_id FROM record WHERE user_id = ? AND folder_id IS NOT NULL " +
+                "ORDER BY record_id DESC LIMIT 500", Long.class, userId);
+        Long middleRecordId = jdbcTemplate.queryForObject("SELECT record_id FROM record WHERE user_id = ? AND folder_id IS NOT NULL " +
+                "ORDER BY record_id LIMIT 1 OFFSET ?", Long.class, userId,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) / 2 FROM record WHERE user_id = ? AND folder_id IS NOT NULL", Integer.class, userId));
+        String keyword = jdbcTemplate.queryForObject("SELECT keyword FROM ability WHERE user_id = ? " +
+                "GROUP BY keyword ORDER BY COUNT(*) DESC, keyword LIMIT 1", String.class, userId);
+
+        return new Target(userId, ((Number) folder.get("folder_id")).longValue(), (String) folder.get("title"),
+                chatRoomId, recordIdList.get(0), middleRecordId, Keyword.valueOf(keyword), recordIdList);
+    }
+
+    // 쿼리별로 규모에 따른 p50, p95 변화를 한 줄로 출력
+    private void printComparison(List<Result> resultList) {
+        Map<String, List<Result>> resultMap = new LinkedHashMap<>();
+        for (Result result : resultList)
+            resultMap.computeIfAbsent(result.query(), key -> new ArrayList<>()).add(result);
+
+        System.out.printf("%n== p50 / p95 (ms) by scale%n");
+        for (Map.Entry<String, List<Result>> entry : resultMap.entrySet()) {
+            StringBuilder line = new StringBuilder(String.format("%-62s", entry.getKey()));
+            for (Result result : entry.getValue())
+                line.append(String.format("  %,d: %.2f / %.2f", result.scale(), result.p50(), result.p95()));
+            System.out.println(line);
+        }
+    }
+
+    private void writeReport(Path reportDir, List<Result> resultList) throws Exception {
+        Files.createDirectories(reportDir);
+        Path reportPath = reportDir.resolve("query-benchmark.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), resultList);
+        System.out.println("report: " + reportPath.toAbsolutePath());
+    }
+}
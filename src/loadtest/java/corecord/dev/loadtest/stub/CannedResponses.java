@@ -0,0 +1,70 @@
+package corecord.dev.loadtest.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/*
+ * 요청 본문에 일치하는 규칙의 고정 응답 (stub-responses.properties 형식)
+ */
+public class CannedResponses {
+
+    private static final String DEFAULT_RESOURCE = "stub-responses.properties";
+
+    private record Rule(int order, Pattern match, String response) {
+    }
+
+    private final List<Rule> ruleList;
+
+    private CannedResponses(List<Rule> ruleList) {
+        this.ruleList = ruleList;
+    }
+
+    // path가 없으면 기본 규칙(classpath)을 사용
+    public static CannedResponses load(String path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = path == null ? openDefault() : Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        List<Rule> ruleList = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith("rule.") || !key.endsWith(".match"))
+                continue;
+
+            String prefix = key.substring(0, key.length() - ".match".length());
+            String response = properties.getProperty(prefix + ".response");
+            if (response == null)
+                throw new IllegalArgumentException(prefix + ".response가 없습니다.");
+
+            int order = Integer.parseInt(prefix.substring("rule.".length()));
+            ruleList.add(new Rule(order, Pattern.compile(properties.getProperty(key), Pattern.DOTALL), response));
+        }
+        ruleList.sort(Comparator.comparingInt(Rule::order));
+        return new CannedResponses(List.copyOf(ruleList));
+    }
+
+    public String find(String requestBody) {
+        for (Rule rule : ruleList) {
+            if (rule.match().matcher(requestBody).find())
+                return rule.response();
+        }
+        return "";
+    }
+
+    private static Reader openDefault() {
+        InputStream inputStream = CannedResponses.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE);
+        if (inputStream == null)
+            throw new IllegalStateException(DEFAULT_RESOURCE + "를 찾을 수 없습니다.");
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+}
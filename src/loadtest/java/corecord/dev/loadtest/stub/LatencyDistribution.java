@@ -0,0 +1,37 @@
+package corecord.dev.loadtest.stub;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 스텁 응답 지연 분포 (ms)
+ * fixed:500, uniform:200:1500, lognormal:<p50>:<p99>
+ */
+public interface LatencyDistribution {
+
+    // 정규분포 99 백분위수의 z값
+    double Z_99 = 2.3263;
+
+    long sampleMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        switch (parts[0]) {
+            case "fixed" -> {
+                long millis = Long.parseLong(parts[1]);
+                return () -> millis;
+            }
+            case "uniform" -> {
+                long min = Long.parseLong(parts[1]);
+                long max = Long.parseLong(parts[2]);
+                return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal" -> {
+                // p50 = e^mu, p99 = e^(mu + Z_99 * sigma)
+                double mu = Math.log(Double.parseDouble(parts[1]));
+                double sigma = (Math.log(Double.parseDouble(parts[2])) - mu) / Z_99;
+                return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 지연 분포: " + spec);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package corecord.dev.loadtest.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import corecord.dev.loadtest.Options;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * ClovaService(Clova Studio chat-completions)와 OpenAiChatModel(OpenAI /v1/chat/completions)을 흉내 내는 로컬 LLM 스텁 서버
+ * 실행: ./gradlew llmStub -Pargs="--port=8090 --latency=lognormal:800:4000 --error-rate=0.01"
+ *
+ * --port            기본 8090
+ * --latency         첫 응답(스트리밍은 첫 토큰)까지 지연 분포, fixed:<ms> | uniform:<min>:<max> | lognormal:<p50>:<p99> (기본 lognormal:800:4000)
+ * --chunk-delay     스트리밍 토큰 간 지연 (ms, 기본 30)
+ * --chunk-size      스트리밍 토큰 하나의 글자 수 (기본 4)
+ * --error-rate      오류 응답 비율 (기본 0)
+ * --error-statuses  오류 응답 상태 코드, 쉼표 구분 (기본 429,500,503)
+ * --timeout-rate    응답하지 않고 --hang 동안 붙잡아 둘 비율 (기본 0)
+ * --hang            타임아웃 주입 시 대기 시간 (ms, 기본 120000)
+ * --responses       응답 규칙 파일 (stub-responses.properties 형식)
+ */
+public class LlmStubServer {
+
+    private static final String OPENAI_PATH = "/v1/chat/completions";
+    private static final String CLOVA_PATH = "/chat-completions/"; // 예: /testapp/v1/chat-completions/HCX-003
+    private static final String STATS_PATH = "/stub/stats";
+
+    private enum Protocol { OPENAI, CLOVA }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyDistribution latency;
+    private final CannedResponses cannedResponses;
+    private final long chunkDelay;
+    private final int chunkSize;
+    private final double errorRate;
+    private final int[] errorStatuses;
+    private final double timeoutRate;
+    private final long hang;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+
+    public LlmStubServer(Options options) throws IOException {
+        this.latency = LatencyDistribution.parse(options.get("latency", "lognormal:800:4000"));
+        this.cannedResponses = CannedResponses.load(options.get("responses", null));
+        this.chunkDelay = options.getLong("chunk-delay", 30);
+        this.chunkSize = options.getInt("chunk-size", 4);
+        this.errorRate = options.getDouble("error-rate", 0);
+        this.errorStatuses = Arrays.stream(options.get("error-statuses", "429,500,503").split(","))
+                .mapToInt(status -> Integer.parseInt(status.trim()))
+                .toArray();
+        this.timeoutRate = options.getDouble("timeout-rate", 0);
+        this.hang = options.getLong("hang", 120000);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        int port = options.getInt("port", 8090);
+        LlmStubServer stubServer = new LlmStubServer(options);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/", stubServer::handle);
+        // 지연 동안 스레드를 붙잡고 있으므로 요청마다 가상 스레드 사용
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        System.out.printf("LLM stub listening on http://localhost:%d (OpenAI: %s, Clova: *%s*, stats: %s)%n",
+                port, OPENAI_PATH, CLOVA_PATH, STATS_PATH);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (STATS_PATH.equals(path)) {
+                sendJson(exchange, 200, stats());
+                return;
+            }
+
+            Protocol protocol = path.equals(OPENAI_PATH) ? Protocol.OPENAI
+                    : path.contains(CLOVA_PATH) ? Protocol.CLOVA
+                    : null;
+            if (protocol == null || !"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            requestCount.incrementAndGet();
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            double random = ThreadLocalRandom.current().nextDouble();
+
+            // 타임아웃 주입: 응답 없이 연결만 유지
+            if (random < timeoutRate) {
+                timeoutCount.incrementAndGet();
+                Thread.sleep(hang);
+                return;
+            }
+
+            Thread.sleep(latency.sampleMillis());
+
+            if (random < timeoutRate + errorRate) {
+                errorCount.incrementAndGet();
+                int status = errorStatuses[ThreadLocalRandom.current().nextInt(errorStatuses.length)];
+                sendJson(exchange, status, errorBody(protocol, status));
+                return;
+            }
+
+            String content = cannedResponses.find(requestBody);
+            int inputTokens = estimateTokens(requestBody);
+            if (protocol == Protocol.OPENAI) {
+                JsonNode request = objectMapper.readTree(requestBody);
+                String model = request.path("model").asText("gpt-4o-mini");
+                if (request.path("stream").asBoolean(false))
+                    streamOpenAi(exchange, model, content, inputTokens);
+                else
+                    sendJson(exchange, 200, openAiCompletion(model, content, inputTokens));
+            } else {
+                String accept = exchange.getRequestHeaders().getFirst("Accept");
+                if (accept != null && accept.contains("text/event-stream"))
+                    streamClova(exchange, content, inputTokens);
+                else
+                    sendJson(exchange, 200, clovaCompletion(content, inputTokens));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ObjectNode openAiCompletion(String model, String content, int inputTokens) {
+        ObjectNode body = openAiBase("chatcmpl-" + UUID.randomUUID(), model, "chat.completion");
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+
+        int outputTokens = estimateTokens(content);
+        body.putObject("usage")
+                .put("prompt_tokens", inputTokens)
+                .put("completion_tokens", outputTokens)
+                .put("total_tokens", inputTokens + outputTokens);
+        return body;
+    }
+
+    private void streamOpenAi(HttpExchange exchange, String model, String content, int inputTokens) throws IOException, InterruptedException {
+        OutputStream outputStream = startEventStream(exchange);
+        String id = "chatcmpl-" + UUID.randomUUID(); // 청크는 같은 id를 공유
+        for (String chunk : split(content)) {
+            ObjectNode body = openAiBase(id, model, "chat.completion.chunk");
+            ObjectNode choice = body.putArray("choices").addObject();
+            choice.put("index", 0);
+            choice.putObject("delta").put("content", chunk);
+            choice.putNull("finish_reason");
+            writeEvent(outputStream, null, body.toString());
+            Thread.sleep(chunkDelay);
+        }
+
+        ObjectNode last = openAiBase(id, model, "chat.completion.chunk");
+        ObjectNode choice = last.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("delta");
+        choice.put("finish_reason", "stop");
+        int outputTokens = estimateTokens(content);
+        last.putObject("usage")
+                .put("prompt_tokens", inputTokens)
+                .put("completion_tokens", outputTokens)
+                .put("total_tokens", inputTokens + outputTokens);
+        writeEvent(outputStream, null, last.toString());
+        writeEvent(outputStream, null, "[DONE]");
+    }
+
+    private ObjectNode openAiBase(String id, String model, String object) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("id", id);
+        body.put("object", object);
+        body.put("created", System.currentTimeMillis() / 1000);
+        body.put("model", model);
+        return body;
+    }
+
+    private ObjectNode clovaCompletion(String content, int inputTokens) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("status").put("code", "20000").put("message", "OK");
+        ObjectNode result = body.putObject("result");
+        result.putObject("message").put("role", "assistant").put("content", content);
+        result.put("inputLength", inputTokens);
+        result.put("outputLength", estimateTokens(content));
+        result.put("stopReason", "stop_before");
+        result.put("seed", 0);
+        result.putArray("aiFilter");
+        return body;
+    }
+
+    private void streamClova(HttpExchange exchange, String content, int inputTokens) throws IOException, InterruptedException {
+        OutputStream outputStream = startEventStream(exchange);
+        String id = UUID.randomUUID().toString();
+        int outputLength = 0;
+        for (String chunk : split(content)) {
+            ObjectNode data = clovaEvent(chunk, inputTokens, ++outputLength);
+            data.putNull("stopReason");
+            writeEvent(outputStream, "token", id, data.toString());
+            Thread.sleep(chunkDelay);
+        }
+
+        ObjectNode result = clovaEvent(content, inputTokens, outputLength);
+        result.put("stopReason", "stop_before");
+        writeEvent(outputStream, "result", id, result.toString());
+    }
+
+    private ObjectNode clovaEvent(String content, int inputTokens, int outputLength) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.putObject("message").put("role", "assistant").put("content", content);
+        data.put("index", 0);
+        data.put("inputLength", inputTokens);
+        data.put("outputLength", outputLength);
+        return data;
+    }
+
+    private ObjectNode errorBody(Protocol protocol, int status) {
+        ObjectNode body = objectMapper.createObjectNode();
+        if (protocol == Protocol.OPENAI) {
+            body.putObject("error")
+                    .put("message", "stub injected error")
+                    .put("type", status == 429 ? "rate_limit_exceeded" : "server_error");
+        } else {
+            body.putObject("status")
+                    .put("code", String.valueOf(status * 100))
+                    .put("message", "stub injected error");
+        }
+        return body;
+    }
+
+    private ObjectNode stats() {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("requests", requestCount.get());
+        body.put("injectedErrors", errorCount.get());
+        body.put("injectedTimeouts", timeoutCount.get());
+        return body;
+    }
+
+    private OutputStream startEventStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0); // chunked
+        return exchange.getResponseBody();
+    }
+
+    private void writeEvent(OutputStream outputStream, String id, String data) throws IOException {
+        writeEvent(outputStream, null, id, data);
+    }
+
+    private void writeEvent(OutputStream outputStream, String event, String id, String data) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        if (id != null)
+            builder.append("id: ").append(id).append('\n');
+        if (event != null)
+            builder.append("event: ").append(event).append('\n');
+        builder.append("data: ").append(data).append("\n\n");
+        outputStream.write(builder.toString().getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    private void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private String[] split(String content) {
+        int count = Math.max(1, (content.length() + chunkSize - 1) / chunkSize);
+        String[] chunks = new String[count];
+        for (int i = 0; i < count; i++)
+            chunks[i] = content.substring(Math.min(i * chunkSize, content.length()), Math.min((i + 1) * chunkSize, content.length()));
+        return chunks;
+    }
+
+    // 실제 토크나이저 대신 대략 4바이트당 1토큰으로 추정
+    private int estimateTokens(String text) {
+        return Math.max(1, text.getBytes(StandardCharsets.UTF_8).length / 4);
+    }
+}
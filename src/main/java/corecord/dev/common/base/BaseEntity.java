@@ -23,8 +23,13 @@ public class BaseEntity {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
     public String getCreatedAtFormatted() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        return createdAt.format(formatter);
+        return formatDate(createdAt);
+    }
+
+    public static String formatDate(LocalDateTime dateTime) {
+        return dateTime.format(FORMATTER);
     }
 }
\ No newline at end of file
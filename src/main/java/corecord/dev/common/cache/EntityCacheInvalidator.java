@@ -0,0 +1,152 @@
+package corecord.dev.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/*
+ * Hibernate 2차 캐시(User, Folder) 무효화
+ * 2차 캐시는 서버별 로컬 캐시(Caffeine)이므로, 엔티티 수정, 삭제 커밋 후 Redis pub/sub으로 다른 서버의 캐시 항목을 무효화
+ * 네이티브 쿼리로 변경한 엔티티(record_count)는 evict()로 직접 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidator implements MessageListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String INVALIDATION_CHANNEL = "entityCache:invalidation";
+    private static final String ALL = "*";
+
+    /*
+     * record_count를 증감하는 네이티브 쿼리의 동기화 공간
+     * 지정하지 않으면 Hibernate가 모든 엔티티의 2차 캐시를 비우므로, 어떤 엔티티 테이블과도 겹치지 않는 이름으로 지정하고
+     * 변경된 항목은 evict()로 무효화
+     */
+    public static final String RECORD_COUNT_SPACE = "record_count";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private Cache cache;
+
+    @PostConstruct
+    void init() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        cache = sessionFactory.getCache();
+
+        EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /*
+     * 트랜잭션 커밋 이후 엔티티 캐시 항목을 무효화하고 다른 서버에 무효화 메시지 발행
+     * @param entityClass
+     * @param id
+     */
+    public void evict(Class<?> entityClass, Long id) {
+        afterCommit(() -> evictAndPublish(entityClass.getName(), id.toString()));
+    }
+
+    // 범위 단위 네이티브 쿼리(record_count 보정 등)로 변경된 경우 엔티티 캐시 전체를 무효화
+    public void evictAll(Class<?> entityClass) {
+        afterCommit(() -> evictAndPublish(entityClass.getName(), ALL));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictAndPublish(String entityName, String id) {
+        evictLocal(entityName, id);
+        publish(entityName, id);
+    }
+
+    private void evictLocal(String entityName, String id) {
+        if (ALL.equals(id))
+            cache.evictEntityData(entityName);
+        else
+            cache.evictEntityData(entityName, Long.parseLong(id));
+    }
+
+    private void publish(String entityName, String id) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + entityName + ":" + id);
+        } catch (RuntimeException e) {
+            // 발행 실패 시 다른 서버의 캐시는 만료 시간 이후 갱신
+            log.warn("엔티티 캐시 무효화 메시지 발행 실패 entity: {}, id: {}", entityName, id, e);
+        }
+    }
+
+    // 커밋된 수정, 삭제는 로컬 캐시에 이미 반영되었으므로 다른 서버에만 전파
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister()))
+            publish(event.getPersister().getEntityName(), event.getId().toString());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister()))
+            publish(event.getPersister().getEntityName(), event.getId().toString());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // 2차 캐시를 사용하는 엔티티만 처리
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (body.length != 3 || body[0].equals(nodeId))
+            return;
+
+        evictLocal(body[1], body[2]);
+    }
+}
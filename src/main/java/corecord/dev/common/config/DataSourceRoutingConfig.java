@@ -0,0 +1,90 @@
+package corecord.dev.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import corecord.dev.common.datasource.ReadYourWritesTracker;
+import corecord.dev.common.datasource.ReplicaLagMonitor;
+import corecord.dev.common.datasource.ReplicaRoutingDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/*
+ * primary, replica 커넥션 풀과 readOnly 트랜잭션 라우팅 (datasource.replica.enabled=true인 경우)
+ * - primary: spring.datasource.*, replica: datasource.replica.*
+ * - 풀 지표는 hikaricp_connections_*{pool="primary|replica"}로 구분
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.maximum-pool-size}")
+    private int replicaMaximumPoolSize;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaUrl);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        dataSource.setMaximumPoolSize(replicaMaximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /*
+     * OSIV로 세션이 요청 내내 열려 있으므로, 기본값(커넥션을 세션 종료까지 유지)이면
+     * 요청의 첫 트랜잭션이 고른 커넥션을 이후 트랜잭션도 그대로 사용함 -> 트랜잭션마다 커넥션을 반납
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
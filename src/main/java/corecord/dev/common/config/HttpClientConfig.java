@@ -0,0 +1,111 @@
+package corecord.dev.common.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * Clova(WebClient), OpenAI(Spring AI RestClient) 호출이 함께 쓰는 외부 HTTP 클라이언트
+ * - keep-alive 커넥션 풀, connect/read/response 타임아웃, HTTP/2(ALPN), gzip
+ * - Reactor Netty 지표(reactor.netty.connection.provider.*, reactor.netty.http.client.*)로
+ *   커넥션 대기(pending.acquire), connect, 응답 헤더까지(response.time), 본문 수신(data.received.time) 시간을 나누어 확인
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final String POOL_NAME = "outbound";
+
+    @Value("${http-client.max-connections}")
+    private int maxConnections;
+
+    @Value("${http-client.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${http-client.pending-acquire-timeout}")
+    private long pendingAcquireTimeout;
+
+    @Value("${http-client.max-idle-time}")
+    private long maxIdleTime;
+
+    @Value("${http-client.max-life-time}")
+    private long maxLifeTime;
+
+    @Value("${http-client.evict-interval}")
+    private long evictInterval;
+
+    @Value("${http-client.connect-timeout}")
+    private int connectTimeout;
+
+    @Value("${http-client.read-timeout}")
+    private long readTimeout;
+
+    @Value("${http-client.response-timeout}")
+    private long responseTimeout;
+
+    @Value("${http-client.http2}")
+    private boolean http2;
+
+    @Value("${http-client.compress}")
+    private boolean compress;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(maxIdleTime))
+                .maxLifeTime(Duration.ofMillis(maxLifeTime))
+                .evictInBackground(Duration.ofMillis(evictInterval))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient outboundHttpClient(ConnectionProvider outboundConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeout))
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS)))
+                .compress(compress)
+                // 호출하는 URI가 고정되어 있어 URI를 그대로 태그로 사용
+                .metrics(true, Function.identity());
+
+        // 두 API 모두 https이므로 TLS ALPN으로 HTTP/2를 협상하고, 지원하지 않으면 HTTP/1.1 사용
+        if (http2)
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        return httpClient;
+    }
+
+    @Bean
+    public WebClientCustomizer outboundWebClientCustomizer(HttpClient outboundHttpClient) {
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(outboundHttpClient));
+    }
+
+    // Spring AI OpenAI 클라이언트는 Boot의 RestClient.Builder를 사용하므로 같은 HttpClient로 요청하도록 설정
+    @Bean
+    public RestClientCustomizer outboundRestClientCustomizer(HttpClient outboundHttpClient) {
+        return builder -> {
+            ReactorNettyClientRequestFactory requestFactory = new ReactorNettyClientRequestFactory(outboundHttpClient);
+            // 요청 팩토리의 기본 타임아웃(exchange 5초, read 10초)이 LLM 응답 시간보다 짧으므로 response-timeout에 맞춤
+            requestFactory.setExchangeTimeout(Duration.ofMillis(responseTimeout));
+            requestFactory.setReadTimeout(Duration.ofMillis(responseTimeout));
+            builder.requestFactory(requestFactory);
+        };
+    }
+}
@@ -9,14 +9,19 @@ import corecord.dev.domain.auth.handler.OAuthLoginSuccessHandler;
 import corecord.dev.domain.auth.jwt.JwtFilter;
 import corecord.dev.domain.auth.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.ExceptionTranslationFilter;
@@ -38,6 +43,11 @@ public class SecurityConfig {
     private final OAuthLoginFailureHandler oAuthLoginFailureHandler;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
+    @Value("${prometheus.scrape.username}")
+    private String scrapeUsername;
+
+    @Value("${prometheus.scrape.password}")
+    private String scrapePassword;
 
     private final String[] swaggerUrls = {"/swagger-ui/**", "/v3/**"};
     private final String[] authUrls = {"/", "/api/users/register", "/oauth2/authorization/kakao", "/actuator/health", "/api/token/**", "/api/token"};
@@ -76,6 +86,33 @@ public class SecurityConfig {
         };
     }
 
+    /*
+     * actuator 요청은 별도 필터 체인에서 처리
+     * health는 공개하고, 나머지(prometheus)는 수집기 계정의 HTTP Basic 인증을 요구
+     * 비밀번호는 {bcrypt}해시 또는 {noop}평문 형식
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity httpSecurity) throws Exception {
+        httpSecurity
+                .securityMatcher("/actuator/**")
+                .formLogin(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(Customizer.withDefaults())
+                .userDetailsService(new InMemoryUserDetailsManager(User.withUsername(scrapeUsername)
+                        .password(scrapePassword)
+                        .roles("METRICS")
+                        .build()))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorize ->
+                        authorize
+                                .requestMatchers("/actuator/health").permitAll()
+                                .anyRequest().hasRole("METRICS")
+                );
+        return httpSecurity.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity, AuthenticationEntryPoint authenticationEntryPoint) throws Exception {
         httpSecurity
@@ -0,0 +1,77 @@
+package corecord.dev.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/*
+ * 사용자가 쓰기 트랜잭션을 커밋한 직후 일정 시간(sticky-window) 동안 해당 사용자의 조회를 primary로 보냄
+ * 다음 요청이 다른 서버로 가도 자신이 쓴 데이터를 읽을 수 있도록 Redis에 기록
+ * 인증 정보가 없는 스케줄러, 비동기 작업은 대상이 아님
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "readYourWrites:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${datasource.replica.sticky-window}")
+    private Duration stickyWindow;
+
+    // 쓰기 트랜잭션이 커밋되면 사용자를 sticky 상태로 기록
+    public void trackWrite() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", stickyWindow);
+                } catch (RuntimeException e) {
+                    log.warn("read-your-writes 기록 실패 userId: {}", userId, e);
+                }
+            }
+        });
+    }
+
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null)
+            return false;
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 primary에서 조회
+            log.warn("read-your-writes 조회 실패 userId: {}", userId, e);
+            return true;
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null)
+            return null;
+
+        try {
+            return Long.valueOf(authentication.getPrincipal().toString());
+        } catch (NumberFormatException e) {
+            return null; // anonymousUser
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package corecord.dev.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * replica 복제 지연(Seconds_Behind_Source)을 주기적으로 확인
+ * 지연이 max-lag를 넘거나, 복제가 멈췄거나, replica에 연결할 수 없으면 replica를 사용하지 않음
+ * 다른 스케줄 작업(삭제, 보정 등)에 밀리지 않도록 전용 스레드에서 확인하고,
+ * 마지막 확인이 lag-check-timeout보다 오래되었으면(확인 스레드 정지 등) 사용하지 않음
+ * - datasource.replica.lag: 마지막으로 확인한 지연 시간(s), 확인 불가 시 -1
+ * - datasource.replica.available: replica 사용 여부 (1, 0)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final ThreadPoolTaskScheduler lagCheckScheduler;
+
+    @Value("${datasource.replica.max-lag}")
+    private long maxLag;
+
+    @Value("${datasource.replica.lag-check-interval}")
+    private long lagCheckInterval;
+
+    @Value("${datasource.replica.lag-check-timeout}")
+    private long lagCheckTimeout;
+
+    // 첫 확인 전까지는 primary 사용
+    private volatile boolean available = false;
+    private volatile long lag = -1;
+    private volatile long lastCheckedAt = 0;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lag)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+                .register(meterRegistry);
+
+        // TaskScheduler 타입 빈으로 등록하면 Spring 기본 taskScheduler가 생성되지 않으므로 내부에서 관리
+        this.lagCheckScheduler = new ThreadPoolTaskScheduler();
+        lagCheckScheduler.setPoolSize(1);
+        lagCheckScheduler.setThreadNamePrefix("replica-lag-");
+        lagCheckScheduler.initialize();
+    }
+
+    @PostConstruct
+    public void start() {
+        lagCheckScheduler.scheduleWithFixedDelay(this::check, Duration.ofMillis(lagCheckInterval));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lagCheckScheduler.shutdown();
+    }
+
+    public boolean isAvailable() {
+        return available && System.currentTimeMillis() - lastCheckedAt <= lagCheckTimeout;
+    }
+
+    public void check() {
+        Long currentLag = null;
+        try {
+            currentLag = findLag();
+        } catch (DataAccessException e) {
+            log.warn("replica 상태 확인 실패", e);
+        }
+
+        boolean currentAvailable = currentLag != null && currentLag <= maxLag;
+        if (currentAvailable != available)
+            log.warn("replica 사용 여부 변경: {} -> {} (lag: {}s)", available, currentAvailable, currentLag);
+
+        lag = currentLag == null ? -1 : currentLag;
+        available = currentAvailable;
+        lastCheckedAt = System.currentTimeMillis();
+    }
+
+    // 복제 중이 아니거나 SQL 스레드가 멈춘 경우 null
+    private Long findLag() {
+        List<Long> lagList = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+            long secondsBehindSource = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : secondsBehindSource;
+        });
+        return lagList.isEmpty() ? null : lagList.get(0);
+    }
+}
@@ -0,0 +1,34 @@
+package corecord.dev.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * readOnly 트랜잭션은 replica, 나머지는 primary로 커넥션을 라우팅
+ * 아래의 경우 readOnly 트랜잭션도 primary로 보냄
+ * - replica 복제 지연이 허용치를 넘었거나 상태를 확인할 수 없는 경우 (ReplicaLagMonitor)
+ * - 사용자가 방금 쓰기 트랜잭션을 커밋한 경우 (ReadYourWritesTracker)
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.trackWrite();
+            return PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isAvailable() || readYourWritesTracker.isSticky())
+            return PRIMARY;
+        return REPLICA;
+    }
+}
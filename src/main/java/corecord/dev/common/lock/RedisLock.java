@@ -0,0 +1,48 @@
+package corecord.dev.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * 여러 서버 노드 사이에서 사용하는 Redis 기반 분산 락 (SET NX PX)
+ * 락마다 무작위 token을 저장하고, 해제 시 token이 같을 때만 삭제해 만료 후 다른 노드가 잡은 락을 지우지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) " +
+            "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /*
+     * 락 획득을 한 번 시도하고, 성공하면 해제에 필요한 token을 반환
+     * @param key, ttl
+     * @return
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public boolean isLocked(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
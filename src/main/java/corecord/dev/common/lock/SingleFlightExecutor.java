@@ -0,0 +1,176 @@
+package corecord.dev.common.lock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.common.exception.GeneralException;
+import corecord.dev.common.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+ * 같은 자원에 대한 동시 요청을 하나로 합쳐 LLM 호출을 한 번만 수행 (single-flight)
+ * - 같은 노드: 진행 중인 CompletableFuture를 공유
+ * - 다른 노드: Redis 락을 잡은 요청만 실행하고, 나머지는 Redis에 저장된 결과를 기다렸다가 함께 반환
+ * 실행한 요청이 실패하면 결과를 남기지 않으므로, 기다리던 요청 중 하나가 락을 잡아 다시 실행한다.
+ * 자원이 수정되면 evict로 남아 있는 결과를 제거해 수정 전 결과가 반환되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class SingleFlightExecutor {
+
+    private static final String LOCK_PREFIX = "singleFlight:lock:";
+    private static final String RESULT_PREFIX = "singleFlight:result:";
+
+    private final RedisLock redisLock;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration lockTtl;
+    private final Duration resultTtl;
+    private final long waitTimeout;
+    private final long pollInterval;
+
+    private final Map<String, CompletableFuture<Object>> inFlightMap = new ConcurrentHashMap<>();
+
+    public SingleFlightExecutor(RedisLock redisLock, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                @Value("${single-flight.lock-ttl}") long lockTtl,
+                                @Value("${single-flight.result-ttl}") long resultTtl,
+                                @Value("${single-flight.wait-timeout}") long waitTimeout,
+                                @Value("${single-flight.poll-interval}") long pollInterval) {
+        this.redisLock = redisLock;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.lockTtl = Duration.ofMillis(lockTtl);
+        this.resultTtl = Duration.ofMillis(resultTtl);
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /*
+     * key에 대해 진행 중인 요청이 있으면 그 결과를 기다려 반환하고, 없으면 supplier를 실행
+     * @param key 자원 식별자 (ex. analysis:{recordId})
+     * @param type 결과 타입 (Redis에 JSON으로 저장 후 다른 노드에서 역직렬화)
+     * @param supplier 실제 LLM 호출 로직
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Class<T> type, Supplier<T> supplier) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightMap.putIfAbsent(key, future);
+
+        // 같은 노드에서 이미 진행 중인 요청이 있으면 결과를 공유
+        if (inFlight != null)
+            return (T) join(inFlight);
+
+        try {
+            T result = executeAcrossNodes(key, type, supplier);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightMap.remove(key, future);
+        }
+    }
+
+    /*
+     * key에 남아 있는 결과를 제거 (트랜잭션 중이면 커밋 이후)
+     * @param key
+     */
+    public void evict(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.delete(RESULT_PREFIX + key);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.delete(RESULT_PREFIX + key);
+            }
+        });
+    }
+
+    private <T> T executeAcrossNodes(String key, Class<T> type, Supplier<T> supplier) {
+        long deadline = System.currentTimeMillis() + waitTimeout;
+
+        while (true) {
+            // 직전에 끝난 요청의 결과가 남아있으면 그대로 반환
+            Optional<T> result = findResult(key, type);
+            if (result.isPresent())
+                return result.get();
+
+            Optional<String> token = redisLock.tryLock(LOCK_PREFIX + key, lockTtl);
+            if (token.isPresent())
+                return executeWithLock(key, token.get(), supplier);
+
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("single-flight 대기 시간 초과 key: {}", key);
+                throw new GeneralException(ErrorStatus.INTERNAL_SERVER_ERROR);
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    private <T> T executeWithLock(String key, String token, Supplier<T> supplier) {
+        try {
+            T result = supplier.get();
+            saveResult(key, result);
+            return result;
+        } finally {
+            redisLock.unlock(LOCK_PREFIX + key, token);
+        }
+    }
+
+    private <T> Optional<T> findResult(String key, Class<T> type) {
+        String json = redisTemplate.opsForValue().get(RESULT_PREFIX + key);
+        if (json == null)
+            return Optional.empty();
+
+        try {
+            return Optional.of(objectMapper.readValue(json, type));
+        } catch (JsonProcessingException e) {
+            log.warn("single-flight 결과 역직렬화 실패 key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveResult(String key, Object result) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_PREFIX + key, objectMapper.writeValueAsString(result), resultTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("single-flight 결과 직렬화 실패 key: {}", key, e);
+        }
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package corecord.dev.common.metrics;
+
+import corecord.dev.common.base.BaseErrorStatus;
+import corecord.dev.domain.analysis.exception.AnalysisException;
+import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
+import corecord.dev.domain.chat.exception.ChatException;
+import corecord.dev.domain.chat.status.ChatErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ * LLM(Clova, OpenAI) 호출 지표
+ * - llm.request: 호출 시간 (provider, operation, outcome), p99 확인을 위해 히스토그램 발행
+ * - llm.tokens: 사용한 토큰 수 (provider, operation, type=prompt|completion)
+ * - llm.parse.failure: 응답 파싱 실패 수 (provider, operation, error)
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmMetrics {
+
+    public static final String OPENAI = "openai";
+    public static final String CLOVA = "clova";
+
+    public static final String CHAT = "chat";
+    public static final String CHAT_SUMMARY = "chat_summary";
+    public static final String MEMO_SUMMARY = "memo_summary";
+    public static final String ABILITY_ANALYSIS = "ability_analysis";
+
+    private static final Set<BaseErrorStatus> PARSE_ERROR_STATUS_SET = Set.of(
+            ChatErrorStatus.INVALID_CHAT_SUMMARY,
+            ChatErrorStatus.INVALID_CHAT_RESPONSE,
+            AnalysisErrorStatus.INVALID_ABILITY_ANALYSIS);
+
+    private final MeterRegistry meterRegistry;
+
+    /*
+     * LLM 호출 시간을 결과(outcome)와 함께 기록하고 호출 결과를 그대로 반환
+     * @param provider, operation, call
+     * @return
+     */
+    public <T> T record(String provider, String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            BaseErrorStatus errorStatus = errorStatusOf(e);
+            outcome = outcomeOf(e, errorStatus);
+            if (outcome.equals("parse_error"))
+                countParseFailure(provider, operation, errorStatus);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("llm.request")
+                    .description("LLM 호출 시간")
+                    .tag("provider", provider)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordTokens(String provider, String operation, Number promptTokens, Number completionTokens) {
+        if (promptTokens != null)
+            tokenCounter(provider, operation, "prompt").increment(promptTokens.doubleValue());
+        if (completionTokens != null)
+            tokenCounter(provider, operation, "completion").increment(completionTokens.doubleValue());
+    }
+
+    private void countParseFailure(String provider, String operation, BaseErrorStatus errorStatus) {
+        Counter.builder("llm.parse.failure")
+                .description("LLM 응답 파싱 실패 수")
+                .tag("provider", provider)
+                .tag("operation", operation)
+                .tag("error", ((Enum<?>) errorStatus).name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Counter tokenCounter(String provider, String operation, String type) {
+        return Counter.builder("llm.tokens")
+                .description("LLM 호출에 사용한 토큰 수")
+                .tag("provider", provider)
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static BaseErrorStatus errorStatusOf(RuntimeException e) {
+        if (e instanceof ChatException chatException)
+            return chatException.getChatErrorStatus();
+        if (e instanceof AnalysisException analysisException)
+            return analysisException.getAnalysisErrorStatus();
+        return null;
+    }
+
+    private static String outcomeOf(RuntimeException e, BaseErrorStatus errorStatus) {
+        if (PARSE_ERROR_STATUS_SET.contains(errorStatus))
+            return "parse_error";
+        if (errorStatus == ChatErrorStatus.AI_CLIENT_ERROR || e instanceof NonTransientAiException
+                || e instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError())
+            return "client_error";
+        if (errorStatus == ChatErrorStatus.AI_SERVER_ERROR || e instanceof TransientAiException
+                || e instanceof WebClientResponseException)
+            return "server_error";
+        if (isTimeout(e))
+            return "timeout";
+        return "error";
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException)
+                return true;
+        }
+        return false;
+    }
+}
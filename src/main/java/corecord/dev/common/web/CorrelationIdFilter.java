@@ -0,0 +1,53 @@
+package corecord.dev.common.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/*
+ * 요청마다 correlation id를 발급해 로그(MDC requestId), 응답 헤더, 외부 LLM 요청 헤더에 함께 남김
+ * 클라이언트가 X-Request-Id를 보내면 형식이 올바른 경우 그대로 사용
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    /*
+     * 현재 요청의 correlation id를 반환 (요청 스레드 밖의 비동기 작업이면 새로 발급)
+     * @return
+     */
+    public static String currentRequestId() {
+        String requestId = MDC.get(MDC_KEY);
+        return requestId != null ? requestId : UUID.randomUUID().toString();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER_NAME);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches())
+            requestId = UUID.randomUUID().toString();
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER_NAME, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package corecord.dev.common.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/*
+ * 유저별 데이터 버전을 Redis에 관리하고 조회 API의 ETag로 사용
+ * 경험 기록, 폴더, 역량 분석을 변경하는 서비스에서 bump()를 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataVersionManager {
+
+    private static final String KEY_PREFIX = "dataVersion:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /*
+     * 요청의 If-None-Match가 현재 데이터 버전과 같으면 304 응답을 설정하고 true를 반환
+     * 조회 쿼리 실행 전에 호출해야 응답 데이터보다 오래된 ETag가 나가지 않는다.
+     * @param userId
+     * @param webRequest
+     * @return
+     */
+    public boolean checkNotModified(Long userId, ServletWebRequest webRequest) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null)
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+
+        String version = getVersion(userId);
+        if (version == null)
+            return false;
+
+        return webRequest.checkNotModified(userId + "-" + version);
+    }
+
+    /*
+     * 트랜잭션 커밋 이후 유저의 데이터 버전을 증가
+     * 커밋 전에 증가시키면 변경 전 데이터가 새 ETag로 캐시될 수 있다.
+     * @param userId
+     */
+    public void bump(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase(userId);
+            }
+        });
+    }
+
+    private String getVersion(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String version = redisTemplate.opsForValue().get(key);
+            if (version != null)
+                return version;
+
+            // key가 유실되어도 이전 버전과 겹치지 않도록 현재 시각으로 초기화
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 ETag 없이 정상 조회
+            log.warn("데이터 버전 조회 실패 userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    private void increase(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            redisTemplate.opsForValue().increment(key);
+        } catch (RuntimeException e) {
+            log.warn("데이터 버전 증가 실패 userId: {}", userId, e);
+        }
+    }
+}
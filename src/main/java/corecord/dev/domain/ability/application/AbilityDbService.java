@@ -4,9 +4,9 @@ import corecord.dev.domain.ability.domain.dto.response.AbilityResponse;
 import corecord.dev.domain.ability.domain.entity.Ability;
 import corecord.dev.domain.ability.domain.entity.Keyword;
 import corecord.dev.domain.ability.domain.repository.AbilityRepository;
-import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,13 +23,17 @@ public class AbilityDbService {
     }
 
     @Transactional
-    public void deleteAbilityByUserId(Long userId) {
-        abilityRepository.deleteAbilityByUserId(userId);
+    public int deleteAbilityByUserId(Long userId, int batchSize) {
+        List<Long> abilityIdList = abilityRepository.findAbilityIdListByUserId(userId, PageRequest.of(0, batchSize));
+        abilityRepository.deleteAllByIdInBatch(abilityIdList);
+        return abilityIdList.size();
     }
 
     @Transactional
-    public void deleteAbilityByFolder(Folder folder) {
-        abilityRepository.deleteAbilityByFolder(folder);
+    public int deleteAbilityByFolderId(Long folderId, int batchSize) {
+        List<Long> abilityIdList = abilityRepository.findAbilityIdListByFolderId(folderId, PageRequest.of(0, batchSize));
+        abilityRepository.deleteAllByIdInBatch(abilityIdList);
+        return abilityIdList.size();
     }
 
     @Transactional
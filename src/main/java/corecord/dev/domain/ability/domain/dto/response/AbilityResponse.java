@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -14,6 +15,7 @@ public class AbilityResponse {
     @Builder
     @Getter
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class AbilityDto {
         private String keyword;
         private String content;
@@ -3,10 +3,9 @@ package corecord.dev.domain.ability.domain.repository;
 import corecord.dev.domain.ability.domain.dto.response.AbilityResponse;
 import corecord.dev.domain.ability.domain.entity.Ability;
 import corecord.dev.domain.ability.domain.entity.Keyword;
-import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.user.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,17 +23,15 @@ public interface AbilityRepository extends JpaRepository<Ability, Long> {
                 "ORDER BY 3 desc ") // 비율 높은 순 정렬
         List<AbilityResponse.KeywordStateDto> findKeywordStateDtoList(@Param(value = "user") User user);
 
-        @Modifying
-        @Query("DELETE " +
+        @Query("SELECT a.abilityId " +
                 "FROM Ability a " +
-                "WHERE a.user.userId IN :userId")
-        void deleteAbilityByUserId(@Param(value = "userId") Long userId);
+                "WHERE a.user.userId = :userId")
+        List<Long> findAbilityIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
 
-        @Modifying
-        @Query("DELETE " +
+        @Query("SELECT a.abilityId " +
                 "FROM Ability a " +
-                "WHERE a.analysis.record.folder = :folder")
-        void deleteAbilityByFolder(@Param(value = "folder") Folder folder);
+                "WHERE a.analysis.record.folder.folderId = :folderId")
+        List<Long> findAbilityIdListByFolderId(@Param(value = "folderId") Long folderId, Pageable pageable);
 
         @Query("SELECT distinct a.keyword AS keyword " + // unique한 keyword list 반환
                 "FROM Ability a " +
@@ -4,11 +4,13 @@ import corecord.dev.domain.analysis.domain.entity.Analysis;
 import corecord.dev.domain.analysis.domain.repository.AnalysisRepository;
 import corecord.dev.domain.analysis.exception.AnalysisException;
 import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
-import corecord.dev.domain.folder.domain.entity.Folder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
 @Service
 @RequiredArgsConstructor
@@ -36,13 +38,17 @@ public class AnalysisDbService {
     }
 
     @Transactional
-    public void deleteAnalysisByUserId(Long userId) {
-        analysisRepository.deleteAnalysisByUserId(userId);
+    public int deleteAnalysisByUserId(Long userId, int batchSize) {
+        List<Long> analysisIdList = analysisRepository.findAnalysisIdListByUserId(userId, PageRequest.of(0, batchSize));
+        analysisRepository.deleteAllByIdInBatch(analysisIdList);
+        return analysisIdList.size();
     }
 
     @Transactional
-    public void deleteAnalysisByFolder(Folder folder) {
-        analysisRepository.deleteAnalysisByFolder(folder);
+    public int deleteAnalysisByFolderId(Long folderId, int batchSize) {
+        List<Long> analysisIdList = analysisRepository.findAnalysisIdListByFolderId(folderId, PageRequest.of(0, batchSize));
+        analysisRepository.deleteAllByIdInBatch(analysisIdList);
+        return analysisIdList.size();
     }
 
     public Analysis findAnalysisById(Long analysisId) {
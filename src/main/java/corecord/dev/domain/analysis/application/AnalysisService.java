@@ -1,5 +1,7 @@
 package corecord.dev.domain.analysis.application;
 
+import corecord.dev.common.lock.SingleFlightExecutor;
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.ability.application.AbilityService;
 import corecord.dev.domain.analysis.domain.converter.AnalysisConverter;
 import corecord.dev.domain.analysis.domain.dto.request.AnalysisRequest;
@@ -9,6 +11,8 @@ import corecord.dev.domain.analysis.domain.entity.Analysis;
 import corecord.dev.domain.analysis.infra.openai.application.OpenAiService;
 import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
 import corecord.dev.domain.analysis.exception.AnalysisException;
+import corecord.dev.domain.folder.application.FolderDbService;
+import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.record.domain.entity.Record;
 import corecord.dev.domain.record.status.RecordErrorStatus;
@@ -24,11 +28,16 @@ import java.util.Map;
 @Service
 @RequiredArgsConstructor
 public class AnalysisService {
+    private static final String SINGLE_FLIGHT_PREFIX = "analysis:";
+
     private final OpenAiService openAiService;
     private final AbilityService abilityService;
     private final AnalysisDbService analysisDbService;
     private final UserDbService userDbService;
     private final RecordDbService recordDbService;
+    private final FolderDbService folderDbService;
+    private final DataVersionManager dataVersionManager;
+    private final SingleFlightExecutor singleFlightExecutor;
 
     /*
      * OpenAI룰 활용해 역량 분석 객체를 생성 후 반환
@@ -95,12 +104,55 @@ public class AnalysisService {
         // User-Record 권한 유효성 검증
         validIsUserAuthorizedForRecord(user, record);
 
-        // 역량 분석 API 호출
-        Analysis analysis = record.getAnalysis() == null ?
-                createAnalysis(record, user) :
-                recreateAnalysis(record, user);       // 기존 Analysis 객체가 있을 경우 교체
+        // 같은 경험 기록에 대한 중복 요청은 진행 중인 역량 분석 결과를 공유
+        return singleFlightExecutor.execute(SINGLE_FLIGHT_PREFIX + recordId, AnalysisResponse.AnalysisDto.class, () -> {
+            // 락을 기다리는 동안 앞선 요청이 역량 분석을 생성했을 수 있으므로 다시 조회
+            Record currentRecord = recordDbService.findRecordById(recordId);
 
-        return AnalysisConverter.toAnalysisDto(analysis);
+            // 역량 분석 API 호출
+            Analysis analysis = currentRecord.getAnalysis() == null ?
+                    createImportedRecordAnalysis(currentRecord, user) :    // 역량 분석 전이거나 실패한 가져오기 기록
+                    recreateAnalysis(currentRecord, user);       // 기존 Analysis 객체가 있을 경우 교체
+            dataVersionManager.bump(user.getUserId());
+
+            return AnalysisConverter.toAnalysisDto(analysis);
+        });
+    }
+
+    /*
+     * 역량 분석이 없는 경험 기록에 대해 역량 분석을 수행 후 역량 분석 상세 정보를 반환 (경험 기록 가져오기)
+     * postAnalysis와 같은 key로 실행하므로, 사용자의 직접 요청과 겹치면 LLM 호출을 한 번만 수행
+     * @param recordId, user
+     * @return
+     */
+    public AnalysisResponse.AnalysisDto createAnalysisIfAbsent(Long recordId, User user) {
+        return singleFlightExecutor.execute(SINGLE_FLIGHT_PREFIX + recordId, AnalysisResponse.AnalysisDto.class, () -> {
+            // 락을 잡기 전에 다른 요청이 역량 분석을 마쳤다면 다시 호출하지 않음
+            Record record = recordDbService.findRecordById(recordId);
+            if (record.getAnalysis() != null)
+                return AnalysisConverter.toAnalysisDto(analysisDbService.findAnalysisById(record.getAnalysis().getAnalysisId()));
+
+            Analysis analysis = createImportedRecordAnalysis(record, user);
+            dataVersionManager.bump(user.getUserId());
+
+            return AnalysisConverter.toAnalysisDto(analysis);
+        });
+    }
+
+    // 가져온 경험 기록은 역량 분석이 생성되어 목록에 보일 때 폴더, 유저의 경험 기록 수에 포함
+    private Analysis createImportedRecordAnalysis(Record record, User user) {
+        Analysis analysis = createAnalysis(record, user);
+        folderDbService.increaseRecordCount(record.getFolder());
+        userDbService.increaseRecordCount(user);
+        return analysis;
+    }
+
+    /*
+     * 경험 기록, 역량 분석이 수정된 경우 공유 중인 역량 분석 결과를 제거
+     * @param recordId
+     */
+    public void evictAnalysisResult(Long recordId) {
+        singleFlightExecutor.evict(SINGLE_FLIGHT_PREFIX + recordId);
     }
 
     private void validIsUserAuthorizedForRecord(User user, Record record) {
@@ -147,6 +199,8 @@ public class AnalysisService {
         // 키워드 경험 내용 수정
         Map<String, String> abilityMap = analysisUpdateDto.getAbilityMap();
         abilityService.updateAbilityContents(analysis, abilityMap);
+        evictAnalysisResult(analysis.getRecord().getRecordId());
+        dataVersionManager.bump(user.getUserId());
 
         return AnalysisConverter.toAnalysisDto(analysis);
     }
@@ -163,7 +217,14 @@ public class AnalysisService {
         // User-Analysis 권한 유효성 검증
         validIsUserAuthorizedForAnalysis(user, analysis);
 
+        // 경험 기록이 함께 삭제되므로 폴더, 유저의 경험 기록 수 감소
+        Folder folder = analysis.getRecord().getFolder();
+        Long recordId = analysis.getRecord().getRecordId();
         analysisDbService.deleteAnalysis(analysis);
+        folderDbService.decreaseRecordCount(folder);
+        userDbService.decreaseRecordCount(user);
+        evictAnalysisResult(recordId);
+        dataVersionManager.bump(user.getUserId());
     }
 
     private AnalysisAiResponse generateAbilityAnalysis(String content) {
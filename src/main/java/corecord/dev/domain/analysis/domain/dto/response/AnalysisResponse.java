@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -14,6 +15,7 @@ public class AnalysisResponse {
     @Builder
     @Getter
     @AllArgsConstructor
+    @NoArgsConstructor
     @Data
     public static class AnalysisDto {
         private Long analysisId;
@@ -1,13 +1,13 @@
 package corecord.dev.domain.analysis.domain.repository;
 
 import corecord.dev.domain.analysis.domain.entity.Analysis;
-import corecord.dev.domain.folder.domain.entity.Folder;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,18 +18,17 @@ public interface AnalysisRepository extends JpaRepository<Analysis, Long> {
             "JOIN FETCH a.record r " +
             "JOIN FETCH r.folder f " +
             "JOIN FETCH a.abilityList al " +
-            "WHERE a.analysisId = :id")
+            "WHERE a.analysisId = :id " +
+            "AND f.deletedAt is null") // 삭제 처리된 폴더의 경험 제외
     Optional<Analysis> findAnalysisById(@Param(value = "id") Long id);
 
-    @Modifying
-    @Query("DELETE " +
+    @Query("SELECT a.analysisId " +
             "FROM Analysis a " +
-            "WHERE a.record.user.userId IN :userId")
-    void deleteAnalysisByUserId(@Param(value = "userId") Long userId);
+            "WHERE a.record.user.userId = :userId")
+    List<Long> findAnalysisIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
 
-    @Modifying
-    @Query("DELETE " +
+    @Query("SELECT a.analysisId " +
             "FROM Analysis a " +
-            "WHERE a.record.folder = :folder")
-    void deleteAnalysisByFolder(@Param(value = "folder") Folder folder);
+            "WHERE a.record.folder.folderId = :folderId")
+    List<Long> findAnalysisIdListByFolderId(@Param(value = "folderId") Long folderId, Pageable pageable);
 }
@@ -2,11 +2,15 @@ package corecord.dev.domain.analysis.infra.openai.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.common.metrics.LlmMetrics;
 import corecord.dev.common.util.ResourceLoader;
 import corecord.dev.domain.analysis.infra.openai.dto.response.AnalysisAiResponse;
 import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
 import corecord.dev.domain.analysis.exception.AnalysisException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.stereotype.Service;
 
@@ -14,16 +18,28 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OpenAiService {
     private final OpenAiChatModel chatModel;
+    private final LlmMetrics llmMetrics;
     private static final String ABILITY_ANALYSIS_SYSTEM_CONTENT = ResourceLoader.getResourceContent("ability-analysis-prompt.txt");
     private static final String SUMMARY_SYSTEM_CONTENT = ResourceLoader.getResourceContent("memo-summary-prompt.txt");
 
     public AnalysisAiResponse generateAbilityAnalysis(String content) {
-        String response = chatModel.call(ABILITY_ANALYSIS_SYSTEM_CONTENT + content);
-        return parseAnalysisAiResponse(response);
+        return llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.ABILITY_ANALYSIS, () -> {
+            String response = call(LlmMetrics.ABILITY_ANALYSIS, ABILITY_ANALYSIS_SYSTEM_CONTENT + content);
+            return parseAnalysisAiResponse(response);
+        });
     }
 
     public String generateMemoSummary(String content) {
-        return chatModel.call(SUMMARY_SYSTEM_CONTENT + content);
+        return llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.MEMO_SUMMARY,
+                () -> call(LlmMetrics.MEMO_SUMMARY, SUMMARY_SYSTEM_CONTENT + content));
+    }
+
+    // 응답의 토큰 사용량을 기록하고 응답 내용을 반환
+    private String call(String operation, String message) {
+        ChatResponse response = chatModel.call(new Prompt(message));
+        Usage usage = response.getMetadata().getUsage();
+        llmMetrics.recordTokens(LlmMetrics.OPENAI, operation, usage.getPromptTokens(), usage.getGenerationTokens());
+        return response.getResult().getOutput().getContent();
     }
 
     private AnalysisAiResponse parseAnalysisAiResponse(String aiResponse) {
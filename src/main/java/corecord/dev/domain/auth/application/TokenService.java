@@ -60,6 +60,7 @@ public class TokenService {
         validateRefreshToken(refreshToken);
 
         Long userId = Long.parseLong(jwtUtil.getUserIdFromRefreshToken(refreshToken));
+        userDbService.findUserById(userId); // 탈퇴 처리된 유저는 재발급 불가
 
         return jwtUtil.generateAccessToken(userId);
     }
@@ -3,8 +3,10 @@ package corecord.dev.domain.auth.domain.repository;
 import corecord.dev.domain.auth.domain.entity.RefreshToken;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
     Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    List<RefreshToken> findAllByUserId(Long userId);
 }
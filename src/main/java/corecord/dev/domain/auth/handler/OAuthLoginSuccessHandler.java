@@ -22,6 +22,7 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -50,7 +51,7 @@ public class OAuthLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHand
         log.info("providerId: {}", providerId);
         log.info("name: {}", name);
 
-        Optional<User> optionalUser = userRepository.findByProviderId(providerId);
+        Optional<User> optionalUser = userRepository.findByProviderIdAndDeletedAtIsNull(providerId);
 
         if (optionalUser.isPresent()) {
             handleExistingUser(request, response, optionalUser.get());
@@ -89,11 +90,7 @@ public class OAuthLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHand
     }
 
     private void deleteByUserId(Long userId) {
-        Iterable<RefreshToken> tokens = refreshTokenRepository.findAll();
-        for (RefreshToken token : tokens) {
-            if (token.getUserId().equals(userId)) {
-                refreshTokenRepository.delete(token);
-            }
-        }
+        List<RefreshToken> tokens = refreshTokenRepository.findAllByUserId(userId);
+        refreshTokenRepository.deleteAll(tokens);
     }
 }
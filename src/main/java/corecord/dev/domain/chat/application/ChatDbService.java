@@ -3,17 +3,31 @@ package corecord.dev.domain.chat.application;
 import corecord.dev.domain.chat.domain.converter.ChatConverter;
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.ChatTemplate;
+import corecord.dev.domain.chat.domain.entity.ChatTranscript;
+import corecord.dev.domain.chat.domain.entity.TmpChat;
 import corecord.dev.domain.chat.domain.repository.ChatRepository;
 import corecord.dev.domain.chat.domain.repository.ChatRoomRepository;
-import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.chat.domain.repository.ChatTranscriptRepository;
+import corecord.dev.domain.chat.domain.repository.TmpChatRepository;
 import corecord.dev.domain.user.domain.entity.User;
 import corecord.dev.domain.chat.exception.ChatException;
 import corecord.dev.domain.chat.status.ChatErrorStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +35,12 @@ public class ChatDbService {
 
     private final ChatRepository chatRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final TmpChatRepository tmpChatRepository;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private final ChatTranscriptRepository chatTranscriptRepository;
+
+    @Value("${draft.ttl}")
+    private long draftTtl;
 
     @Transactional
     public ChatRoom createChatRoom(User user) {
@@ -30,6 +50,10 @@ public class ChatDbService {
 
     @Transactional
     public Chat saveChat(int author, String content, ChatRoom chatRoom) {
+        // write-behind 모드에서는 버퍼에만 기록하고 DB 저장은 ChatWriteBehindBuffer가 모아서 수행
+        if (chatWriteBehindBuffer.isEnabled())
+            return chatWriteBehindBuffer.append(author, content, chatRoom);
+
         Chat chat = ChatConverter.toChatEntity(author, content, chatRoom);
         return chatRepository.save(chat);
     }
@@ -41,18 +65,60 @@ public class ChatDbService {
     }
 
     @Transactional
-    public void deleteChatByUserId(Long userId) {
-        chatRepository.deleteChatByUserId(userId);
+    public int deleteChatByUserId(Long userId, int batchSize) {
+        List<Long> chatIdList = chatRepository.findChatIdListByUserId(userId, PageRequest.of(0, batchSize));
+        chatRepository.deleteAllByIdInBatch(chatIdList);
+        return chatIdList.size();
+    }
+
+    @Transactional
+    public int deleteChatRoomByUserId(Long userId, int batchSize) {
+        List<Long> chatRoomIdList = chatRoomRepository.findChatRoomIdListByUserId(userId, PageRequest.of(0, batchSize));
+        chatRoomRepository.deleteAllByIdInBatch(chatRoomIdList);
+        return chatRoomIdList.size();
     }
 
     @Transactional
-    public void deleteChatRoomByUserId(Long userId) {
-        chatRoomRepository.deleteChatRoomByUserId(userId);
+    public int deleteChatByFolderId(Long folderId, int batchSize) {
+        List<Long> chatIdList = chatRepository.findChatIdListByFolderId(folderId, PageRequest.of(0, batchSize));
+        chatRepository.deleteAllByIdInBatch(chatIdList);
+        return chatIdList.size();
     }
 
     @Transactional
-    public void deleteChatRoomByFolder(Folder folder) {
-        chatRepository.deleteChatByFolderId(folder.getFolderId());
+    public void deleteChatRoomList(List<Long> chatRoomIdList) {
+        chatRoomRepository.deleteAllByIdInBatch(chatRoomIdList);
+    }
+
+    public List<ChatRoom> findAbandonedChatRoomList(Long lastChatRoomId, LocalDateTime threshold, int size) {
+        return chatRoomRepository.findAbandonedChatRoomList(lastChatRoomId, threshold, PageRequest.of(0, size));
+    }
+
+    /*
+     * 채팅방과 채팅을 함께 삭제 (transcript는 FK ON DELETE CASCADE로 삭제)
+     * @param chatRoomIdList
+     * @return 삭제한 채팅 수
+     */
+    @Transactional
+    public int deleteChatRoomListWithChats(List<Long> chatRoomIdList) {
+        if (chatRoomIdList.isEmpty())
+            return 0;
+
+        int deletedChatCount = chatRepository.deleteByChatRoomIdList(chatRoomIdList);
+        chatRoomRepository.deleteAllByIdInBatch(chatRoomIdList);
+        return deletedChatCount;
+    }
+
+    public void saveTmpChat(Long userId, Long chatRoomId) {
+        tmpChatRepository.save(TmpChat.of(userId, chatRoomId, draftTtl));
+    }
+
+    public Optional<TmpChat> findTmpChat(Long userId) {
+        return tmpChatRepository.findById(userId);
+    }
+
+    public void deleteTmpChat(Long userId) {
+        tmpChatRepository.deleteById(userId);
     }
 
     public ChatRoom findChatRoomById(Long chatRoomId, User user) {
@@ -60,7 +126,128 @@ public class ChatDbService {
                 .orElseThrow(() -> new ChatException(ChatErrorStatus.CHAT_ROOM_NOT_FOUND));
     }
 
+    public List<Chat> findChatsAfter(ChatRoom chatRoom, Long afterChatId) {
+        List<Chat> chatList = !chatWriteBehindBuffer.isEnabled()
+                ? chatRepository.findChatsAfter(chatRoom, afterChatId)
+                : chatWriteBehindBuffer.findChatList(chatRoom, () -> chatRepository.findChatsAfter(chatRoom, afterChatId));
+
+        List<Chat> mergedList = withTranscript(chatRoom, chatList,
+                transcript -> transcript.toChatListAfter(chatRoom, afterChatId)).stream()
+                .filter(chat -> chat.getChatId() > afterChatId)
+                .toList();
+        return withSystemChats(chatRoom, mergedList, false);
+    }
+
+    /*
+     * beforeChatId(0이면 처음부터) 이전의 최신 채팅을 최대 size개 chat_id 오름차순으로 반환
+     * size는 chat 행 기준이며, 인사말은 더 이전 채팅이 없을 때만, 가이드 채팅은 요청 채팅과 함께 포함
+     * @param chatRoom, beforeChatId, size
+     * @return 이전 채팅이 남아있으면 hasNext
+     */
+    public Slice<Chat> findChatsBefore(ChatRoom chatRoom, Long beforeChatId, int size) {
+        // 이전 채팅이 남아있는지 확인하기 위해 하나 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Chat> chatList = !chatWriteBehindBuffer.isEnabled()
+                ? chatRepository.findChatsBefore(chatRoom, beforeChatId, pageable).reversed()
+                : chatWriteBehindBuffer.findChatList(chatRoom, () -> chatRepository.findChatsBefore(chatRoom, beforeChatId, pageable).reversed());
+
+        // 버퍼, transcript의 채팅(각각 최대 size + 1개)과 합친 뒤 다시 최신 size개를 고름
+        List<Chat> mergedList = withTranscript(chatRoom, chatList,
+                transcript -> transcript.toChatListBefore(chatRoom, beforeChatId, size + 1)).stream()
+                .filter(chat -> beforeChatId == 0 || chat.getChatId() < beforeChatId)
+                .toList();
+        boolean hasPrevious = mergedList.size() > size;
+        mergedList = mergedList.subList(Math.max(mergedList.size() - size, 0), mergedList.size());
+
+        return new SliceImpl<>(withSystemChats(chatRoom, mergedList, !hasPrevious), PageRequest.of(0, size), hasPrevious);
+    }
+
     public List<Chat> findChatsByChatRoom(ChatRoom chatRoom) {
-        return chatRepository.findByChatRoomOrderByChatId(chatRoom);
+        List<Chat> chatList = !chatWriteBehindBuffer.isEnabled()
+                ? chatRepository.findByChatRoomOrderByChatId(chatRoom)
+                : chatWriteBehindBuffer.findChatList(chatRoom, () -> chatRepository.findByChatRoomOrderByChatId(chatRoom));
+        return withSystemChats(chatRoom, withTranscript(chatRoom, chatList,
+                transcript -> transcript.toChatList(chatRoom)), true);
+    }
+
+    // 가이드 여부 확인용으로 채팅방의 chat 행 수만 조회
+    public long countChatsByChatRoom(ChatRoom chatRoom) {
+        if (chatWriteBehindBuffer.isEnabled())
+            return chatWriteBehindBuffer.findChatList(chatRoom, () -> chatRepository.findByChatRoomOrderByChatId(chatRoom)).size();
+        return chatRepository.countByChatRoom(chatRoom);
+    }
+
+    @Transactional
+    public void updateGuideChat(ChatRoom chatRoom, Chat guideChat) {
+        // 동시에 들어온 가이드 요청 중 하나만 반영
+        if (chatRoomRepository.updateGuideChatId(chatRoom.getChatRoomId(), guideChat.getChatId()) == 0)
+            throw new ChatException(ChatErrorStatus.INVALID_GUIDE_CHAT);
+        chatRoom.updateGuideChatId(guideChat.getChatId());
+    }
+
+    /*
+     * 템플릿으로 저장된 인사말, 가이드 채팅을 렌더링해 채팅 사이에 끼워 넣음
+     * @param chatRoom, chatList, fromFirst 채팅방의 첫 채팅부터 조회한 경우 true
+     * @return
+     */
+    private List<Chat> withSystemChats(ChatRoom chatRoom, List<Chat> chatList, boolean fromFirst) {
+        boolean withGreeting = fromFirst && chatRoom.getGreetingTemplate() != null;
+        if (!withGreeting && chatRoom.getGuideChatId() == null)
+            return chatList;
+
+        List<Chat> renderedList = new ArrayList<>(chatList.size() + ChatTemplate.GUIDE_LIST.size() + 1);
+        if (withGreeting)
+            renderedList.add(ChatConverter.toGreetingChat(chatRoom));
+        for (Chat chat : chatList) {
+            renderedList.add(chat);
+            if (chat.getChatId().equals(chatRoom.getGuideChatId()))
+                renderedList.addAll(ChatConverter.toGuideChatList(chatRoom, chat));
+        }
+        return renderedList;
+    }
+
+    /*
+     * 압축 보관된 채팅이 있으면 chat 행과 합쳐 chat_id 순으로 반환 (압축된 적 없는 채팅방은 transcript를 조회하지 않음)
+     * decodeTranscript로 조회 범위에 필요한 entry만 디코딩
+     */
+    private List<Chat> withTranscript(ChatRoom chatRoom, List<Chat> chatList,
+                                      Function<ChatTranscript, List<Chat>> decodeTranscript) {
+        if (!chatRoom.isCompacted())
+            return chatList;
+
+        Optional<ChatTranscript> transcript = chatTranscriptRepository.findById(chatRoom.getChatRoomId());
+        if (transcript.isEmpty())
+            return chatList;
+
+        List<Chat> mergedList = new ArrayList<>(decodeTranscript.apply(transcript.get()));
+        mergedList.addAll(chatList);
+        mergedList.sort(Comparator.comparing(Chat::getChatId));
+        return mergedList;
+    }
+
+    public List<Long> findCompactableChatRoomIdList(Long lastChatRoomId, LocalDateTime threshold, int size) {
+        return chatRoomRepository.findCompactableChatRoomIdList(lastChatRoomId, threshold, PageRequest.of(0, size));
+    }
+
+    /*
+     * 채팅방의 chat 행을 transcript 로그 끝에 추가한 후 chat 행을 삭제하고 채팅방을 compacted로 표시
+     * @param chatRoomId
+     * @return 압축한 채팅 수
+     */
+    @Transactional
+    public int compactChatRoom(Long chatRoomId) {
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(chatRoomId);
+        List<Chat> chatList = chatRepository.findByChatRoomOrderByChatId(chatRoom);
+        if (chatList.isEmpty())
+            return 0;
+
+        ChatTranscript transcript = chatTranscriptRepository.findById(chatRoomId)
+                .orElseGet(() -> ChatTranscript.of(chatRoomId));
+        transcript.appendChatList(chatList);
+        chatTranscriptRepository.save(transcript);
+
+        chatRepository.deleteAllByIdInBatch(chatList.stream().map(Chat::getChatId).toList());
+        chatRoomRepository.updateCompacted(chatRoomId);
+        return chatList.size();
     }
 }
@@ -0,0 +1,126 @@
+package corecord.dev.domain.chat.application;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.exception.ChatException;
+import corecord.dev.domain.chat.status.ChatErrorStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/*
+ * 채팅방별로 채팅 처리(turn)를 도착 순서대로 하나씩 실행
+ * - 같은 노드: 채팅방마다 공정(fair) 락을 두어 먼저 도착한 요청부터 처리
+ * - 다른 노드: 공정 락을 얻은 뒤 채팅방 Redis 락을 추가로 잡아 노드 간에도 동시에 한 turn만 실행
+ * 서로 다른 채팅방은 락을 공유하지 않으므로 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+public class ChatRoomMailbox {
+
+    private static final String LOCK_PREFIX = "chatRoom:lock:";
+
+    private final RedisLock redisLock;
+    private final Duration lockTtl;
+    private final long waitTimeout;
+    private final long pollInterval;
+
+    private final Map<Long, Lane> laneMap = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedTurnCount = new AtomicInteger();
+    private final Timer waitTimer;
+
+    public ChatRoomMailbox(RedisLock redisLock, MeterRegistry meterRegistry,
+                           @Value("${chat.mailbox.lock-ttl}") long lockTtl,
+                           @Value("${chat.mailbox.wait-timeout}") long waitTimeout,
+                           @Value("${chat.mailbox.poll-interval}") long pollInterval) {
+        this.redisLock = redisLock;
+        this.lockTtl = Duration.ofMillis(lockTtl);
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+
+        this.waitTimer = Timer.builder("chat.mailbox.wait")
+                .description("채팅 turn이 실행되기까지 대기한 시간")
+                .register(meterRegistry);
+        Gauge.builder("chat.mailbox.depth", queuedTurnCount, AtomicInteger::get)
+                .description("실행을 기다리는 채팅 turn 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.mailbox.rooms", laneMap, Map::size)
+                .description("처리 중이거나 대기 중인 turn이 있는 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    /*
+     * 채팅방의 앞선 turn이 모두 끝난 뒤 turn을 실행하고 결과를 반환
+     * wait-timeout 안에 차례가 오지 않으면 CHAT_ROOM_BUSY 예외 발생
+     * @param chatRoomId, turn
+     * @return
+     */
+    public <T> T execute(Long chatRoomId, Supplier<T> turn) {
+        Lane lane = laneMap.compute(chatRoomId, (id, current) -> {
+            Lane next = current == null ? new Lane() : current;
+            next.userCount++;
+            return next;
+        });
+
+        long startedAt = System.nanoTime();
+        long deadline = System.currentTimeMillis() + waitTimeout;
+        queuedTurnCount.incrementAndGet();
+        boolean queued = true;
+        try {
+            if (!lane.lock.tryLock(waitTimeout, TimeUnit.MILLISECONDS))
+                throw new ChatException(ChatErrorStatus.CHAT_ROOM_BUSY);
+            try {
+                String token = acquireRedisLock(chatRoomId, deadline);
+                queuedTurnCount.decrementAndGet();
+                queued = false;
+                waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return turn.get();
+                } finally {
+                    redisLock.unlock(LOCK_PREFIX + chatRoomId, token);
+                }
+            } finally {
+                lane.lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ChatException(ChatErrorStatus.CHAT_ROOM_BUSY);
+        } finally {
+            if (queued)
+                queuedTurnCount.decrementAndGet();
+            // 더 이상 사용하는 요청이 없으면 채팅방 lane 제거
+            laneMap.compute(chatRoomId, (id, current) -> --current.userCount == 0 ? null : current);
+        }
+    }
+
+    private String acquireRedisLock(Long chatRoomId, long deadline) throws InterruptedException {
+        while (true) {
+            Optional<String> token = redisLock.tryLock(LOCK_PREFIX + chatRoomId, lockTtl);
+            if (token.isPresent())
+                return token.get();
+
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("채팅방 Redis 락 대기 시간 초과 chatRoomId: {}", chatRoomId);
+                throw new ChatException(ChatErrorStatus.CHAT_ROOM_BUSY);
+            }
+            Thread.sleep(pollInterval);
+        }
+    }
+
+    // lane의 userCount는 laneMap.compute 안에서만 변경
+    private static class Lane {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int userCount;
+    }
+}
@@ -1,21 +1,25 @@
 package corecord.dev.domain.chat.application;
 
+import corecord.dev.common.lock.SingleFlightExecutor;
 import corecord.dev.domain.chat.domain.converter.ChatConverter;
 import corecord.dev.domain.chat.domain.dto.request.ChatRequest;
 import corecord.dev.domain.chat.domain.dto.response.ChatResponse;
 import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.TmpChat;
 import corecord.dev.domain.chat.status.ChatErrorStatus;
 import corecord.dev.domain.chat.exception.ChatException;
 import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.entity.User;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -25,6 +29,11 @@ public class ChatService {
     private final ChatDbService chatDbService;
     private final ChatAIService chatAIService;
     private final UserDbService userDbService;
+    private final SingleFlightExecutor singleFlightExecutor;
+    private final ChatRoomMailbox chatRoomMailbox;
+
+    private final int chatPageSize = 30;
+    private final int maxChatPageSize = 100;
 
     /*
      * user의 채팅방을 생성하고 생성된 채팅방 정보를 반환
@@ -34,14 +43,10 @@ public class ChatService {
     public ChatResponse.ChatRoomDto createChatRoom(Long userId) {
         User user = userDbService.findUserById(userId);
 
-        // 채팅방 생성
+        // 채팅방 생성 - 첫번째 채팅(인사말)은 채팅방에 템플릿으로 저장하고 조회 시 렌더링
         ChatRoom chatRoom = chatDbService.createChatRoom(user);
 
-        // 첫번째 채팅 생성 - "안녕하세요! {nickName}님! {nickName}님의 경험이 궁금해요. {nickName}님의 경험을 들려주세요!"
-        String firstChatContent = String.format("안녕하세요! %s님\n오늘은 어떤 경험을 했나요?\n저와 함께 정리해보아요!", user.getNickName());
-        Chat firstChat = chatDbService.saveChat(0, firstChatContent, chatRoom);
-
-        return ChatConverter.toChatRoomDto(chatRoom, firstChat);
+        return ChatConverter.toChatRoomDto(chatRoom);
     }
 
     /*
@@ -54,46 +59,76 @@ public class ChatService {
         User user = userDbService.findUserById(userId);
         ChatRoom chatRoom = chatDbService.findChatRoomById(chatRoomId, user);
 
-        // 사용자 채팅 생성
-        chatDbService.saveChat(1, chatDto.getContent(), chatRoom);
+        // 같은 채팅방의 채팅은 도착 순서대로 하나씩 처리해 AI 답변이 뒤섞이지 않도록 함
+        return chatRoomMailbox.execute(chatRoom.getChatRoomId(), () -> {
+            // 가이드이면 첫 사용자 채팅인지 확인
+            if (chatDto.isGuide())
+                checkGuideChat(chatRoom);
 
-        // 가이드이면 가이드 채팅 생성
-        if (chatDto.isGuide()) {
-            checkGuideChat(chatRoom);
-            return generateGuideChats(chatRoom);
-        }
+            // 사용자 채팅 생성
+            Chat userChat = chatDbService.saveChat(1, chatDto.getContent(), chatRoom);
+
+            // 가이드이면 가이드 채팅 반환 (가이드 채팅은 템플릿으로 렌더링)
+            if (chatDto.isGuide())
+                return generateGuideChats(chatRoom, userChat);
 
-        // AI 답변 생성
-        List<Chat> chatHistory = chatDbService.findChatsByChatRoom(chatRoom);
-        String aiAnswer = chatAIService.generateChatResponse(chatHistory, chatDto.getContent());
-        Chat aiChat = chatDbService.saveChat(0, aiAnswer, chatRoom);
+            // AI 답변 생성
+            List<Chat> chatHistory = chatDbService.findChatsByChatRoom(chatRoom);
+            String aiAnswer = chatAIService.generateChatResponse(chatHistory, chatDto.getContent());
+            Chat aiChat = chatDbService.saveChat(0, aiAnswer, chatRoom);
 
-        return ChatConverter.toChatsDto(List.of(aiChat));
+            return ChatConverter.toChatsDto(List.of(aiChat));
+        });
     }
 
-    private static void checkGuideChat(ChatRoom chatRoom) {
-        if (chatRoom.getChatList().size() > 2)
+    private void checkGuideChat(ChatRoom chatRoom) {
+        // 기존 채팅방은 인사말이 chat 행으로 저장되어 있음
+        long greetingChatCount = chatRoom.getGreetingTemplate() == null ? 1 : 0;
+        if (chatRoom.getGuideChatId() != null || chatDbService.countChatsByChatRoom(chatRoom) > greetingChatCount)
             throw new ChatException(ChatErrorStatus.INVALID_GUIDE_CHAT);
     }
 
-    private ChatResponse.ChatsDto generateGuideChats(ChatRoom chatRoom) {
-        Chat guideChat1 = chatDbService.saveChat(0, "걱정 마세요!\n저와 대화하다 보면 경험이 정리될 거예요\uD83D\uDCDD", chatRoom);
-        Chat guideChat2 = chatDbService.saveChat(0, "오늘은 어떤 경험을 했나요?\n상황과 해결한 문제를 말해주세요!", chatRoom);
-        return ChatConverter.toChatsDto(List.of(guideChat1, guideChat2));
+    private ChatResponse.ChatsDto generateGuideChats(ChatRoom chatRoom, Chat userChat) {
+        chatDbService.updateGuideChat(chatRoom, userChat);
+        return ChatConverter.toChatsDto(ChatConverter.toGuideChatList(chatRoom, userChat));
     }
 
     /*
      * user의 채팅방의 채팅 목록을 반환
+     * - afterChatId: 해당 채팅 이후의 새 채팅만 반환 (답변 이후 갱신용)
+     * - beforeChatId, limit: 해당 채팅 이전의 최신 채팅 limit개를 반환 (긴 대화를 나누어 조회)
+     * - 모두 없으면 전체 채팅 반환
      * @param userId
      * @param chatRoomId
+     * @param afterChatId
+     * @param beforeChatId
+     * @param limit
      * @return chatListDto
      */
-    public ChatResponse.ChatListDto getChatList(Long userId, Long chatRoomId) {
+    public ChatResponse.ChatListDto getChatList(Long userId, Long chatRoomId, Long afterChatId, Long beforeChatId, Integer limit) {
         User user = userDbService.findUserById(userId);
         ChatRoom chatRoom = chatDbService.findChatRoomById(chatRoomId, user);
-        List<Chat> chatList = chatDbService.findChatsByChatRoom(chatRoom);
 
-        return ChatConverter.toChatListDto(chatList);
+        // 조회 범위 유효성 검증
+        validateChatCursor(afterChatId, beforeChatId, limit);
+
+        if (afterChatId != null)
+            return ChatConverter.toChatListDto(chatDbService.findChatsAfter(chatRoom, afterChatId));
+
+        if (beforeChatId == null && limit == null)
+            return ChatConverter.toChatListDto(chatDbService.findChatsByChatRoom(chatRoom));
+
+        int size = limit == null ? chatPageSize : limit;
+        Slice<Chat> chatSlice = chatDbService.findChatsBefore(chatRoom, beforeChatId == null ? 0L : beforeChatId, size);
+
+        return ChatConverter.toChatListDto(chatSlice.getContent(), chatSlice.hasNext());
+    }
+
+    private void validateChatCursor(Long afterChatId, Long beforeChatId, Integer limit) {
+        if (afterChatId != null && (beforeChatId != null || limit != null))
+            throw new ChatException(ChatErrorStatus.INVALID_CHAT_CURSOR);
+        if (limit != null && (limit <= 0 || limit > maxChatPageSize))
+            throw new ChatException(ChatErrorStatus.INVALID_CHAT_CURSOR);
     }
 
     /*
@@ -111,12 +146,9 @@ public class ChatService {
     }
 
     private void checkTmpChat(User user, ChatRoom chatRoom) {
-        if (user.getTmpChat() == null) {
-            return;
-        }
-        if (user.getTmpChat().equals(chatRoom.getChatRoomId())) {
-            user.deleteTmpChat();
-        }
+        chatDbService.findTmpChat(user.getUserId())
+                .filter(tmpChat -> tmpChat.getChatRoomId().equals(chatRoom.getChatRoomId()))
+                .ifPresent(tmpChat -> chatDbService.deleteTmpChat(user.getUserId()));
     }
 
     /*
@@ -133,12 +165,22 @@ public class ChatService {
         // 사용자 입력 없이 저장하려는 경우 체크
         validateChatList(chatList);
 
-        // 채팅 정보 요약 생성
-        ChatSummaryAiResponse response = chatAIService.generateChatSummaryResponse(chatList);
-
-        validateResponse(response);
-
-        return ChatConverter.toChatSummaryDto(chatRoom, response);
+        // 같은 채팅 내역에 대한 중복 요약 요청은 진행 중인 결과를 공유
+        // 렌더링한 가이드 채팅은 chat_id가 없으므로 마지막 chat 행 기준
+        Long lastChatId = chatList.stream()
+                .map(Chat::getChatId)
+                .filter(Objects::nonNull)
+                .reduce((previous, next) -> next)
+                .orElse(0L);
+        String key = "chatSummary:" + chatRoom.getChatRoomId() + ":" + lastChatId;
+        return singleFlightExecutor.execute(key, ChatResponse.ChatSummaryDto.class, () -> {
+            // 채팅 정보 요약 생성
+            ChatSummaryAiResponse response = chatAIService.generateChatSummaryResponse(chatList);
+
+            validateResponse(response);
+
+            return ChatConverter.toChatSummaryDto(chatRoom, response);
+        });
     }
 
     private static void validateChatList(List<Chat> chatList) {
@@ -151,16 +193,15 @@ public class ChatService {
      * @param userId
      * @return chatTmpDto
      */
-    @Transactional
     public ChatResponse.ChatTmpDto getChatTmp(Long userId) {
         User user = userDbService.findUserById(userId);
-        if (user.getTmpChat() == null) {
+        Optional<TmpChat> tmpChat = chatDbService.findTmpChat(user.getUserId());
+        if (tmpChat.isEmpty()) {
             return ChatConverter.toNotExistingChatTmpDto();
         }
         // 임시 채팅 제거 후 반환
-        Long chatRoomId = user.getTmpChat();
-        userDbService.deleteUserTmpChat(user);
-        return ChatConverter.toExistingChatTmpDto(chatRoomId);
+        chatDbService.deleteTmpChat(user.getUserId());
+        return ChatConverter.toExistingChatTmpDto(tmpChat.get().getChatRoomId());
     }
 
     /*
@@ -168,16 +209,15 @@ public class ChatService {
      * @param userId
      * @param chatRoomId
      */
-    @Transactional
     public void saveChatTmp(Long userId, Long chatRoomId) {
         User user = userDbService.findUserById(userId);
         ChatRoom chatRoom = chatDbService.findChatRoomById(chatRoomId, user);
 
         // 이미 임시 저장된 채팅방이 있는 경우
-        if (user.getTmpChat() != null) {
+        if (chatDbService.findTmpChat(user.getUserId()).isPresent()) {
             throw new ChatException(ChatErrorStatus.TMP_CHAT_EXIST);
         }
-        userDbService.updateUserTmpChat(user, chatRoom.getChatRoomId());
+        chatDbService.saveTmpChat(user.getUserId(), chatRoom.getChatRoomId());
     }
 
     private static void validateResponse(ChatSummaryAiResponse response) {
@@ -0,0 +1,55 @@
+package corecord.dev.domain.chat.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTranscriptCompactor {
+
+    private final ChatDbService chatDbService;
+
+    @Value("${chat.transcript.enabled}")
+    private boolean enabled;
+
+    @Value("${chat.transcript.batch-size}")
+    private int batchSize;
+
+    @Value("${chat.transcript.min-age}")
+    private long minAge;
+
+    // 이전 주기에서 마지막으로 확인한 채팅방, 마지막 채팅방까지 확인하면 처음부터 다시 확인
+    private long lastChatRoomId = 0L;
+
+    /**
+     * 경험 기록으로 변환된 채팅방의 chat 행을 주기적으로 transcript로 압축
+     * 마지막 채팅 후 min-age(초)가 지난 채팅방만 대상으로 해 write-behind 버퍼에 남은 채팅과 겹치지 않도록 한다.
+     * 주기마다 chat_room_id 순으로 batch-size개씩 이어서 확인해, 한 주기에 전체 채팅방을 다시 검사하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${chat.transcript.fixed-delay}")
+    public void compactChatRooms() {
+        if (!enabled)
+            return;
+
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(minAge);
+        List<Long> chatRoomIdList = chatDbService.findCompactableChatRoomIdList(lastChatRoomId, threshold, batchSize);
+        lastChatRoomId = chatRoomIdList.size() < batchSize ? 0L : chatRoomIdList.get(chatRoomIdList.size() - 1);
+
+        for (Long chatRoomId : chatRoomIdList) {
+            try {
+                int compactedCount = chatDbService.compactChatRoom(chatRoomId);
+                log.info("채팅 transcript 압축 완료 chatRoomId: {}, compactedCount: {}", chatRoomId, compactedCount);
+            } catch (RuntimeException e) {
+                // 실패한 채팅방은 다음 주기에 다시 압축
+                log.error("채팅 transcript 압축 실패 chatRoomId: {}", chatRoomId, e);
+            }
+        }
+    }
+}
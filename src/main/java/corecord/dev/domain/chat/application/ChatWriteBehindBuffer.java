@@ -0,0 +1,270 @@
+package corecord.dev.domain.chat.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.domain.entity.Chat;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.repository.ChatBulkRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * 채팅 저장을 응답 경로에서 분리하는 write-behind 버퍼 (chat.write-behind.enabled)
+ * - 저장: Redis에서 chat_id를 발급하고 채팅을 pending 리스트와 채팅방별 hash에 기록 후 바로 반환
+ * - 조회: DB 채팅과 아직 저장되지 않은 채팅방 hash의 채팅을 chat_id 순으로 합쳐 반환
+ * - 저장 작업: flush-interval마다 batch-size 단위로 processing 리스트로 옮겨 INSERT IGNORE 후 제거
+ *   processing 리스트가 남아 있으면(직전 flush 중 장애) 먼저 다시 저장하므로 재시작 시 자동으로 복구된다.
+ * 버퍼는 Redis에 있으므로 서버가 비정상 종료되어도 채팅이 유실되지 않으며, 정상 종료 시에는 남은 채팅을 모두 저장한다.
+ * 저장 작업은 다른 스케줄 작업에 밀리지 않도록 전용 스레드에서 수행
+ * - chat.write-behind.pending, chat.write-behind.processing: 저장 대기 중인 채팅 수 (계속 증가하면 저장 지연 알림)
+ */
+@Slf4j
+@Component
+public class ChatWriteBehindBuffer {
+
+    private static final String SEQUENCE_KEY = "chat:writeBehind:seq";
+    private static final String PENDING_KEY = "chat:writeBehind:pending";
+    private static final String PROCESSING_KEY = "chat:writeBehind:processing";
+    private static final String ROOM_PREFIX = "chat:writeBehind:room:";
+    private static final String FLUSH_LOCK_KEY = "chat:writeBehind:flushLock";
+
+    // 채팅방 hash와 pending 리스트에 함께 기록해 둘 중 하나만 남는 경우를 방지
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return redis.call('lpush', KEYS[2], ARGV[2])",
+            Long.class);
+
+    // pending 리스트에서 오래된 순으로 최대 ARGV[1]개를 processing 리스트로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MOVE_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "local items = {} " +
+            "for i = 1, tonumber(ARGV[1]) do " +
+            "  local item = redis.call('rpop', KEYS[1]) " +
+            "  if not item then break end " +
+            "  redis.call('rpush', KEYS[2], item) " +
+            "  items[i] = item " +
+            "end " +
+            "return items",
+            List.class);
+
+    // 다른 경로로 저장된 chat_id보다 작은 값을 발급하지 않도록 시퀀스를 올림
+    private static final RedisScript<Long> RAISE_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('get', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('set', KEYS[1], ARGV[1]) return tonumber(ARGV[1]) end " +
+            "return current",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatBulkRepository chatBulkRepository;
+    private final RedisLock redisLock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushLockTtl;
+    private final Duration flushInterval;
+    private final ThreadPoolTaskScheduler flushScheduler;
+
+    public ChatWriteBehindBuffer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 ChatBulkRepository chatBulkRepository, RedisLock redisLock, MeterRegistry meterRegistry,
+                                 @Value("${chat.write-behind.enabled}") boolean enabled,
+                                 @Value("${chat.write-behind.batch-size}") int batchSize,
+                                 @Value("${chat.write-behind.flush-lock-ttl}") long flushLockTtl,
+                                 @Value("${chat.write-behind.flush-interval}") long flushInterval) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.chatBulkRepository = chatBulkRepository;
+        this.redisLock = redisLock;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushLockTtl = Duration.ofMillis(flushLockTtl);
+        this.flushInterval = Duration.ofMillis(flushInterval);
+
+        // TaskScheduler 타입 빈으로 등록하면 Spring 기본 taskScheduler가 생성되지 않으므로 내부에서 관리
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("chat-write-behind-");
+
+        if (enabled) {
+            Gauge.builder("chat.write-behind.pending", this, buffer -> buffer.size(PENDING_KEY))
+                    .register(meterRegistry);
+            Gauge.builder("chat.write-behind.processing", this, buffer -> buffer.size(PROCESSING_KEY))
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void initSequence() {
+        if (!enabled)
+            return;
+        long maxChatId = chatBulkRepository.findMaxChatId();
+        redisTemplate.execute(RAISE_SEQUENCE_SCRIPT, List.of(SEQUENCE_KEY), String.valueOf(maxChatId));
+
+        flushScheduler.initialize();
+        flushScheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+    }
+
+    /*
+     * chat_id를 발급하고 채팅을 버퍼에 기록한 후 저장될 Chat을 반환
+     * @param author, content, chatRoom
+     * @return
+     */
+    public Chat append(int author, String content, ChatRoom chatRoom) {
+        Long chatId = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+        BufferedChat bufferedChat = new BufferedChat(chatId, chatRoom.getChatRoomId(), author, content,
+                LocalDateTime.now().toString());
+
+        redisTemplate.execute(APPEND_SCRIPT, List.of(ROOM_PREFIX + chatRoom.getChatRoomId(), PENDING_KEY),
+                String.valueOf(chatId), write(bufferedChat));
+
+        return toChat(bufferedChat, chatRoom);
+    }
+
+    /*
+     * DB에 저장된 채팅과 아직 버퍼에 있는 채팅을 chat_id 순으로 합쳐 반환
+     * 버퍼를 먼저 읽어야 그 사이 flush된 채팅이 양쪽 모두에서 빠지지 않음
+     * @param chatRoom, persistedChatList
+     * @return
+     */
+    public List<Chat> findChatList(ChatRoom chatRoom, Supplier<List<Chat>> persistedChatList) {
+        List<Object> bufferedList = redisTemplate.opsForHash().values(ROOM_PREFIX + chatRoom.getChatRoomId());
+        List<Chat> chatList = persistedChatList.get();
+        if (bufferedList.isEmpty())
+            return chatList;
+
+        Map<Long, Chat> chatMap = new LinkedHashMap<>();
+        chatList.forEach(chat -> chatMap.put(chat.getChatId(), chat));
+        bufferedList.stream()
+                .map(json -> read((String) json))
+                .forEach(bufferedChat -> chatMap.putIfAbsent(bufferedChat.chatId(), toChat(bufferedChat, chatRoom)));
+
+        List<Chat> mergedList = new ArrayList<>(chatMap.values());
+        mergedList.sort(Comparator.comparing(Chat::getChatId));
+        return mergedList;
+    }
+
+    // 종료 시 주기 저장을 멈추고 버퍼에 남은 채팅을 모두 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!enabled)
+            return;
+        flushScheduler.shutdown();
+        flush();
+    }
+
+    /*
+     * processing 리스트(직전 flush에서 저장하지 못한 채팅)부터 저장한 뒤, pending 리스트가 빌 때까지 batch 단위로 저장
+     * 여러 노드 중 락을 얻은 노드 하나만 수행
+     */
+    public synchronized void flush() {
+        Optional<String> token = redisLock.tryLock(FLUSH_LOCK_KEY, flushLockTtl);
+        if (token.isEmpty())
+            return;
+
+        try {
+            List<String> batch = redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1);
+            if (batch == null || batch.isEmpty())
+                batch = moveBatch();
+
+            while (!batch.isEmpty()) {
+                writeBatch(batch);
+                batch = moveBatch();
+            }
+        } catch (RuntimeException e) {
+            // processing 리스트에 남겨 두고 다음 flush에서 다시 저장
+            log.error("채팅 write-behind 저장 실패", e);
+        } finally {
+            redisLock.unlock(FLUSH_LOCK_KEY, token.get());
+        }
+    }
+
+    // 지표 수집 시 Redis에 연결할 수 없으면 값 없음(NaN)으로 기록
+    private double size(String key) {
+        try {
+            Long size = redisTemplate.opsForList().size(key);
+            return size == null ? 0 : size;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> moveBatch() {
+        List<String> batch = redisTemplate.execute(MOVE_BATCH_SCRIPT, List.of(PENDING_KEY, PROCESSING_KEY),
+                String.valueOf(batchSize));
+        return batch == null ? List.of() : batch;
+    }
+
+    private void writeBatch(List<String> batch) {
+        List<BufferedChat> bufferedList = batch.stream().map(this::read).toList();
+        List<Chat> chatList = bufferedList.stream()
+                .map(bufferedChat -> toChat(bufferedChat, ChatRoom.builder().chatRoomId(bufferedChat.chatRoomId()).build()))
+                .toList();
+        chatBulkRepository.insertIgnoreChatList(chatList);
+
+        // DB에 저장된 후에 버퍼에서 제거해야 조회 시 누락되지 않음
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (BufferedChat bufferedChat : bufferedList) {
+                connection.hashCommands().hDel((ROOM_PREFIX + bufferedChat.chatRoomId()).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(bufferedChat.chatId()).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        redisTemplate.delete(PROCESSING_KEY);
+    }
+
+    private Chat toChat(BufferedChat bufferedChat, ChatRoom chatRoom) {
+        Chat chat = Chat.builder()
+                .chatId(bufferedChat.chatId())
+                .author(bufferedChat.author())
+                .content(bufferedChat.content())
+                .chatRoom(chatRoom)
+                .build();
+        chat.setCreatedAt(LocalDateTime.parse(bufferedChat.createdAt()));
+        return chat;
+    }
+
+    private String write(BufferedChat bufferedChat) {
+        try {
+            return objectMapper.writeValueAsString(bufferedChat);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BufferedChat read(String json) {
+        try {
+            return objectMapper.readValue(json, BufferedChat.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record BufferedChat(Long chatId, Long chatRoomId, Integer author, String content, String createdAt) {
+    }
+}
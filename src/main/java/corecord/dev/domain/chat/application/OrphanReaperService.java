@@ -0,0 +1,158 @@
+package corecord.dev.domain.chat.application;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.TmpChat;
+import corecord.dev.domain.record.application.RecordDbService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 경험 기록으로 변환되지 않고 임시 저장도 되지 않은 채팅방, 폴더 없이 남은 임시 저장 기록을 주기적으로 삭제
+ * Redis 락을 잡은 노드 하나만 실행하며, 삭제한 양은 로그와 reaper.reclaimed 지표로 남긴다.
+ */
+@Slf4j
+@Service
+public class OrphanReaperService {
+
+    private static final String LOCK_KEY = "reaper:orphan:lock";
+
+    private final ChatDbService chatDbService;
+    private final RecordDbService recordDbService;
+    private final RedisLock redisLock;
+    private final int batchSize;
+    private final int maxBatchCount;
+    private final long maxAge;
+    private final Duration lockTtl;
+
+    private final Counter chatRoomCounter;
+    private final Counter chatCounter;
+    private final Counter recordCounter;
+
+    public OrphanReaperService(ChatDbService chatDbService, RecordDbService recordDbService,
+                               RedisLock redisLock, MeterRegistry meterRegistry,
+                               @Value("${reaper.batch-size}") int batchSize,
+                               @Value("${reaper.max-batch-count}") int maxBatchCount,
+                               @Value("${reaper.max-age}") long maxAge,
+                               @Value("${reaper.lock-ttl}") long lockTtl) {
+        this.chatDbService = chatDbService;
+        this.recordDbService = recordDbService;
+        this.redisLock = redisLock;
+        this.batchSize = batchSize;
+        this.maxBatchCount = maxBatchCount;
+        this.maxAge = maxAge;
+        this.lockTtl = Duration.ofMillis(lockTtl);
+
+        this.chatRoomCounter = reclaimedCounter(meterRegistry, "chat_room");
+        this.chatCounter = reclaimedCounter(meterRegistry, "chat");
+        this.recordCounter = reclaimedCounter(meterRegistry, "record");
+    }
+
+    @Scheduled(initialDelayString = "${reaper.initial-delay}", fixedDelayString = "${reaper.fixed-delay}")
+    public void reapOrphans() {
+        Optional<String> token = redisLock.tryLock(LOCK_KEY, lockTtl);
+        if (token.isEmpty())
+            return; // 다른 노드에서 실행 중
+
+        try {
+            LocalDateTime threshold = LocalDateTime.now().minusSeconds(maxAge);
+
+            // 임시 저장 기록이 참조하던 채팅방도 같은 주기에 삭제되도록 기록을 먼저 삭제
+            int recordCount = reapTmpRecords(threshold);
+            ReapedChatRoom reapedChatRoom = reapChatRooms(threshold);
+
+            log.info("고아 데이터 삭제 완료 chatRoomCount: {}, chatCount: {}, recordCount: {}",
+                    reapedChatRoom.chatRoomCount(), reapedChatRoom.chatCount(), recordCount);
+        } catch (RuntimeException e) {
+            // 남은 데이터는 다음 주기에 다시 삭제
+            log.error("고아 데이터 삭제 실패", e);
+        } finally {
+            redisLock.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    /*
+     * 폴더 없이 max-age 이상 남아있는 임시 저장 기록을 batchSize 만큼씩 최대 maxBatchCount번 삭제
+     * @param threshold
+     * @return 삭제한 기록 수
+     */
+    private int reapTmpRecords(LocalDateTime threshold) {
+        int reapedCount = 0;
+        long lastRecordId = 0L;
+
+        for (int batch = 0; batch < maxBatchCount; batch++) {
+            List<Long> recordIdList = recordDbService.findOrphanTmpRecordIdList(lastRecordId, threshold, batchSize);
+            if (recordIdList.isEmpty())
+                break;
+
+            recordDbService.deleteRecordList(recordIdList);
+            recordCounter.increment(recordIdList.size());
+            reapedCount += recordIdList.size();
+            lastRecordId = recordIdList.get(recordIdList.size() - 1);
+
+            if (recordIdList.size() < batchSize)
+                break;
+        }
+        return reapedCount;
+    }
+
+    /*
+     * max-age 동안 활동이 없고 경험 기록, 임시 저장 어디에도 연결되지 않은 채팅방을 채팅과 함께 삭제
+     * @param threshold
+     * @return 삭제한 채팅방, 채팅 수
+     */
+    private ReapedChatRoom reapChatRooms(LocalDateTime threshold) {
+        int chatRoomCount = 0;
+        int chatCount = 0;
+        long lastChatRoomId = 0L;
+
+        for (int batch = 0; batch < maxBatchCount; batch++) {
+            List<ChatRoom> chatRoomList = chatDbService.findAbandonedChatRoomList(lastChatRoomId, threshold, batchSize);
+            if (chatRoomList.isEmpty())
+                break;
+
+            List<Long> chatRoomIdList = chatRoomList.stream()
+                    .filter(chatRoom -> !isTmpChatRoom(chatRoom))
+                    .map(ChatRoom::getChatRoomId)
+                    .toList();
+            int deletedChatCount = chatDbService.deleteChatRoomListWithChats(chatRoomIdList);
+
+            chatRoomCounter.increment(chatRoomIdList.size());
+            chatCounter.increment(deletedChatCount);
+            chatRoomCount += chatRoomIdList.size();
+            chatCount += deletedChatCount;
+            lastChatRoomId = chatRoomList.get(chatRoomList.size() - 1).getChatRoomId();
+
+            if (chatRoomList.size() < batchSize)
+                break;
+        }
+        return new ReapedChatRoom(chatRoomCount, chatCount);
+    }
+
+    // Redis에 임시 저장된 채팅방인지 확인
+    private boolean isTmpChatRoom(ChatRoom chatRoom) {
+        return chatDbService.findTmpChat(chatRoom.getUser().getUserId())
+                .map(TmpChat::getChatRoomId)
+                .filter(chatRoom.getChatRoomId()::equals)
+                .isPresent();
+    }
+
+    private static Counter reclaimedCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("reaper.reclaimed")
+                .description("고아 데이터 정리 작업이 삭제한 row 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private record ReapedChatRoom(int chatRoomCount, int chatCount) {
+    }
+}
@@ -4,24 +4,56 @@ import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
 import corecord.dev.domain.chat.domain.dto.response.ChatResponse;
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.ChatTemplate;
 import corecord.dev.domain.user.domain.entity.User;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 public class ChatConverter {
 
-    public static ChatResponse.ChatRoomDto toChatRoomDto(ChatRoom chatRoom, Chat firstChat) {
+    private static final String CHAT_TYPE = "chat";
+    private static final String GREETING_TYPE = "greeting";
+    private static final String GUIDE_TYPE = "guide";
+
+    public static ChatResponse.ChatRoomDto toChatRoomDto(ChatRoom chatRoom) {
         return ChatResponse.ChatRoomDto.builder()
                 .chatRoomId(chatRoom.getChatRoomId())
-                .firstChat(firstChat.getContent())
+                .firstChat(chatRoom.getGreetingTemplate().render(chatRoom.getNickName()))
                 .build();
     }
 
     public static ChatRoom toChatRoomEntity(User user) {
         return ChatRoom.builder()
                 .user(user)
+                .greetingTemplate(ChatTemplate.GREETING)
+                .nickName(user.getNickName())
+                .build();
+    }
+
+    // 템플릿으로 렌더링하는 인사말, 가이드 채팅은 chat 행이 아니므로 chat_id 없이 생성 (커서로 사용하지 않음)
+    public static Chat toGreetingChat(ChatRoom chatRoom) {
+        String content = chatRoom.getGreetingTemplate().render(chatRoom.getNickName());
+        return toSystemChat(ChatTemplate.GREETING, content, chatRoom, chatRoom.getCreatedAt());
+    }
+
+    // 가이드 채팅은 가이드를 요청한 채팅 바로 뒤에 렌더링
+    public static List<Chat> toGuideChatList(ChatRoom chatRoom, Chat guideChat) {
+        return ChatTemplate.GUIDE_LIST.stream()
+                .map(template -> toSystemChat(template, template.render(), chatRoom, guideChat.getCreatedAt()))
+                .toList();
+    }
+
+    private static Chat toSystemChat(ChatTemplate template, String content, ChatRoom chatRoom, LocalDateTime createdAt) {
+        Chat chat = Chat.builder()
+                .author(0)
+                .content(content)
+                .chatRoom(chatRoom)
+                .template(template)
                 .build();
+        chat.setCreatedAt(createdAt);
+        return chat;
     }
 
     public static Chat toChatEntity(Integer author, String content, ChatRoom chatRoom) {
@@ -35,6 +67,7 @@ public class ChatConverter {
     public static ChatResponse.ChatDto toChatDto(Chat chat) {
         return ChatResponse.ChatDto.builder()
                 .chatId(chat.getChatId())
+                .type(toChatType(chat))
                 .content(chat.getContent())
                 .build();
     }
@@ -48,15 +81,27 @@ public class ChatConverter {
     public static ChatResponse.ChatDetailDto toChatDetailDto(Chat chat) {
         return ChatResponse.ChatDetailDto.builder()
                 .chatId(chat.getChatId())
+                .type(toChatType(chat))
                 .author(chat.getAuthor() == 0 ? "ai" : "user")
                 .content(chat.getContent())
                 .created_at(chat.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
                 .build();
     }
 
+    private static String toChatType(Chat chat) {
+        if (chat.getTemplate() == null)
+            return CHAT_TYPE;
+        return chat.getTemplate() == ChatTemplate.GREETING ? GREETING_TYPE : GUIDE_TYPE;
+    }
+
     public static ChatResponse.ChatListDto toChatListDto(List<Chat> chatList) {
+        return toChatListDto(chatList, false);
+    }
+
+    public static ChatResponse.ChatListDto toChatListDto(List<Chat> chatList, boolean hasPrevious) {
         return ChatResponse.ChatListDto.builder()
                 .chats(chatList.stream().map(ChatConverter::toChatDetailDto).toList())
+                .hasPrevious(hasPrevious)
                 .build();
     }
 
@@ -0,0 +1,163 @@
+package corecord.dev.domain.chat.domain.converter;
+
+import corecord.dev.domain.chat.domain.entity.Chat;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/*
+ * 채팅 transcript 로그 인코딩
+ * entry = [payload 길이 int][chat_id long][author byte][created_at epoch millis long][content UTF-8]
+ * 로그 전체를 Deflate로 압축해 저장하고, offsets에는 압축 해제된 로그에서 각 entry의 시작 위치를 int로 기록
+ */
+public class ChatTranscriptCodec {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final int HEADER_SIZE = Long.BYTES + 1 + Long.BYTES;
+    // created_at이 없는 채팅 (V1의 chat.created_at은 NULL 허용)
+    private static final long NO_CREATED_AT = Long.MIN_VALUE;
+
+    public record Appended(byte[] data, byte[] offsets) {
+    }
+
+    public static Appended append(byte[] data, byte[] offsets, List<Chat> chatList) {
+        byte[] log = decompress(data);
+        ByteArrayOutputStream logOut = new ByteArrayOutputStream(log.length + chatList.size() * 64);
+        logOut.writeBytes(log);
+
+        ByteBuffer offsetBuffer = ByteBuffer.allocate(offsets.length + chatList.size() * Integer.BYTES);
+        offsetBuffer.put(offsets);
+
+        for (Chat chat : chatList) {
+            offsetBuffer.putInt(logOut.size());
+            logOut.writeBytes(encodeEntry(chat));
+        }
+        return new Appended(compress(logOut.toByteArray()), offsetBuffer.array());
+    }
+
+    public static List<Chat> decode(byte[] data, byte[] offsets, ChatRoom chatRoom) {
+        ByteBuffer log = ByteBuffer.wrap(decompress(data));
+        IntBuffer offsetBuffer = ByteBuffer.wrap(offsets).asIntBuffer();
+        return decodeRange(log, offsetBuffer, chatRoom, 0, offsetBuffer.limit());
+    }
+
+    /*
+     * chat_id가 beforeChatId(0이면 제한 없음)보다 작은 entry 중 최신 limit개만 chat_id 오름차순으로 디코딩
+     * offsets로 entry의 chat_id만 읽어 경계를 이분 탐색하므로 나머지 entry는 디코딩하지 않음
+     */
+    public static List<Chat> decodeBefore(byte[] data, byte[] offsets, ChatRoom chatRoom, long beforeChatId, int limit) {
+        ByteBuffer log = ByteBuffer.wrap(decompress(data));
+        IntBuffer offsetBuffer = ByteBuffer.wrap(offsets).asIntBuffer();
+        int to = beforeChatId == 0 ? offsetBuffer.limit() : lowerBound(log, offsetBuffer, beforeChatId);
+        return decodeRange(log, offsetBuffer, chatRoom, Math.max(to - limit, 0), to);
+    }
+
+    // chat_id가 afterChatId보다 큰 entry만 chat_id 오름차순으로 디코딩
+    public static List<Chat> decodeAfter(byte[] data, byte[] offsets, ChatRoom chatRoom, long afterChatId) {
+        ByteBuffer log = ByteBuffer.wrap(decompress(data));
+        IntBuffer offsetBuffer = ByteBuffer.wrap(offsets).asIntBuffer();
+        int from = lowerBound(log, offsetBuffer, afterChatId + 1);
+        return decodeRange(log, offsetBuffer, chatRoom, from, offsetBuffer.limit());
+    }
+
+    // entry는 chat_id 오름차순이므로 chat_id가 chatId 이상인 첫 entry의 index를 이분 탐색
+    private static int lowerBound(ByteBuffer log, IntBuffer offsetBuffer, long chatId) {
+        int low = 0;
+        int high = offsetBuffer.limit();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (log.getLong(offsetBuffer.get(mid) + Integer.BYTES) < chatId)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private static List<Chat> decodeRange(ByteBuffer log, IntBuffer offsetBuffer, ChatRoom chatRoom, int from, int to) {
+        List<Chat> chatList = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            log.position(offsetBuffer.get(i));
+            chatList.add(decodeEntry(log, chatRoom));
+        }
+        return chatList;
+    }
+
+    private static byte[] encodeEntry(Chat chat) {
+        byte[] content = chat.getContent().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + HEADER_SIZE + content.length);
+        entry.putInt(HEADER_SIZE + content.length);
+        entry.putLong(chat.getChatId());
+        entry.put(chat.getAuthor().byteValue());
+        entry.putLong(chat.getCreatedAt() == null
+                ? NO_CREATED_AT
+                : chat.getCreatedAt().atZone(ZONE_ID).toInstant().toEpochMilli());
+        entry.put(content);
+        return entry.array();
+    }
+
+    private static Chat decodeEntry(ByteBuffer log, ChatRoom chatRoom) {
+        int length = log.getInt();
+        long chatId = log.getLong();
+        int author = log.get();
+        long createdAt = log.getLong();
+        byte[] content = new byte[length - HEADER_SIZE];
+        log.get(content);
+
+        Chat chat = Chat.builder()
+                .chatId(chatId)
+                .author(author)
+                .content(new String(content, StandardCharsets.UTF_8))
+                .chatRoom(chatRoom)
+                .build();
+        if (createdAt != NO_CREATED_AT)
+            chat.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZONE_ID));
+        return chat;
+    }
+
+    public static byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(bytes.length / 2, 64));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished())
+                out.write(buffer, 0, deflater.deflate(buffer));
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] decompress(byte[] bytes) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int size = inflater.inflate(buffer);
+                if (size == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    throw new IllegalStateException("손상된 채팅 transcript 데이터");
+                out.write(buffer, 0, size);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 채팅 transcript 데이터", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
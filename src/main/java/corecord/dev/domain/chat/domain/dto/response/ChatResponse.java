@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -23,7 +24,8 @@ public class ChatResponse {
     @AllArgsConstructor
     @Data
     public static class ChatDto {
-        private Long chatId;
+        private Long chatId; // 템플릿으로 렌더링한 인사말, 가이드 채팅은 null
+        private String type; // chat, greeting, guide
         private String content;
     }
 
@@ -33,6 +35,7 @@ public class ChatResponse {
     @Data
     public static class ChatListDto {
         private List<ChatDetailDto> chats;
+        private boolean hasPrevious; // 이전 채팅이 남아있는지 (beforeChatId/limit 조회 시)
     }
 
     @Builder
@@ -40,7 +43,8 @@ public class ChatResponse {
     @AllArgsConstructor
     @Data
     public static class ChatDetailDto {
-        private Long chatId;
+        private Long chatId; // 템플릿으로 렌더링한 인사말, 가이드 채팅은 null (커서는 chat_id가 있는 채팅 기준)
+        private String type; // chat, greeting, guide
         private String author;
         private String content;
         private String created_at;
@@ -49,6 +53,7 @@ public class ChatResponse {
     @Builder
     @Getter
     @AllArgsConstructor
+    @NoArgsConstructor
     @Data
     public static class ChatSummaryDto {
         private Long chatRoomId;
@@ -29,4 +29,7 @@ public class Chat extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "chat_room_id", nullable = false)
     private ChatRoom chatRoom;
+
+    @Transient
+    private ChatTemplate template; // 템플릿으로 렌더링한 인사말, 가이드 채팅 (chat 행이 아니므로 chatId 없음)
 }
@@ -30,4 +30,24 @@ public class ChatRoom extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    // 인사말 템플릿과 파라미터 (기존 채팅방은 null이며 인사말이 chat 행으로 저장되어 있음)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "greeting_template", length = 30)
+    private ChatTemplate greetingTemplate;
+
+    @Column(name = "nick_name")
+    private String nickName;
+
+    // 가이드를 요청한 사용자 채팅 id (가이드 채팅은 이 채팅 바로 뒤에 렌더링)
+    @Column(name = "guide_chat_id")
+    private Long guideChatId;
+
+    // 채팅이 transcript로 압축된 적이 있으면 true, 조회 시 transcript는 이 경우에만 읽음
+    @Column(name = "compacted", nullable = false)
+    private boolean compacted;
+
+    public void updateGuideChatId(Long guideChatId) {
+        this.guideChatId = guideChatId;
+    }
 }
@@ -0,0 +1,26 @@
+package corecord.dev.domain.chat.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+ * chat 행으로 저장하지 않고 조회, 프롬프트 생성 시점에 렌더링하는 고정 시스템 채팅
+ */
+@Getter
+@AllArgsConstructor
+public enum ChatTemplate {
+    GREETING("안녕하세요! %s님\n오늘은 어떤 경험을 했나요?\n저와 함께 정리해보아요!"),
+    GUIDE_REASSURE("걱정 마세요!\n저와 대화하다 보면 경험이 정리될 거예요\uD83D\uDCDD"),
+    GUIDE_QUESTION("오늘은 어떤 경험을 했나요?\n상황과 해결한 문제를 말해주세요!");
+
+    // 가이드 요청 시 순서대로 보여주는 채팅
+    public static final List<ChatTemplate> GUIDE_LIST = List.of(GUIDE_REASSURE, GUIDE_QUESTION);
+
+    private final String format;
+
+    public String render(Object... params) {
+        return String.format(format, params);
+    }
+}
@@ -0,0 +1,82 @@
+package corecord.dev.domain.chat.domain.entity;
+
+import corecord.dev.common.base.BaseEntity;
+import corecord.dev.domain.chat.domain.converter.ChatTranscriptCodec;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * 채팅방의 채팅을 압축된 append-only 로그 하나로 보관 (경험 기록으로 변환된 채팅방 대상)
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "chat_transcript")
+public class ChatTranscript extends BaseEntity {
+
+    @Id
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "last_chat_id", nullable = false)
+    private Long lastChatId;
+
+    @Lob
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    @Lob
+    @Column(name = "offsets", nullable = false)
+    private byte[] offsets;
+
+    public static ChatTranscript of(Long chatRoomId) {
+        return ChatTranscript.builder()
+                .chatRoomId(chatRoomId)
+                .messageCount(0)
+                .lastChatId(0L)
+                .data(ChatTranscriptCodec.compress(new byte[0]))
+                .offsets(new byte[0])
+                .build();
+    }
+
+    // chat_id 오름차순으로 정렬된 채팅을 로그 끝에 추가 (이미 포함된 chat_id는 건너뜀)
+    public void appendChatList(List<Chat> chatList) {
+        List<Chat> newChatList = chatList.stream()
+                .filter(chat -> chat.getChatId() > lastChatId)
+                .toList();
+        if (newChatList.isEmpty())
+            return;
+
+        ChatTranscriptCodec.Appended appended = ChatTranscriptCodec.append(data, offsets, newChatList);
+        this.data = appended.data();
+        this.offsets = appended.offsets();
+        this.messageCount += newChatList.size();
+        this.lastChatId = newChatList.get(newChatList.size() - 1).getChatId();
+    }
+
+    public List<Chat> toChatList(ChatRoom chatRoom) {
+        return ChatTranscriptCodec.decode(data, offsets, chatRoom);
+    }
+
+    // beforeChatId(0이면 마지막까지) 이전의 최신 채팅 size개
+    public List<Chat> toChatListBefore(ChatRoom chatRoom, Long beforeChatId, int size) {
+        return ChatTranscriptCodec.decodeBefore(data, offsets, chatRoom, beforeChatId, size);
+    }
+
+    // afterChatId 이후의 채팅 (이미 모두 받은 경우 압축 해제하지 않음)
+    public List<Chat> toChatListAfter(ChatRoom chatRoom, Long afterChatId) {
+        if (afterChatId >= lastChatId)
+            return List.of();
+        return ChatTranscriptCodec.decodeAfter(data, offsets, chatRoom, afterChatId);
+    }
+}
@@ -0,0 +1,30 @@
+package corecord.dev.domain.chat.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+@Getter
+@RedisHash(value = "tmpChat")
+@AllArgsConstructor
+@Builder
+public class TmpChat {
+    @Id
+    private Long userId;
+    private Long chatRoomId;
+
+    // 만료 시간 (초 단위)
+    @TimeToLive
+    private Long expiration;
+
+    public static TmpChat of(Long userId, Long chatRoomId, Long expiration) {
+        return TmpChat.builder()
+                .userId(userId)
+                .chatRoomId(chatRoomId)
+                .expiration(expiration)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package corecord.dev.domain.chat.domain.repository;
+
+import corecord.dev.domain.chat.domain.entity.Chat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/*
+ * write-behind 버퍼의 채팅을 JDBC batch로 저장
+ * chat_id를 미리 발급해 저장하므로 INSERT IGNORE로 재처리 시 중복 저장을 막고,
+ * 그 사이 삭제된 채팅방의 채팅(FK 위반)은 저장하지 않고 건너뜀
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatBulkRepository {
+
+    private static final String INSERT_IGNORE_CHAT =
+            "INSERT IGNORE INTO chat (chat_id, created_at, updated_at, author, content, chat_room_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIgnoreChatList(List<Chat> chatList) {
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_CHAT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Chat chat = chatList.get(i);
+                Timestamp createdAt = Timestamp.valueOf(chat.getCreatedAt());
+                ps.setLong(1, chat.getChatId());
+                ps.setTimestamp(2, createdAt);
+                ps.setTimestamp(3, createdAt);
+                ps.setInt(4, chat.getAuthor());
+                ps.setString(5, chat.getContent());
+                ps.setLong(6, chat.getChatRoom().getChatRoomId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chatList.size();
+            }
+        });
+    }
+
+    public long findMaxChatId() {
+        Long maxChatId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(chat_id), 0) FROM chat", Long.class);
+        return maxChatId == null ? 0 : maxChatId;
+    }
+}
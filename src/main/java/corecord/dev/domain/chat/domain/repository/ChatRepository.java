@@ -2,6 +2,7 @@ package corecord.dev.domain.chat.domain.repository;
 
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,23 +15,44 @@ import java.util.List;
 public interface ChatRepository extends JpaRepository<Chat, Long> {
     List<Chat> findByChatRoomOrderByChatId(ChatRoom chatRoom);
 
+    // (chat_room_id, chat_id) 인덱스 범위 조회
+    @Query("SELECT c FROM Chat c " +
+            "WHERE c.chatRoom = :chatRoom " +
+            "AND c.chatId > :after_chat_id " + // 마지막으로 받은 채팅 이후의 새 채팅만 조회
+            "ORDER BY c.chatId")
+    List<Chat> findChatsAfter(
+            @Param(value = "chatRoom") ChatRoom chatRoom,
+            @Param(value = "after_chat_id") Long afterChatId);
+
+    @Query("SELECT c FROM Chat c " +
+            "WHERE c.chatRoom = :chatRoom " +
+            "AND (:before_chat_id = 0 OR c.chatId < :before_chat_id) " + // 제일 오래된 채팅 이전부터 가져옴
+            "ORDER BY c.chatId DESC")
+    List<Chat> findChatsBefore(
+            @Param(value = "chatRoom") ChatRoom chatRoom,
+            @Param(value = "before_chat_id") Long beforeChatId,
+            Pageable pageable);
+
+    long countByChatRoom(ChatRoom chatRoom);
+
     @Modifying
     @Query("DELETE FROM Chat c WHERE c.chatRoom.chatRoomId = :chatRoomId")
     void deleteByChatRoomId(Long chatRoomId);
 
     @Modifying
-    @Query("DELETE " +
+    @Query("DELETE FROM Chat c WHERE c.chatRoom.chatRoomId IN :chatRoomIdList")
+    int deleteByChatRoomIdList(@Param(value = "chatRoomIdList") List<Long> chatRoomIdList);
+
+    @Query("SELECT c.chatId " +
             "FROM Chat c " +
-            "WHERE c.chatRoom.user.userId IN :userId")
-    void deleteChatByUserId(@Param(value = "userId") Long userId);
+            "WHERE c.chatRoom.user.userId = :userId")
+    List<Long> findChatIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
 
-    @Modifying
-    @Query(value = "DELETE c, cr, r " +
-            "FROM chat c " +
-            "JOIN chat_room cr ON cr.chat_room_id = c.chat_room_id " +
-            "JOIN record r ON r.chat_room_id = cr.chat_room_id " +
-            "WHERE r.folder_id = :folderId ",
-            nativeQuery = true)
-    void deleteChatByFolderId(@Param(value = "folderId") Long folderId);
+    @Query("SELECT c.chatId " +
+            "FROM Record r " +
+            "JOIN r.chatRoom cr " +
+            "JOIN cr.chatList c " +
+            "WHERE r.folder.folderId = :folderId")
+    List<Long> findChatIdListByFolderId(@Param(value = "folderId") Long folderId, Pageable pageable);
 
 }
@@ -2,21 +2,64 @@ package corecord.dev.domain.chat.domain.repository;
 
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
 import corecord.dev.domain.user.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findByChatRoomIdAndUser(Long chatRoomId, User user);
 
+    @Query("SELECT cr.chatRoomId " +
+            "FROM ChatRoom cr " +
+            "WHERE cr.user.userId = :userId")
+    List<Long> findChatRoomIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE ChatRoom cr " +
+            "SET cr.guideChatId = :guideChatId " +
+            "WHERE cr.chatRoomId = :chatRoomId " +
+            "AND cr.guideChatId IS NULL")
+    int updateGuideChatId(@Param(value = "chatRoomId") Long chatRoomId, @Param(value = "guideChatId") Long guideChatId);
+
     @Modifying
-    @Query("DELETE " +
+    @Query("UPDATE ChatRoom cr " +
+            "SET cr.compacted = true " +
+            "WHERE cr.chatRoomId = :chatRoomId")
+    void updateCompacted(@Param(value = "chatRoomId") Long chatRoomId);
+
+    // 경험 기록으로 변환되었고, threshold 이후 새 채팅이 없는 채팅방 중 chat 행이 남아있는 채팅방 (chat_room_id keyset)
+    @Query("SELECT cr.chatRoomId " +
+            "FROM Record r " +
+            "JOIN r.chatRoom cr " +
+            "WHERE cr.chatRoomId > :lastChatRoomId " +
+            "AND EXISTS (SELECT c.chatId FROM Chat c WHERE c.chatRoom = cr) " +
+            "AND NOT EXISTS (SELECT c.chatId FROM Chat c WHERE c.chatRoom = cr AND c.createdAt > :threshold) " +
+            "ORDER BY cr.chatRoomId")
+    List<Long> findCompactableChatRoomIdList(
+            @Param(value = "lastChatRoomId") Long lastChatRoomId,
+            @Param(value = "threshold") LocalDateTime threshold,
+            Pageable pageable);
+
+    // 경험 기록으로 변환되지 않았고, threshold 이후 활동이 없는 채팅방 (기존 user.tmp_chat 임시 저장 채팅방 제외)
+    @Query("SELECT cr " +
             "FROM ChatRoom cr " +
-            "WHERE cr.user.userId IN :userId")
-    void deleteChatRoomByUserId(@Param(value = "userId") Long userId);
+            "JOIN FETCH cr.user " +
+            "WHERE cr.chatRoomId > :lastChatRoomId " +
+            "AND cr.createdAt < :threshold " +
+            "AND NOT EXISTS (SELECT r.recordId FROM Record r WHERE r.chatRoom = cr) " +
+            "AND NOT EXISTS (SELECT u.userId FROM User u WHERE u.tmpChat = cr.chatRoomId) " +
+            "AND NOT EXISTS (SELECT c.chatId FROM Chat c WHERE c.chatRoom = cr AND c.createdAt >= :threshold) " +
+            "ORDER BY cr.chatRoomId")
+    List<ChatRoom> findAbandonedChatRoomList(
+            @Param(value = "lastChatRoomId") Long lastChatRoomId,
+            @Param(value = "threshold") LocalDateTime threshold,
+            Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package corecord.dev.domain.chat.domain.repository;
+
+import corecord.dev.domain.chat.domain.entity.ChatTranscript;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatTranscriptRepository extends JpaRepository<ChatTranscript, Long> {
+}
@@ -0,0 +1,7 @@
+package corecord.dev.domain.chat.domain.repository;
+
+import corecord.dev.domain.chat.domain.entity.TmpChat;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TmpChatRepository extends CrudRepository<TmpChat, Long> {
+}
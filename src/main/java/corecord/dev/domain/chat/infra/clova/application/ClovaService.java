@@ -4,14 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import corecord.dev.common.exception.GeneralException;
+import corecord.dev.common.metrics.LlmMetrics;
 import corecord.dev.common.status.ErrorStatus;
+import corecord.dev.common.web.CorrelationIdFilter;
 import corecord.dev.domain.chat.application.ChatAIService;
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.exception.ChatException;
 import corecord.dev.domain.chat.infra.clova.dto.request.ClovaRequest;
 import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
 import corecord.dev.domain.chat.status.ChatErrorStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
@@ -23,11 +24,10 @@ import java.util.List;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ClovaService implements ChatAIService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final WebClient webClient = WebClient.create();
+    private final WebClient webClient;
 
     @Value("${ncp.chat.host}")
     private String chatHost;
@@ -38,16 +38,23 @@ public class ClovaService implements ChatAIService {
     @Value("${ncp.chat.api-key-primary-val}")
     private String chatApiKeyPrimaryVal;
 
-    @Value("${ncp.chat.request-id}")
-    private String chatRequestId;
+    private final LlmMetrics llmMetrics;
+
+    // 커넥션 풀, 타임아웃이 설정된 공용 HttpClient를 사용 (HttpClientConfig)
+    public ClovaService(WebClient.Builder webClientBuilder, LlmMetrics llmMetrics) {
+        this.webClient = webClientBuilder.build();
+        this.llmMetrics = llmMetrics;
+    }
 
     @Override
     public String generateChatResponse(List<Chat> chatHistory, String userInput) {
         try {
             ClovaRequest clovaRequest = ClovaRequest.createChatRequest(chatHistory, userInput);
-            String responseBody = postWebClient(clovaRequest);
 
-            return parseContentFromResponse(responseBody);
+            return llmMetrics.record(LlmMetrics.CLOVA, LlmMetrics.CHAT, () -> {
+                String responseBody = postWebClient(clovaRequest);
+                return parseContentFromResponse(LlmMetrics.CHAT, responseBody);
+            });
         } catch (WebClientException e) {
             log.error("채팅 AI 응답 생성 실패", e);
             throw new ChatException(ChatErrorStatus.AI_RESPONSE_ERROR);
@@ -58,10 +65,12 @@ public class ClovaService implements ChatAIService {
     public ChatSummaryAiResponse generateChatSummaryResponse(List<Chat> chatHistory) {
         try {
             ClovaRequest clovaRequest = ClovaRequest.createChatSummaryRequest(chatHistory);
-            String responseBody = postWebClient(clovaRequest);
-            String aiResponse = parseContentFromResponse(responseBody);
 
-            return parseChatSummaryResponse(aiResponse);
+            return llmMetrics.record(LlmMetrics.CLOVA, LlmMetrics.CHAT_SUMMARY, () -> {
+                String responseBody = postWebClient(clovaRequest);
+                String aiResponse = parseContentFromResponse(LlmMetrics.CHAT_SUMMARY, responseBody);
+                return parseChatSummaryResponse(aiResponse);
+            });
         } catch (WebClientException e) {
             log.error("채팅 AI 응답 생성 실패", e);
             throw new ChatException(ChatErrorStatus.AI_RESPONSE_ERROR);
@@ -73,7 +82,7 @@ public class ClovaService implements ChatAIService {
                 .uri(chatHost)
                 .header("X-NCP-CLOVASTUDIO-API-KEY", chatApiKey)
                 .header("X-NCP-APIGW-API-KEY", chatApiKeyPrimaryVal)
-                .header("X-NCP-CLOVASTUDIO-REQUEST-ID", chatRequestId)
+                .header("X-NCP-CLOVASTUDIO-REQUEST-ID", CorrelationIdFilter.currentRequestId())
                 .header("Content-Type", "application/json; charset=utf-8")
                 .header("Accept", "application/json")
                 .bodyValue(clovaRequest)
@@ -92,10 +101,16 @@ public class ClovaService implements ChatAIService {
                 .block();
     }
 
-    private String parseContentFromResponse(String responseBody) {
+    private String parseContentFromResponse(String operation, String responseBody) {
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode messageContent = root.path("result").path("message").path("content");
+            JsonNode result = objectMapper.readTree(responseBody).path("result");
+
+            // 토큰 사용량 기록 (inputLength: 입력 토큰 수, outputLength: 출력 토큰 수)
+            llmMetrics.recordTokens(LlmMetrics.CLOVA, operation,
+                    result.hasNonNull("inputLength") ? result.get("inputLength").asLong() : null,
+                    result.hasNonNull("outputLength") ? result.get("outputLength").asLong() : null);
+
+            JsonNode messageContent = result.path("message").path("content");
             return messageContent.asText();
         } catch (Exception e) {
             log.error("응답 파싱 실패", e);
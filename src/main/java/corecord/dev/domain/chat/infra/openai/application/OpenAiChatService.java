@@ -2,6 +2,7 @@ package corecord.dev.domain.chat.infra.openai.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.common.metrics.LlmMetrics;
 import corecord.dev.common.util.ResourceLoader;
 import corecord.dev.domain.chat.application.ChatAIService;
 import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
@@ -9,6 +10,9 @@ import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.exception.ChatException;
 import corecord.dev.domain.chat.status.ChatErrorStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
@@ -22,6 +26,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OpenAiChatService implements ChatAIService {
     private final OpenAiChatModel chatModel;
+    private final LlmMetrics llmMetrics;
     private static final String CHAT_SYSTEM_CONTENT = ResourceLoader.getResourceContent("chat-prompt.txt");
     private static final String SUMMARY_SYSTEM_CONTENT = ResourceLoader.getResourceContent("chat-summary-prompt.txt");
 
@@ -44,7 +49,8 @@ public class OpenAiChatService implements ChatAIService {
         // 사용자 입력 추가
         messages.add(Map.of("role", "user", "content", userContent));
 
-        return chatModel.call(String.valueOf(messages));
+        return llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.CHAT,
+                () -> call(LlmMetrics.CHAT, String.valueOf(messages)));
     }
 
     @Override
@@ -63,9 +69,18 @@ public class OpenAiChatService implements ChatAIService {
             messages.add(Map.of("role", role, "content", chat.getContent()));
         }
 
-        String response = chatModel.call(String.valueOf(messages));
+        return llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.CHAT_SUMMARY, () -> {
+            String response = call(LlmMetrics.CHAT_SUMMARY, String.valueOf(messages));
+            return parseChatSummaryResponse(response);
+        });
+    }
 
-        return parseChatSummaryResponse(response);
+    // 응답의 토큰 사용량을 기록하고 응답 내용을 반환
+    private String call(String operation, String message) {
+        ChatResponse response = chatModel.call(new Prompt(message));
+        Usage usage = response.getMetadata().getUsage();
+        llmMetrics.recordTokens(LlmMetrics.OPENAI, operation, usage.getPromptTokens(), usage.getGenerationTokens());
+        return response.getResult().getOutput().getContent();
     }
 
     private ChatSummaryAiResponse parseChatSummaryResponse(String aiResponse) {
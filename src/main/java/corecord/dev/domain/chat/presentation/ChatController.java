@@ -40,9 +40,12 @@ public class ChatController {
     @GetMapping("/{chatRoomId}")
     public ResponseEntity<ApiResponse<ChatResponse.ChatListDto>> getChatList(
             @UserId Long userId,
-            @PathVariable(name = "chatRoomId") Long chatRoomId
+            @PathVariable(name = "chatRoomId") Long chatRoomId,
+            @RequestParam(name = "afterChatId", required = false) Long afterChatId,
+            @RequestParam(name = "beforeChatId", required = false) Long beforeChatId,
+            @RequestParam(name = "limit", required = false) Integer limit
     ) {
-        ChatResponse.ChatListDto chatListDto = chatService.getChatList(userId, chatRoomId);
+        ChatResponse.ChatListDto chatListDto = chatService.getChatList(userId, chatRoomId, afterChatId, beforeChatId, limit);
         return ApiResponse.success(ChatSuccessStatus.GET_CHAT_SUCCESS, chatListDto);
     }
 
@@ -18,7 +18,9 @@ public enum ChatErrorStatus implements BaseErrorStatus {
     INVALID_CHAT_RESPONSE(HttpStatus.BAD_REQUEST, "E0305_INVALID_CHAT_RESPONSE", "채팅 응답 파싱 중 오류가 발생했습니다."),
     AI_RESPONSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E0500_CHAT_AI_RESPONSE_ERROR", "AI 응답 생성 중 오류가 발생했습니다."),
     AI_CLIENT_ERROR(HttpStatus.BAD_REQUEST, "E0400_AI_CLIENT_ERROR", "AI 클라이언트 요청 오류가 발생했습니다."),
-    AI_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E0500_CHAT_SERVER_ERROR", "AI 서버에 오류가 발생했습니다."),;
+    AI_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E0500_CHAT_SERVER_ERROR", "AI 서버에 오류가 발생했습니다."),
+    INVALID_CHAT_CURSOR(HttpStatus.BAD_REQUEST, "E0303_INVALID_CHAT_CURSOR", "채팅 조회 범위가 올바르지 않습니다."),
+    CHAT_ROOM_BUSY(HttpStatus.TOO_MANY_REQUESTS, "E0429_CHAT_ROOM_BUSY", "이전 채팅에 대한 답변을 생성 중입니다. 잠시 후 다시 시도해주세요."),;
 
     private final HttpStatus httpStatus;
     private final String code;
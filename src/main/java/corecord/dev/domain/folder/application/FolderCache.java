@@ -0,0 +1,112 @@
+package corecord.dev.domain.folder.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import corecord.dev.domain.folder.domain.dto.response.FolderResponse;
+import corecord.dev.domain.folder.domain.repository.FolderRepository;
+import corecord.dev.domain.user.domain.entity.User;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+ * 유저별 폴더명 -> folderId 캐시
+ * 폴더 생성, 수정, 삭제 시 무효화하고 Redis pub/sub으로 다른 서버의 캐시도 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FolderCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "folderCache:invalidation";
+
+    private final FolderRepository folderRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${folder.cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${folder.cache.expire-after-write}")
+    private Duration expireAfterWrite;
+
+    private Cache<Long, Map<String, Long>> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<Long> findFolderId(User user, String title) {
+        Map<String, Long> folderIdMap = cache.get(user.getUserId(), userId -> loadFolderIdMap(user));
+        return Optional.ofNullable(folderIdMap.get(title));
+    }
+
+    private Map<String, Long> loadFolderIdMap(User user) {
+        return folderRepository.findFolderDtoList(user).stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        FolderResponse.FolderDto::getTitle,
+                        FolderResponse.FolderDto::getFolderId,
+                        (origin, duplicate) -> origin));
+    }
+
+    /*
+     * 트랜잭션 커밋 이후 유저의 폴더 캐시를 무효화하고 다른 서버에 무효화 메시지 발행
+     * @param userId
+     */
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndPublish(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndPublish(userId);
+            }
+        });
+    }
+
+    private void evictAndPublish(Long userId) {
+        cache.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + userId);
+        } catch (RuntimeException e) {
+            // 발행 실패 시 다른 서버의 캐시는 만료 시간 이후 갱신
+            log.warn("폴더 캐시 무효화 메시지 발행 실패 userId: {}", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (body.length != 2 || body[0].equals(nodeId))
+            return;
+
+        cache.invalidate(Long.parseLong(body[1]));
+    }
+}
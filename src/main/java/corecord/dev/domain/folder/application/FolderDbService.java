@@ -1,5 +1,6 @@
 package corecord.dev.domain.folder.application;
 
+import corecord.dev.common.cache.EntityCacheInvalidator;
 import corecord.dev.domain.folder.domain.dto.response.FolderResponse;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.folder.domain.repository.FolderRepository;
@@ -7,6 +8,7 @@ import corecord.dev.domain.folder.exception.FolderException;
 import corecord.dev.domain.folder.status.FolderErrorStatus;
 import corecord.dev.domain.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FolderDbService {
     private final FolderRepository folderRepository;
+    private final FolderCache folderCache;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     @Transactional
     public void saveFolder(Folder folder) {
@@ -24,24 +28,71 @@ public class FolderDbService {
 
     @Transactional
     public void deleteFolder(Folder folder) {
-        folderRepository.delete(folder);
+        folder.delete();
     }
 
     @Transactional
-    public void deleteFolderByUserId(Long userId) {
-        folderRepository.deleteFolderByUserId(userId);
+    public void increaseRecordCount(Folder folder) {
+        folderRepository.updateRecordCount(folder.getFolderId(), 1);
+        entityCacheInvalidator.evict(Folder.class, folder.getFolderId());
+    }
+
+    @Transactional
+    public void decreaseRecordCount(Folder folder) {
+        folderRepository.updateRecordCount(folder.getFolderId(), -1);
+        entityCacheInvalidator.evict(Folder.class, folder.getFolderId());
+    }
+
+    @Transactional
+    public int reconcileRecordCount(Long fromId, Long toId) {
+        int updated = folderRepository.reconcileRecordCount(fromId, toId);
+        if (updated > 0)
+            entityCacheInvalidator.evictAll(Folder.class);
+        return updated;
+    }
+
+    public List<Long> findUserIdListByFolderIdRange(Long fromId, Long toId) {
+        return folderRepository.findUserIdListByFolderIdRange(fromId, toId);
+    }
+
+    public Long findMaxFolderId() {
+        return folderRepository.findMaxFolderId();
+    }
+
+    @Transactional
+    public void deleteFolderById(Long folderId) {
+        folderRepository.deleteFolderById(folderId);
+        entityCacheInvalidator.evict(Folder.class, folderId);
+    }
+
+    @Transactional
+    public int deleteFolderByUserId(Long userId, int batchSize) {
+        List<Long> folderIdList = folderRepository.findFolderIdListByUserId(userId, PageRequest.of(0, batchSize));
+        folderRepository.deleteAllByIdInBatch(folderIdList);
+        return folderIdList.size();
+    }
+
+    public void evictFolderCache(User user) {
+        folderCache.evict(user.getUserId());
     }
 
     public Folder findFolderByTitle(User user, String title) {
-        return folderRepository.findFolderByTitle(title, user)
+        // 폴더 캐시에서 folderId를 찾아 조회 쿼리 없이 참조 반환
+        Long folderId = folderCache.findFolderId(user, title)
                 .orElseThrow(() -> new FolderException(FolderErrorStatus.FOLDER_NOT_FOUND));
+        return folderRepository.getReferenceById(folderId);
     }
 
     public Folder findFolderById(Long folderId) {
         return folderRepository.findById(folderId)
+                .filter(folder -> !folder.isDeleted()) // 삭제 처리된 폴더 제외
                 .orElseThrow(() -> new FolderException(FolderErrorStatus.FOLDER_NOT_FOUND));
     }
 
+    public List<Long> findDeletedFolderIdList(int size) {
+        return folderRepository.findDeletedFolderIdList(PageRequest.of(0, size));
+    }
+
     public List<FolderResponse.FolderDto> findFolderDtoList(User user) {
         return folderRepository.findFolderDtoList(user);
     }
@@ -0,0 +1,74 @@
+package corecord.dev.domain.folder.application;
+
+import corecord.dev.domain.ability.application.AbilityDbService;
+import corecord.dev.domain.analysis.application.AnalysisDbService;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.record.application.RecordDbService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FolderPurgeService {
+
+    private final FolderDbService folderDbService;
+    private final AbilityDbService abilityDbService;
+    private final AnalysisDbService analysisDbService;
+    private final ChatDbService chatDbService;
+    private final RecordDbService recordDbService;
+
+    @Value("${purge.batch-size}")
+    private int batchSize;
+
+    @Value("${purge.folder.size}")
+    private int folderSize;
+
+    /*
+     * 삭제 처리된 폴더의 데이터를 주기적으로 삭제
+     */
+    @Scheduled(fixedDelayString = "${purge.folder.fixed-delay}")
+    public void purgeDeletedFolders() {
+        List<Long> folderIdList = folderDbService.findDeletedFolderIdList(folderSize);
+
+        for (Long folderId : folderIdList) {
+            try {
+                purgeFolder(folderId);
+            } catch (RuntimeException e) {
+                // 실패한 폴더는 다음 주기에 다시 삭제
+                log.error("폴더 데이터 삭제 실패 folderId: {}", folderId, e);
+            }
+        }
+    }
+
+    /*
+     * 폴더에 속한 역량, 경험 분석, 채팅, 경험 기록, 채팅방을 batchSize 만큼씩 삭제한 후 폴더 삭제
+     * @param folderId
+     */
+    public void purgeFolder(Long folderId) {
+        int purgedCount = 0;
+        purgedCount += purgeStep(() -> abilityDbService.deleteAbilityByFolderId(folderId, batchSize));
+        purgedCount += purgeStep(() -> analysisDbService.deleteAnalysisByFolderId(folderId, batchSize));
+        purgedCount += purgeStep(() -> chatDbService.deleteChatByFolderId(folderId, batchSize));
+        purgedCount += purgeStep(() -> recordDbService.deleteRecordByFolderId(folderId, batchSize));
+
+        folderDbService.deleteFolderById(folderId);
+        log.info("폴더 데이터 삭제 완료 folderId: {}, purgedCount: {}", folderId, purgedCount);
+    }
+
+    private int purgeStep(IntSupplier deleteBatch) {
+        int purgedCount = 0;
+        int deletedCount;
+        do {
+            deletedCount = deleteBatch.getAsInt();
+            purgedCount += deletedCount;
+        } while (deletedCount == batchSize);
+        return purgedCount;
+    }
+}
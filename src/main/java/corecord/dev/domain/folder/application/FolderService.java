@@ -1,15 +1,12 @@
 package corecord.dev.domain.folder.application;
 
-import corecord.dev.domain.ability.application.AbilityDbService;
-import corecord.dev.domain.analysis.application.AnalysisDbService;
-import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.folder.domain.converter.FolderConverter;
 import corecord.dev.domain.folder.domain.dto.request.FolderRequest;
 import corecord.dev.domain.folder.domain.dto.response.FolderResponse;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.folder.status.FolderErrorStatus;
 import corecord.dev.domain.folder.exception.FolderException;
-import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -25,10 +22,7 @@ import java.util.List;
 public class FolderService {
     private final FolderDbService folderDbService;
     private final UserDbService userDbService;
-    private final AnalysisDbService analysisDbService;
-    private final AbilityDbService abilityDbService;
-    private final ChatDbService chatDbService;
-    private final RecordDbService recordDbService;
+    private final DataVersionManager dataVersionManager;
 
 
     /*
@@ -47,13 +41,16 @@ public class FolderService {
         // folder 객체 생성 및 User 연관관계 설정
         Folder folder = FolderConverter.toFolderEntity(title, user);
         folderDbService.saveFolder(folder);
+        folderDbService.evictFolderCache(user);
+        dataVersionManager.bump(user.getUserId());
 
         List<FolderResponse.FolderDto> folderList = folderDbService.findFolderDtoList(user);
         return FolderConverter.toFolderDtoList(folderList);
     }
 
     /*
-     * folderId를 받아 folder를 삭제한 후 생성 순 폴더 리스트 반환
+     * folderId를 받아 folder를 삭제 처리한 후 생성 순 폴더 리스트 반환
+     * 폴더에 속한 데이터는 FolderPurgeService에서 비동기로 삭제
      * @param userId, folderId
      * @return
      */
@@ -65,11 +62,11 @@ public class FolderService {
         // User-Folder 권한 유효성 검증
         validIsUserAuthorizedForFolder(user, folder);
 
-        abilityDbService.deleteAbilityByFolder(folder);
-        analysisDbService.deleteAnalysisByFolder(folder);
-        chatDbService.deleteChatRoomByFolder(folder);
-        recordDbService.deleteRecordByFolder(folder);
+        // 삭제 처리된 폴더의 경험 기록은 조회되지 않으므로 유저의 경험 기록 수에서 제외
+        userDbService.decreaseRecordCountByFolder(folder);
         folderDbService.deleteFolder(folder);
+        folderDbService.evictFolderCache(user);
+        dataVersionManager.bump(user.getUserId());
 
         List<FolderResponse.FolderDto> folderList = folderDbService.findFolderDtoList(user);
         return FolderConverter.toFolderDtoList(folderList);
@@ -93,6 +90,8 @@ public class FolderService {
         validIsUserAuthorizedForFolder(user, folder);
 
         folder.updateTitle(title);
+        folderDbService.evictFolderCache(user);
+        dataVersionManager.bump(user.getUserId());
 
         List<FolderResponse.FolderDto> folderList = folderDbService.findFolderDtoList(user);
         return FolderConverter.toFolderDtoList(folderList);
@@ -19,6 +19,7 @@ public class FolderConverter {
         return FolderResponse.FolderDto.builder()
                 .folderId(folder.getFolderId())
                 .title(folder.getTitle())
+                .recordCount(folder.getRecordCount())
                 .build();
     }
 
@@ -14,6 +14,7 @@ public class FolderResponse {
     public static class FolderDto {
         private Long folderId;
         private String title;
+        private int recordCount;
     }
 
     @Builder @Getter
@@ -8,15 +8,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+// 삭제 처리된 폴더와 이름이 겹칠 수 있어 (user, title)은 natural id로 두지 않음
+// 폴더명 조회는 FolderCache에서 folderId를 얻어 2차 캐시로 조회, 무효화는 EntityCacheInvalidator 참고
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "folder")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "folder")
 public class Folder extends BaseEntity {
 
     @Id
@@ -27,6 +35,11 @@ public class Folder extends BaseEntity {
     @Column(name = "title", nullable = false, length = 15)
     private String title;
 
+    // 폴더에 속한 경험 기록 수(역량 분석 전인 가져오기 기록 제외), 네이티브 쿼리로만 증감
+    @ColumnDefault("0")
+    @Column(name = "record_count", nullable = false, insertable = false, updatable = false)
+    private int recordCount;
+
     @OneToMany(mappedBy = "folder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Record> records;
 
@@ -34,7 +47,19 @@ public class Folder extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 삭제 처리 시각, 연관 데이터는 FolderPurgeService에서 비동기로 삭제
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public void updateTitle(String title) {
         this.title = title;
     }
+
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
 }
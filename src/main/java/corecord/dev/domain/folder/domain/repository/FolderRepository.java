@@ -1,12 +1,16 @@
 package corecord.dev.domain.folder.domain.repository;
 
+import corecord.dev.common.cache.EntityCacheInvalidator;
 import corecord.dev.domain.folder.domain.dto.response.FolderResponse;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.user.domain.entity.User;
-import jakarta.validation.Valid;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,31 +20,83 @@ import java.util.Optional;
 @Repository
 public interface FolderRepository extends JpaRepository<Folder, Long> {
 
-    @Query("SELECT new corecord.dev.domain.folder.domain.dto.response.FolderResponse$FolderDto(f.folderId, f.title) " +
+    @Query("SELECT new corecord.dev.domain.folder.domain.dto.response.FolderResponse$FolderDto(f.folderId, f.title, f.recordCount) " +
             "FROM Folder f " +
             "WHERE f.user = :user " +
-            "ORDER BY f.createdAt desc ")
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            "ORDER BY f.folderId desc ")
     List<FolderResponse.FolderDto> findFolderDtoList(@Param(value = "user") User user);
 
     @Query("SELECT f " +
             "FROM Folder f " +
-            "WHERE f.title = :title AND f.user = :user ")
+            "WHERE f.title = :title AND f.user = :user " +
+            "AND f.deletedAt is null ")
     Optional<Folder> findFolderByTitle(
             @Param(value = "title") String title,
             @Param(value = "user") User user);
 
-    boolean existsByTitleAndUser(String title, User user);
+    @Query("SELECT COUNT(f) > 0 " +
+            "FROM Folder f " +
+            "WHERE f.title = :title AND f.user = :user " +
+            "AND f.deletedAt is null ")
+    boolean existsByTitleAndUser(
+            @Param(value = "title") String title,
+            @Param(value = "user") User user);
+
+    @Query("SELECT f.folderId " +
+            "FROM Folder f " +
+            "WHERE f.deletedAt is not null " + // 삭제 처리된 폴더
+            "ORDER BY f.deletedAt")
+    List<Long> findDeletedFolderIdList(Pageable pageable);
+
+    @Query("SELECT f.folderId " +
+            "FROM Folder f " +
+            "WHERE f.user.userId = :userId")
+    List<Long> findFolderIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
+
 
     @Modifying
-    @Query("DELETE " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheInvalidator.RECORD_COUNT_SPACE))
+    @Query(value = "UPDATE folder " +
+            "SET record_count = GREATEST(record_count + :delta, 0) " +
+            "WHERE folder_id = :folderId",
+            nativeQuery = true)
+    void updateRecordCount(
+            @Param(value = "folderId") Long folderId,
+            @Param(value = "delta") int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheInvalidator.RECORD_COUNT_SPACE))
+    @Query(value = "UPDATE folder f " +
+            "LEFT JOIN (" +
+            "SELECT r.folder_id, COUNT(*) AS cnt " +
+            "FROM record r " +
+            "JOIN analysis a ON a.record_id = r.record_id " + // 역량 분석 전인 가져오기 기록 제외
+            "WHERE r.folder_id BETWEEN :from_id AND :to_id " +
+            "GROUP BY r.folder_id) c ON c.folder_id = f.folder_id " +
+            "SET f.record_count = COALESCE(c.cnt, 0) " +
+            "WHERE f.folder_id BETWEEN :from_id AND :to_id " +
+            "AND f.deleted_at IS NULL " +
+            "AND f.record_count <> COALESCE(c.cnt, 0)", // 실제 개수와 다른 폴더만 수정
+            nativeQuery = true)
+    int reconcileRecordCount(
+            @Param(value = "from_id") Long fromId,
+            @Param(value = "to_id") Long toId);
+
+    @Query("SELECT DISTINCT f.user.userId " +
             "FROM Folder f " +
-            "WHERE f.user.userId IN :userId")
-    void deleteFolderByUserId(@Param(value = "userId") Long userId);
+            "WHERE f.folderId BETWEEN :fromId AND :toId " +
+            "AND f.deletedAt is null")
+    List<Long> findUserIdListByFolderIdRange(
+            @Param(value = "fromId") Long fromId,
+            @Param(value = "toId") Long toId);
 
+    @Query("SELECT COALESCE(MAX(f.folderId), 0) FROM Folder f")
+    Long findMaxFolderId();
 
     @Modifying
     @Query("DELETE " +
             "FROM Folder f " +
-            "WHERE f = :folder")
-    void delete(@Param(value = "folder") Folder folder);
+            "WHERE f.folderId = :folderId")
+    void deleteFolderById(@Param(value = "folderId") Long folderId);
 }
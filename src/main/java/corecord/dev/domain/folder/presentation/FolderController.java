@@ -1,6 +1,7 @@
 package corecord.dev.domain.folder.presentation;
 
 import corecord.dev.common.response.ApiResponse;
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.common.web.UserId;
 import corecord.dev.domain.folder.status.FolderSuccessStatus;
 import corecord.dev.domain.folder.domain.dto.request.FolderRequest;
@@ -9,6 +10,7 @@ import corecord.dev.domain.folder.application.FolderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/folders")
 public class FolderController {
     private final FolderService folderService;
+    private final DataVersionManager dataVersionManager;
 
     @PostMapping("")
     public ResponseEntity<ApiResponse<FolderResponse.FolderDtoList>> createFolder(
@@ -37,8 +40,11 @@ public class FolderController {
 
     @GetMapping("")
     public ResponseEntity<ApiResponse<FolderResponse.FolderDtoList>> getFolders(
-            @UserId Long userId
+            @UserId Long userId,
+            ServletWebRequest webRequest
     ) {
+        if (dataVersionManager.checkNotModified(userId, webRequest))
+            return null;
         FolderResponse.FolderDtoList folderResponse = folderService.getFolderList(userId);
         return ApiResponse.success(FolderSuccessStatus.FOLDER_GET_SUCCESS, folderResponse);
     }
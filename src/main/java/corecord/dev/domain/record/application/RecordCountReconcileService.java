@@ -0,0 +1,61 @@
+package corecord.dev.domain.record.application;
+
+import corecord.dev.common.web.DataVersionManager;
+import corecord.dev.domain.folder.application.FolderDbService;
+import corecord.dev.domain.user.application.UserDbService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordCountReconcileService {
+
+    private final FolderDbService folderDbService;
+    private final UserDbService userDbService;
+    private final DataVersionManager dataVersionManager;
+
+    @Value("${record-count.reconcile.range-size}")
+    private int rangeSize;
+
+    /*
+     * 폴더, 유저의 경험 기록 수를 실제 경험 기록 개수와 비교해 어긋난 값을 보정
+     * 경험 기록 수는 기록 저장, 삭제와 같은 트랜잭션에서 증감하며, 이 작업은 수동 수정 등으로 어긋난 값을 위한 안전장치
+     * id 범위 단위로 나누어 트랜잭션을 분리하고, 보정된 범위의 유저는 데이터 버전을 올려 이전 ETag를 무효화
+     */
+    @Scheduled(
+            initialDelayString = "${record-count.reconcile.initial-delay}",
+            fixedDelayString = "${record-count.reconcile.fixed-delay}")
+    public void reconcileRecordCount() {
+        int folderCount = reconcile(folderDbService.findMaxFolderId(),
+                folderDbService::reconcileRecordCount, folderDbService::findUserIdListByFolderIdRange);
+        int userCount = reconcile(userDbService.findMaxUserId(),
+                userDbService::reconcileRecordCount, userDbService::findUserIdListByUserIdRange);
+
+        log.info("경험 기록 수 보정 완료 folder: {}, user: {}", folderCount, userCount);
+    }
+
+    /*
+     * UPDATE 결과로는 어떤 행이 바뀌었는지 알 수 없으므로, 보정된 행이 있는 범위의 유저 전체의 데이터 버전을 증가
+     * 보정 트랜잭션이 커밋된 뒤에 조회, 증가하므로 이전 값이 새 ETag로 캐시되지 않음
+     */
+    private int reconcile(Long maxId,
+                          BiFunction<Long, Long, Integer> reconcileRange,
+                          BiFunction<Long, Long, List<Long>> findUserIdList) {
+        int reconciledCount = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += rangeSize) {
+            long toId = fromId + rangeSize - 1;
+            int updated = reconcileRange.apply(fromId, toId);
+            if (updated > 0)
+                findUserIdList.apply(fromId, toId).forEach(dataVersionManager::bump);
+            reconciledCount += updated;
+        }
+        return reconciledCount;
+    }
+}
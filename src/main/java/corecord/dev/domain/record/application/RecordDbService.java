@@ -1,31 +1,60 @@
 package corecord.dev.domain.record.application;
 
 import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.folder.application.FolderDbService;
 import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.record.domain.dto.request.RecordRequest;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.TmpMemo;
+import corecord.dev.domain.record.domain.repository.RecordBulkRepository;
 import corecord.dev.domain.record.domain.repository.RecordRepository;
+import corecord.dev.domain.record.domain.repository.TmpMemoRepository;
 import corecord.dev.domain.record.exception.RecordException;
 import corecord.dev.domain.record.status.RecordErrorStatus;
+import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class RecordDbService {
     private final RecordRepository recordRepository;
+    private final TmpMemoRepository tmpMemoRepository;
+    private final RecordBulkRepository recordBulkRepository;
+    private final ChatDbService chatDbService;
+    private final FolderDbService folderDbService;
+    private final UserDbService userDbService;
+
+    @Value("${draft.ttl}")
+    private long draftTtl;
 
     private final int listSize = 30;
 
+    // 경험 기록 저장과 폴더, 유저의 경험 기록 수 증가를 한 트랜잭션에서 수행
     @Transactional
-    public Record saveRecord(Record record) {
-        return recordRepository.save(record);
+    public Record saveRecordAndIncreaseCount(Record record, Folder folder, User user) {
+        Record savedRecord = recordRepository.save(record);
+        folderDbService.increaseRecordCount(folder);
+        userDbService.increaseRecordCount(user);
+        return savedRecord;
+    }
+
+    @Transactional
+    public List<Long> saveMemoRecordList(User user, Folder folder, List<RecordRequest.ImportMemoDto> recordList) {
+        return recordBulkRepository.insertMemoRecordList(user.getUserId(), folder.getFolderId(), recordList);
     }
 
     @Transactional
@@ -34,17 +63,53 @@ public class RecordDbService {
     }
 
     @Transactional
-    public void deleteRecordByUserId(Long userId) {
-        recordRepository.deleteRecordByUserId(userId);
+    public int deleteRecordByUserId(Long userId, int batchSize) {
+        List<Long> recordIdList = recordRepository.findRecordIdListByUserId(userId, PageRequest.of(0, batchSize));
+        recordRepository.deleteAllByIdInBatch(recordIdList);
+        return recordIdList.size();
+    }
+
+    @Transactional
+    public void deleteRecordList(List<Long> recordIdList) {
+        recordRepository.deleteAllByIdInBatch(recordIdList);
+    }
+
+    public List<Long> findOrphanTmpRecordIdList(Long lastRecordId, LocalDateTime threshold, int size) {
+        return recordRepository.findOrphanTmpRecordIdList(lastRecordId, threshold, PageRequest.of(0, size));
     }
 
+    /*
+     * 폴더의 경험 기록을 batchSize 만큼 삭제하고, 채팅 경험 기록이 참조하던 채팅방도 같은 트랜잭션에서 삭제
+     * @param folderId, batchSize
+     * @return 삭제한 경험 기록 수
+     */
     @Transactional
-    public void deleteRecordByFolder(Folder folder) {
-        recordRepository.deleteRecordByFolder(folder);
+    public int deleteRecordByFolderId(Long folderId, int batchSize) {
+        List<Long> recordIdList = recordRepository.findRecordIdListByFolderId(folderId, PageRequest.of(0, batchSize));
+        if (recordIdList.isEmpty())
+            return 0;
+        List<Long> chatRoomIdList = recordRepository.findChatRoomIdListByRecordIdList(recordIdList);
+
+        // 채팅 경험 기록이 참조하는 채팅방은 기록 삭제 후 삭제
+        recordRepository.deleteAllByIdInBatch(recordIdList);
+        chatDbService.deleteChatRoomList(chatRoomIdList);
+        return recordIdList.size();
     }
 
-    public int getRecordCount(User user) {
-        return recordRepository.getRecordCount(user);
+    public void saveTmpMemo(Long userId, String title, String content) {
+        tmpMemoRepository.save(TmpMemo.of(userId, title, content, draftTtl));
+    }
+
+    public Optional<TmpMemo> findTmpMemo(Long userId) {
+        return tmpMemoRepository.findById(userId);
+    }
+
+    public boolean existsTmpMemo(Long userId) {
+        return tmpMemoRepository.existsById(userId);
+    }
+
+    public void deleteTmpMemo(Long userId) {
+        tmpMemoRepository.deleteById(userId);
     }
 
     @Transactional
@@ -52,33 +117,38 @@ public class RecordDbService {
         record.updateTitle(title);
     }
 
+    // 호출하는 쪽의 트랜잭션 안에서 Stream을 모두 소비하고 닫아야 함
+    public Stream<RecordResponse.RecordExportDto> streamRecordExportList(Long userId) {
+        return recordRepository.streamRecordExportList(userId);
+    }
+
     public Record findRecordById(Long recordId) {
         return recordRepository.findRecordById(recordId)
                 .orElseThrow(() -> new RecordException(RecordErrorStatus.RECORD_NOT_FOUND));
     }
 
-    public Record findTmpRecordById(Long recordId) {
+    public Optional<Record> findTmpRecordById(Long recordId) {
         return recordRepository.findById(recordId)
-                .orElseThrow(() -> new RecordException(RecordErrorStatus.RECORD_NOT_FOUND));
+                .filter(record -> record.getFolder() == null); // 폴더가 없는 임시 저장 기록만 조회
     }
 
-    public List<Record> findRecordListByFolder(User user, Folder folder, Long lastRecordId) {
-        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("createdAt").descending());
+    public List<RecordResponse.RecordDto> findRecordListByFolder(User user, Folder folder, Long lastRecordId) {
+        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("recordId").descending());
         return recordRepository.findRecordsByFolder(folder, user, lastRecordId, pageable);
     }
 
-    public List<Record> findRecordList(User user, Long lastRecordId) {
-        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("createdAt").descending());
+    public List<RecordResponse.RecordDto> findRecordList(User user, Long lastRecordId) {
+        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("recordId").descending());
         return recordRepository.findRecords(user, lastRecordId, pageable);
     }
 
-    public List<Record> findRecordListOrderByCreatedAt(User user) {
-        Pageable pageable = PageRequest.of(0, 6, Sort.by("createdAt").descending());
+    public List<RecordResponse.RecordDto> findRecordListOrderByCreatedAt(User user) {
+        Pageable pageable = PageRequest.of(0, 6, Sort.by("recordId").descending());
         return recordRepository.findRecordsOrderByCreatedAt(user, pageable);
     }
 
-    public List<Record> findRecordListByKeyword(User user, Keyword keyword, Long lastRecordId) {
-        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("createdAt").descending());
+    public List<RecordResponse.KeywordRecordDto> findRecordListByKeyword(User user, Keyword keyword, Long lastRecordId) {
+        Pageable pageable = PageRequest.of(0, listSize + 1, Sort.by("recordId").descending());
         return recordRepository.findRecordsByKeyword(keyword, user, lastRecordId, pageable);
     }
 }
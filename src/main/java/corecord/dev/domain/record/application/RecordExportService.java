@@ -0,0 +1,83 @@
+package corecord.dev.domain.record.application;
+
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.record.infra.export.RecordExportFormat;
+import corecord.dev.domain.record.infra.export.RecordExportWriter;
+import corecord.dev.domain.user.application.UserDbService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+@Slf4j
+public class RecordExportService {
+
+    private final RecordDbService recordDbService;
+    private final UserDbService userDbService;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public RecordExportService(RecordDbService recordDbService, UserDbService userDbService,
+                               PlatformTransactionManager transactionManager) {
+        this.recordDbService = recordDbService;
+        this.userDbService = userDbService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /*
+     * user의 전체 경험 기록을 분석, 역량 키워드와 함께 JSON 또는 CSV로 스트리밍
+     * 커서로 한 행씩 읽어 바로 출력하므로 경험 기록 수와 무관하게 메모리 사용량이 일정함
+     * @param userId, format, zip
+     * @return
+     */
+    public StreamingResponseBody exportRecordList(Long userId, RecordExportFormat format, boolean zip) {
+        // 응답이 시작되면 에러 응답을 내려줄 수 없으므로 user 검사는 스트리밍 전에 수행
+        userDbService.findUserById(userId);
+
+        return outputStream -> {
+            if (!zip) {
+                writeRecordList(userId, format, outputStream);
+                return;
+            }
+
+            ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+            zipOutputStream.putNextEntry(new ZipEntry(format.getFileName()));
+            writeRecordList(userId, format, zipOutputStream);
+            zipOutputStream.closeEntry();
+            zipOutputStream.finish();
+        };
+    }
+
+    private void writeRecordList(Long userId, RecordExportFormat format, OutputStream outputStream) throws IOException {
+        RecordExportWriter writer = format.createWriter(outputStream);
+
+        // Stream은 트랜잭션 안에서만 읽을 수 있으므로 비동기 스트리밍 스레드에서 읽기 전용 트랜잭션을 직접 시작
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<RecordResponse.RecordExportDto> rows = recordDbService.streamRecordExportList(userId)) {
+                    rows.forEach(row -> {
+                        try {
+                            writer.write(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("경험 기록 내보내기 중단 (userId={}): {}", userId, e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.finish();
+    }
+}
@@ -0,0 +1,197 @@
+package corecord.dev.domain.record.application;
+
+import corecord.dev.domain.analysis.application.AnalysisService;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.RecordImportStatus;
+import corecord.dev.domain.record.exception.RecordException;
+import corecord.dev.domain.record.status.RecordErrorStatus;
+import corecord.dev.domain.user.application.UserDbService;
+import corecord.dev.domain.user.domain.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * 일괄 가져오기로 생성된 경험 기록의 역량 분석을 전용 스레드 풀에서 순차적으로 수행
+ * 스레드 수와 호출 간 최소 간격으로 LLM 동시 호출을 제한하고, 기록별 진행 상태는 Redis hash에 보관
+ */
+@Slf4j
+@Service
+public class RecordImportService {
+
+    private static final String KEY_PREFIX = "recordImport:";
+
+    private final AnalysisService analysisService;
+    private final RecordDbService recordDbService;
+    private final UserDbService userDbService;
+    private final StringRedisTemplate redisTemplate;
+    private final ThreadPoolTaskExecutor analysisExecutor;
+    private final Duration statusTtl;
+    private final long minInterval;
+
+    // 다음 LLM 호출이 가능한 시각(ms)
+    private final AtomicLong nextCallAt = new AtomicLong();
+
+    public RecordImportService(AnalysisService analysisService, RecordDbService recordDbService,
+                               UserDbService userDbService, StringRedisTemplate redisTemplate,
+                               @Value("${record-import.status-ttl}") long statusTtl,
+                               @Value("${record-import.analysis.concurrency}") int concurrency,
+                               @Value("${record-import.analysis.queue-capacity}") int queueCapacity,
+                               @Value("${record-import.analysis.min-interval}") long minInterval) {
+        this.analysisService = analysisService;
+        this.recordDbService = recordDbService;
+        this.userDbService = userDbService;
+        this.redisTemplate = redisTemplate;
+        this.statusTtl = Duration.ofSeconds(statusTtl);
+        this.minInterval = minInterval;
+
+        // Executor 타입 빈으로 등록하면 Spring 기본 applicationTaskExecutor가 생성되지 않으므로 서비스 내부에서 관리
+        // 큐가 가득 차면 요청 스레드가 대신 실행하지 않도록 작업을 거절하고 FAILED로 기록
+        this.analysisExecutor = new ThreadPoolTaskExecutor();
+        analysisExecutor.setCorePoolSize(concurrency);
+        analysisExecutor.setMaxPoolSize(concurrency);
+        analysisExecutor.setQueueCapacity(queueCapacity);
+        analysisExecutor.setThreadNamePrefix("record-import-");
+        analysisExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        analysisExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        analysisExecutor.setAwaitTerminationSeconds(30);
+        analysisExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analysisExecutor.shutdown();
+    }
+
+    /*
+     * 가져온 경험 기록들을 PENDING 상태로 등록하고, 트랜잭션 커밋 이후 역량 분석 작업을 예약
+     * @param userId, recordIdList
+     * @return jobId
+     */
+    public String scheduleAnalysis(Long userId, List<Long> recordIdList) {
+        String jobId = UUID.randomUUID().toString();
+        String key = getKey(userId, jobId);
+
+        Map<String, String> pendingMap = recordIdList.stream()
+                .collect(Collectors.toMap(String::valueOf, recordId -> RecordImportStatus.PENDING.name()));
+        redisTemplate.opsForHash().putAll(key, pendingMap);
+        redisTemplate.expire(key, statusTtl);
+
+        // 커밋 전에 작업이 시작되면 아직 보이지 않는 경험 기록을 조회하게 되므로 커밋 이후 제출
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitAll(userId, jobId, recordIdList);
+            return jobId;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submitAll(userId, jobId, recordIdList);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK)
+                    redisTemplate.delete(key);
+            }
+        });
+        return jobId;
+    }
+
+    /*
+     * jobId에 해당하는 가져오기 작업의 경험 기록별 역량 분석 상태를 반환
+     * @param userId, jobId
+     * @return
+     */
+    public RecordResponse.RecordImportStatusDto getImportStatus(Long userId, String jobId) {
+        Map<Object, Object> statusMap = redisTemplate.opsForHash().entries(getKey(userId, jobId));
+        if (statusMap.isEmpty())
+            throw new RecordException(RecordErrorStatus.IMPORT_JOB_NOT_FOUND);
+
+        List<RecordResponse.ImportStatusDto> statusList = statusMap.entrySet().stream()
+                .map(entry -> RecordResponse.ImportStatusDto.builder()
+                        .recordId(Long.valueOf((String) entry.getKey()))
+                        .status((String) entry.getValue())
+                        .build())
+                .sorted(Comparator.comparing(RecordResponse.ImportStatusDto::getRecordId))
+                .toList();
+        Map<String, Long> countMap = statusList.stream()
+                .collect(Collectors.groupingBy(RecordResponse.ImportStatusDto::getStatus, Collectors.counting()));
+
+        return RecordResponse.RecordImportStatusDto.builder()
+                .jobId(jobId)
+                .pendingCount(countMap.getOrDefault(RecordImportStatus.PENDING.name(), 0L))
+                .doneCount(countMap.getOrDefault(RecordImportStatus.DONE.name(), 0L))
+                .failedCount(countMap.getOrDefault(RecordImportStatus.FAILED.name(), 0L))
+                .statusList(statusList)
+                .build();
+    }
+
+    private void submitAll(Long userId, String jobId, List<Long> recordIdList) {
+        for (Long recordId : recordIdList) {
+            try {
+                analysisExecutor.execute(() -> analyze(userId, jobId, recordId));
+            } catch (TaskRejectedException e) {
+                log.warn("역량 분석 작업 큐 초과 jobId: {}, recordId: {}", jobId, recordId);
+                updateStatus(userId, jobId, recordId, RecordImportStatus.FAILED);
+            }
+        }
+    }
+
+    private void analyze(Long userId, String jobId, Long recordId) {
+        try {
+            Record record = recordDbService.findRecordById(recordId);
+
+            // 그 사이 사용자가 직접 역량 분석을 요청한 경우 중복 호출하지 않음 (진행 중인 요청은 single-flight로 공유)
+            if (record.getAnalysis() == null) {
+                User user = userDbService.findUserById(userId);
+                waitForCallSlot();
+                analysisService.createAnalysisIfAbsent(recordId, user);
+            }
+            updateStatus(userId, jobId, recordId, RecordImportStatus.DONE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            updateStatus(userId, jobId, recordId, RecordImportStatus.FAILED);
+        } catch (RuntimeException e) {
+            // 실패한 경험 기록은 역량 분석 API(POST /api/analysis/{recordId})로 다시 요청할 수 있음
+            log.warn("가져온 경험 기록 역량 분석 실패 jobId: {}, recordId: {}", jobId, recordId, e);
+            updateStatus(userId, jobId, recordId, RecordImportStatus.FAILED);
+        }
+    }
+
+    // 노드 내 LLM 호출 사이에 최소 간격을 두어 제공사 rate limit을 넘지 않도록 대기
+    private void waitForCallSlot() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        long previous = nextCallAt.getAndAccumulate(now, (next, current) -> Math.max(next, current) + minInterval);
+        long waitMillis = Math.max(previous, now) - now;
+        if (waitMillis > 0)
+            Thread.sleep(waitMillis);
+    }
+
+    private void updateStatus(Long userId, String jobId, Long recordId, RecordImportStatus status) {
+        try {
+            redisTemplate.opsForHash().put(getKey(userId, jobId), String.valueOf(recordId), status.name());
+        } catch (RuntimeException e) {
+            log.warn("가져오기 상태 저장 실패 jobId: {}, recordId: {}", jobId, recordId, e);
+        }
+    }
+
+    private String getKey(Long userId, String jobId) {
+        return KEY_PREFIX + userId + ":" + jobId;
+    }
+}
@@ -1,5 +1,6 @@
 package corecord.dev.domain.record.application;
 
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.ability.domain.entity.Keyword;
 import corecord.dev.domain.ability.status.AbilityErrorStatus;
 import corecord.dev.domain.ability.exception.AbilityException;
@@ -8,20 +9,25 @@ import corecord.dev.domain.chat.application.ChatDbService;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
 import corecord.dev.domain.folder.application.FolderDbService;
 import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.folder.exception.FolderException;
+import corecord.dev.domain.folder.status.FolderErrorStatus;
 import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.record.domain.converter.RecordConverter;
 import corecord.dev.domain.record.domain.dto.request.RecordRequest;
 import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.TmpMemo;
 import corecord.dev.domain.record.status.RecordErrorStatus;
 import corecord.dev.domain.record.exception.RecordException;
 import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +41,11 @@ public class RecordService {
     private final UserDbService userDbService;
     private final FolderDbService folderDbService;
     private final ChatDbService chatDbService;
+    private final DataVersionManager dataVersionManager;
+    private final RecordImportService recordImportService;
+
+    @Value("${record-import.max-size}")
+    private int importMaxSize;
 
     private final int listSize = 30;
 
@@ -49,6 +60,9 @@ public class RecordService {
         String content = recordDto.getContent();
         Folder folder = folderDbService.findFolderById(recordDto.getFolderId());
 
+        // User-Folder 권한 유효성 검증
+        validIsUserAuthorizedForFolder(user, folder);
+
         // 제목, 본문 글자 수 검사
         validTextLength(title, content);
 
@@ -57,11 +71,80 @@ public class RecordService {
 
         // 역량 분석 레포트 생성
         analysisService.createAnalysis(record, user);
-        recordDbService.saveRecord(record);
+
+        // 경험 기록 저장, 폴더와 유저의 경험 기록 수 증가
+        recordDbService.saveRecordAndIncreaseCount(record, folder, user);
+
+        // 메모 기록이 생성되면 작성 중이던 임시 메모 제거
+        if (record.isMemoType())
+            recordDbService.deleteTmpMemo(user.getUserId());
+
+        dataVersionManager.bump(user.getUserId());
 
         return RecordConverter.toMemoRecordDto(record);
     }
 
+    /*
+     * 여러 개의 MEMO ver. 경험 기록을 한 번에 저장하고 역량 분석은 비동기로 예약
+     * 글자 수 검사에 실패한 항목은 저장하지 않고 index와 사유를 함께 반환
+     * @param userId, recordImportDto
+     * @return
+     */
+    @Transactional
+    public RecordResponse.RecordImportDto importMemoRecordList(Long userId, RecordRequest.RecordImportDto recordImportDto) {
+        User user = userDbService.findUserById(userId);
+        Folder folder = folderDbService.findFolderById(recordImportDto.getFolderId());
+        List<RecordRequest.ImportMemoDto> recordList = recordImportDto.getRecordList();
+
+        // User-Folder 권한 유효성 검증
+        validIsUserAuthorizedForFolder(user, folder);
+
+        // 가져올 경험 기록 수 검사
+        validImportSize(recordList);
+
+        // 항목별 제목, 본문 글자 수 검사
+        List<RecordRequest.ImportMemoDto> validRecordList = new ArrayList<>();
+        List<RecordResponse.ImportFailureDto> failureList = new ArrayList<>();
+        for (int i = 0; i < recordList.size(); i++) {
+            RecordRequest.ImportMemoDto record = recordList.get(i);
+            try {
+                validTextLength(record.getTitle(), record.getContent() == null ? "" : record.getContent());
+                validRecordList.add(record);
+            } catch (RecordException e) {
+                failureList.add(RecordConverter.toImportFailureDto(i, e.getRecordErrorStatus()));
+            }
+        }
+
+        if (validRecordList.isEmpty())
+            return RecordConverter.toRecordImportDto(null, List.of(), failureList);
+
+        // 경험 기록 batch insert
+        // 목록 조회는 역량 분석이 있는 경험 기록만 반환하므로, 폴더, 유저의 경험 기록 수는 역량 분석이 생성될 때 증가
+        // 역량 분석에 실패한 경험 기록은 가져오기 상태(FAILED) 확인 후 역량 분석 API로 다시 요청
+        List<Long> recordIdList = recordDbService.saveMemoRecordList(user, folder, validRecordList);
+
+        // 역량 분석은 커밋 이후 분석 전용 스레드 풀에서 수행
+        String jobId = recordImportService.scheduleAnalysis(user.getUserId(), recordIdList);
+        dataVersionManager.bump(user.getUserId());
+
+        return RecordConverter.toRecordImportDto(jobId, recordIdList, failureList);
+    }
+
+    private void validImportSize(List<RecordRequest.ImportMemoDto> recordList) {
+        if (recordList == null || recordList.isEmpty() || recordList.size() > importMaxSize)
+            throw new RecordException(RecordErrorStatus.INVALID_IMPORT_SIZE);
+    }
+
+    /*
+     * 일괄 가져오기 작업의 경험 기록별 역량 분석 상태를 반환
+     * @param userId, jobId
+     * @return
+     */
+    public RecordResponse.RecordImportStatusDto getImportStatus(Long userId, String jobId) {
+        User user = userDbService.findUserById(userId);
+        return recordImportService.getImportStatus(user.getUserId(), jobId);
+    }
+
     private Record createRecordBasedOnType(RecordRequest.RecordDto recordDto, User user, Folder folder) {
         if (recordDto.getRecordType() == RecordType.MEMO)
             return RecordConverter.toMemoRecordEntity(recordDto.getTitle(), recordDto.getContent(), user, folder);
@@ -91,11 +174,15 @@ public class RecordService {
             throw new RecordException(RecordErrorStatus.USER_RECORD_UNAUTHORIZED);
     }
 
+    private void validIsUserAuthorizedForFolder(User user, Folder folder) {
+        if (!folder.getUser().equals(user))
+            throw new FolderException(FolderErrorStatus.USER_FOLDER_UNAUTHORIZED);
+    }
+
     /*
-     * title, content를 받아 Record 객체를 생성한 후, recordId를 User.tmpMemo에 저장
+     * title, content를 받아 Redis에 임시 메모를 저장
      * @param userId, tmpMemoRecordDto
      */
-    @Transactional
     public void createTmpMemoRecord(Long userId, RecordRequest.TmpMemoRecordDto tmpMemoRecordDto) {
         User user = userDbService.findUserById(userId);
         String title = tmpMemoRecordDto.getTitle();
@@ -107,39 +194,46 @@ public class RecordService {
         // 제목, 본문 글자 수 검사
         validTextLength(title, content);
 
-        // Record entity 생성 후 user.tmpMemo 필드에 recordId 저장
-        Record record = RecordConverter.toMemoRecordEntity(title, content, user, null);
-        Record tmpRecord = recordDbService.saveRecord(record);
-        user.updateTmpMemo(tmpRecord.getRecordId());
+        recordDbService.saveTmpMemo(user.getUserId(), title, content);
     }
 
     private void validHasUserTmpMemo(User user) {
-        if (user.getTmpMemo() != null)
+        if (recordDbService.existsTmpMemo(user.getUserId()))
             throw new RecordException(RecordErrorStatus.ALREADY_TMP_MEMO);
     }
 
     /*
-     * user의 임시 저장된 메모 기록이 있다면 해당 Record row와 tmpMemo 필드 정보를 제거한 후 저장된 데이터를 반환
+     * 작성 중인 메모를 자동 저장. 유저별 하나의 key를 덮어써 잦은 요청도 마지막 내용만 남긴다.
+     * @param userId, tmpMemoRecordDto
+     */
+    public void autosaveTmpMemoRecord(Long userId, RecordRequest.TmpMemoRecordDto tmpMemoRecordDto) {
+        User user = userDbService.findUserById(userId);
+        String title = tmpMemoRecordDto.getTitle();
+        String content = tmpMemoRecordDto.getContent();
+
+        // 작성 중인 내용이므로 최대 글자 수만 검사
+        validMaxTextLength(title, content);
+
+        recordDbService.saveTmpMemo(user.getUserId(), title, content);
+    }
+
+    /*
+     * user의 임시 저장된 메모 기록이 있다면 Redis에서 제거한 후 저장된 데이터를 반환
      * @param userId
      * @return
      */
-    @Transactional
     public RecordResponse.TmpMemoRecordDto getTmpMemoRecord(Long userId) {
         User user = userDbService.findUserById(userId);
-        Long tmpMemoRecordId = user.getTmpMemo();
+        Optional<TmpMemo> tmpMemo = recordDbService.findTmpMemo(user.getUserId());
 
         // 임시 저장 내역이 없는 경우 isExist=false 반환
-        if (tmpMemoRecordId == null) {
+        if (tmpMemo.isEmpty()) {
             return RecordConverter.toNotExistingTmpMemoRecordDto();
         }
 
-        // 임시 저장 내역이 있는 경우 결과 조회
-        Record tmpMemoRecord = recordDbService.findTmpRecordById(tmpMemoRecordId);
-
         // 기존 데이터 제거 후 결과 반환
-        user.deleteTmpMemo();
-        recordDbService.deleteRecord(tmpMemoRecord);
-        return RecordConverter.toExistingTmpMemoRecordDto(tmpMemoRecord);
+        recordDbService.deleteTmpMemo(user.getUserId());
+        return RecordConverter.toExistingTmpMemoRecordDto(tmpMemo.get());
     }
 
     /*
@@ -151,7 +245,7 @@ public class RecordService {
     public RecordResponse.RecordListDto getRecordList(Long userId, String folderName, Long lastRecordId) {
         User user = userDbService.findUserById(userId);
 
-        List<Record> recordList = fetchRecords(user, folderName, lastRecordId);
+        List<RecordResponse.RecordDto> recordList = fetchRecords(user, folderName, lastRecordId);
 
         // 다음 조회할 데이터가 남아있는지 확인
         boolean hasNext = recordList.size() == listSize + 1;
@@ -161,7 +255,7 @@ public class RecordService {
         return RecordConverter.toRecordListDto(folderName, recordList, hasNext);
     }
 
-    private List<Record> fetchRecords(User user, String folderName, Long lastRecordId) {
+    private List<RecordResponse.RecordDto> fetchRecords(User user, String folderName, Long lastRecordId) {
         if (folderName.equals("all")) {
             return recordDbService.findRecordList(user, lastRecordId);
         }
@@ -182,7 +276,7 @@ public class RecordService {
 
         // 해당 keyword를 가진 ability 객체 조회 후 맵핑된 Record 객체 리스트 조회
         Keyword keyword = getKeyword(keywordValue);
-        List<Record> recordList = recordDbService.findRecordListByKeyword(user, keyword, lastRecordId);
+        List<RecordResponse.KeywordRecordDto> recordList = recordDbService.findRecordListByKeyword(user, keyword, lastRecordId);
 
         // 다음 조회할 데이터가 남아있는지 확인
         boolean hasNext = recordList.size() == listSize + 1;
@@ -207,8 +301,22 @@ public class RecordService {
         User user = userDbService.findUserById(userId);
         Record record = recordDbService.findRecordById(updateFolderDto.getRecordId());
         Folder folder = folderDbService.findFolderByTitle(user, updateFolderDto.getFolder());
+        Folder originFolder = record.getFolder();
+
+        if (originFolder.getFolderId().equals(folder.getFolderId()))
+            return;
 
         record.updateFolder(folder);
+
+        // 이동 전후 폴더의 경험 기록 수 수정 (역량 분석 전인 가져오기 기록은 경험 기록 수에 포함되지 않음)
+        if (record.getAnalysis() != null) {
+            folderDbService.decreaseRecordCount(originFolder);
+            folderDbService.increaseRecordCount(folder);
+        }
+
+        // 역량 분석 결과의 폴더 이름이 바뀌므로 공유 중인 결과 제거
+        analysisService.evictAnalysisResult(record.getRecordId());
+        dataVersionManager.bump(user.getUserId());
     }
 
     /*
@@ -220,18 +328,22 @@ public class RecordService {
         User user = userDbService.findUserById(userId);
 
         // 최근 생성된 3개의 데이터만 조회
-        List<Record> recordList = recordDbService.findRecordListOrderByCreatedAt(user);
+        List<RecordResponse.RecordDto> recordList = recordDbService.findRecordListOrderByCreatedAt(user);
 
         return RecordConverter.toRecordListDto("all", recordList, false);
     }
 
     private void validTextLength(String title, String content) {
-        if (title != null && title.length() > 50)
-            throw new RecordException(RecordErrorStatus.OVERFLOW_MEMO_RECORD_TITLE);
-
         if (content != null && content.length() < 50)
             throw new RecordException(RecordErrorStatus.NOT_ENOUGH_MEMO_RECORD_CONTENT);
 
+        validMaxTextLength(title, content);
+    }
+
+    private void validMaxTextLength(String title, String content) {
+        if (title != null && title.length() > 50)
+            throw new RecordException(RecordErrorStatus.OVERFLOW_MEMO_RECORD_TITLE);
+
         if (content != null && content.length() > 500) {
             throw new RecordException(RecordErrorStatus.OVERFLOW_MEMO_RECORD_CONTENT);
         }
@@ -1,12 +1,12 @@
 package corecord.dev.domain.record.domain.converter;
 
-import corecord.dev.domain.ability.domain.entity.Keyword;
-import corecord.dev.domain.ability.domain.entity.Ability;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.TmpMemo;
+import corecord.dev.domain.record.status.RecordErrorStatus;
 import corecord.dev.domain.user.domain.entity.User;
 
 import java.util.List;
@@ -43,11 +43,11 @@ public class RecordConverter {
                 .build();
     }
 
-    public static RecordResponse.TmpMemoRecordDto toExistingTmpMemoRecordDto(Record record) {
+    public static RecordResponse.TmpMemoRecordDto toExistingTmpMemoRecordDto(TmpMemo tmpMemo) {
         return RecordResponse.TmpMemoRecordDto.builder()
                 .isExist(true)
-                .title(record.getTitle())
-                .content(record.getContent())
+                .title(tmpMemo.getTitle())
+                .content(tmpMemo.getContent())
                 .build();
     }
 
@@ -59,27 +59,7 @@ public class RecordConverter {
                 .build();
     }
 
-    public static RecordResponse.RecordDto toRecordDto(Record record) {
-        List<String> keywordList = record.getAnalysis().getAbilityList().stream()
-                .map(Ability::getKeyword)
-                .map(Keyword::getValue)
-                .toList();
-
-        return RecordResponse.RecordDto.builder()
-                .analysisId(record.getAnalysis().getAnalysisId())
-                .recordId(record.getRecordId())
-                .folder(record.getFolder().getTitle())
-                .title(record.getTitle())
-                .keywordList(keywordList)
-                .createdAt(record.getCreatedAtFormatted())
-                .build();
-    }
-
-    public static RecordResponse.RecordListDto toRecordListDto(String folder, List<Record> recordList, boolean hasNext) {
-        List<RecordResponse.RecordDto> recordDtoList = recordList.stream()
-                .map(RecordConverter::toRecordDto)
-                .toList();
-
+    public static RecordResponse.RecordListDto toRecordListDto(String folder, List<RecordResponse.RecordDto> recordDtoList, boolean hasNext) {
         return RecordResponse.RecordListDto.builder()
                 .folder(folder)
                 .recordDtoList(recordDtoList)
@@ -87,28 +67,27 @@ public class RecordConverter {
                 .build();
     }
 
-    public static RecordResponse.KeywordRecordDto toKeywordRecordDto(Record record) {
-        String content = record.getContent();
-        String truncatedContent = content.length() > 30 ? content.substring(0, 30) : content;
-
-        return RecordResponse.KeywordRecordDto.builder()
-                .analysisId(record.getAnalysis().getAnalysisId())
-                .recordId(record.getRecordId())
-                .folder(record.getFolder().getTitle())
-                .title(record.getTitle())
-                .content(truncatedContent)
-                .createdAt(record.getCreatedAtFormatted())
+    public static RecordResponse.KeywordRecordListDto toKeywordRecordListDto(List<RecordResponse.KeywordRecordDto> keywordRecordDtoList, boolean hasNext) {
+        return RecordResponse.KeywordRecordListDto.builder()
+                .recordDtoList(keywordRecordDtoList)
+                .hasNext(hasNext)
                 .build();
     }
 
-    public static RecordResponse.KeywordRecordListDto toKeywordRecordListDto(List<Record> recordList, boolean hasNext) {
-        List<RecordResponse.KeywordRecordDto> keywordRecordDtoList = recordList.stream()
-                .map(RecordConverter::toKeywordRecordDto)
-                .toList();
+    public static RecordResponse.ImportFailureDto toImportFailureDto(int index, RecordErrorStatus errorStatus) {
+        return RecordResponse.ImportFailureDto.builder()
+                .index(index)
+                .code(errorStatus.getCode())
+                .message(errorStatus.getMessage())
+                .build();
+    }
 
-        return RecordResponse.KeywordRecordListDto.builder()
-                .recordDtoList(keywordRecordDtoList)
-                .hasNext(hasNext)
+    public static RecordResponse.RecordImportDto toRecordImportDto(String jobId, List<Long> recordIdList,
+                                                                   List<RecordResponse.ImportFailureDto> failureList) {
+        return RecordResponse.RecordImportDto.builder()
+                .jobId(jobId)
+                .recordIdList(recordIdList)
+                .failureList(failureList)
                 .build();
     }
 }
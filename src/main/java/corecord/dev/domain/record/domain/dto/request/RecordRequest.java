@@ -2,10 +2,13 @@ package corecord.dev.domain.record.domain.dto.request;
 
 import corecord.dev.domain.record.domain.entity.RecordType;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.Builder;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
+import java.util.List;
+
 public class RecordRequest {
     @Data @Builder
     public static class RecordDto {
@@ -35,4 +38,19 @@ public class RecordRequest {
         @NotBlank(message = "변경할 폴더를 입력해주세요.")
         private String folder;
     }
+
+    @Data @Builder
+    public static class RecordImportDto {
+        @NotNull(message = "저장할 폴더의 id를 입력해주세요.")
+        private Long folderId;
+        @NotEmpty(message = "가져올 메모를 입력해주세요.")
+        private List<ImportMemoDto> recordList;
+    }
+
+    // 항목별 글자 수 검사는 서비스에서 수행해 실패한 항목만 응답으로 알려줌
+    @Data @Builder
+    public static class ImportMemoDto {
+        private String title;
+        private String content;
+    }
 }
@@ -1,10 +1,14 @@
 package corecord.dev.domain.record.domain.dto.response;
 
+import corecord.dev.common.base.BaseEntity;
+import corecord.dev.domain.ability.domain.entity.Keyword;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 public class RecordResponse {
@@ -41,6 +45,18 @@ public class RecordResponse {
         private String title;
         private List<String> keywordList;
         private String createdAt;
+
+        // 조회 쿼리 projection용 생성자, keywords는 ','로 이어붙인 Keyword 이름
+        public RecordDto(Long analysisId, Long recordId, String folder, String title, String keywords, LocalDateTime createdAt) {
+            this.analysisId = analysisId;
+            this.recordId = recordId;
+            this.folder = folder;
+            this.title = title;
+            this.keywordList = Arrays.stream(keywords.split(","))
+                    .map(keyword -> Keyword.valueOf(keyword).getValue())
+                    .toList();
+            this.createdAt = BaseEntity.formatDate(createdAt);
+        }
     }
 
     @Builder
@@ -64,6 +80,16 @@ public class RecordResponse {
         private String title;
         private String content;
         private String createdAt;
+
+        // 조회 쿼리 projection용 생성자, content는 쿼리에서 30자로 잘라 조회
+        public KeywordRecordDto(Long analysisId, Long recordId, String folder, String title, String content, LocalDateTime createdAt) {
+            this.analysisId = analysisId;
+            this.recordId = recordId;
+            this.folder = folder;
+            this.title = title;
+            this.content = content;
+            this.createdAt = BaseEntity.formatDate(createdAt);
+        }
     }
 
     @Builder
@@ -74,4 +100,60 @@ public class RecordResponse {
         private List<KeywordRecordDto> recordDtoList;
         private boolean hasNext;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RecordExportDto {
+        private Long recordId;
+        private String folder;
+        private String title;
+        private String content;
+        private LocalDateTime createdAt;
+        private Long analysisId;
+        private String analysisContent;
+        private String comment;
+        private Keyword keyword;
+        private String abilityContent;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @Data
+    public static class RecordImportDto {
+        private String jobId;
+        private List<Long> recordIdList;
+        private List<ImportFailureDto> failureList;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @Data
+    public static class ImportFailureDto {
+        private int index;
+        private String code;
+        private String message;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @Data
+    public static class RecordImportStatusDto {
+        private String jobId;
+        private long pendingCount;
+        private long doneCount;
+        private long failedCount;
+        private List<ImportStatusDto> statusList;
+    }
+
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @Data
+    public static class ImportStatusDto {
+        private Long recordId;
+        private String status;
+    }
 }
@@ -0,0 +1,6 @@
+package corecord.dev.domain.record.domain.entity;
+
+// 일괄 가져오기로 생성된 경험 기록의 역량 분석 진행 상태
+public enum RecordImportStatus {
+    PENDING, DONE, FAILED
+}
@@ -0,0 +1,32 @@
+package corecord.dev.domain.record.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+@Getter
+@RedisHash(value = "tmpMemo")
+@AllArgsConstructor
+@Builder
+public class TmpMemo {
+    @Id
+    private Long userId;
+    private String title;
+    private String content;
+
+    // 저장할 때마다 만료 시간 갱신 (초 단위)
+    @TimeToLive
+    private Long expiration;
+
+    public static TmpMemo of(Long userId, String title, String content, Long expiration) {
+        return TmpMemo.builder()
+                .userId(userId)
+                .title(title)
+                .content(content)
+                .expiration(expiration)
+                .build();
+    }
+}
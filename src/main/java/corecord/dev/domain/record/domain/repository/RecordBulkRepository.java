@@ -0,0 +1,63 @@
+package corecord.dev.domain.record.domain.repository;
+
+import corecord.dev.domain.record.domain.dto.request.RecordRequest;
+import corecord.dev.domain.record.domain.entity.RecordType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 않으므로
+ * 일괄 가져오기는 JDBC batch INSERT로 한 번에 저장하고 생성된 id를 순서대로 반환
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordBulkRepository {
+
+    private static final String INSERT_MEMO_RECORD =
+            "INSERT INTO record (created_at, updated_at, type, title, content, user_id, folder_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertMemoRecordList(Long userId, Long folderId, List<RecordRequest.ImportMemoDto> recordList) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_MEMO_RECORD, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        RecordRequest.ImportMemoDto record = recordList.get(i);
+                        ps.setTimestamp(1, now);
+                        ps.setTimestamp(2, now);
+                        ps.setString(3, RecordType.MEMO.name());
+                        ps.setString(4, record.getTitle());
+                        ps.setString(5, record.getContent());
+                        ps.setLong(6, userId);
+                        ps.setLong(7, folderId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return recordList.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+}
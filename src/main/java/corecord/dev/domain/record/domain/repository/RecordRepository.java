@@ -1,95 +1,147 @@
 package corecord.dev.domain.record.domain.repository;
 
 import corecord.dev.domain.ability.domain.entity.Keyword;
+import jakarta.persistence.QueryHint;
 import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.Record;
 import corecord.dev.domain.user.domain.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RecordRepository extends JpaRepository<Record, Long> {
 
-    @Query("SELECT r " +
+    String RECORD_DTO = "new corecord.dev.domain.record.domain.dto.response.RecordResponse$RecordDto(" +
+            "an.analysisId, r.recordId, f.title, r.title, " +
+            "listagg(cast(a.keyword as String), ',') within group (order by a.abilityId), " + // 역량 키워드를 한 줄로 집계
+            "r.createdAt) ";
+
+    String RECORD_DTO_GROUP_BY = "GROUP BY r.recordId, an.analysisId, f.title, r.title, r.createdAt";
+
+    @Query("SELECT " + RECORD_DTO +
             "FROM Record r " +
-            "JOIN FETCH r.analysis a " +
-            "JOIN FETCH r.folder f " +
-            "JOIN FETCH a.abilityList al " +
+            "JOIN r.analysis an " +
+            "JOIN r.folder f " +
+            "JOIN an.abilityList a " +
             "WHERE r.user = :user " +
             "AND (:last_record_id = 0 OR r.recordId < :last_record_id) " +  // 제일 마지막에 읽은 데이터 이후부터 가져옴
-            "AND r.folder is not null AND r.folder = :folder") // 임시 저장 기록 제외
-    List<Record> findRecordsByFolder(
+            "AND r.folder is not null AND r.folder = :folder " + // 임시 저장 기록 제외
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            RECORD_DTO_GROUP_BY)
+    List<RecordResponse.RecordDto> findRecordsByFolder(
             @Param(value = "folder") Folder folder,
             @Param(value = "user") User user,
             @Param(value = "last_record_id") Long lastRecordId,
             Pageable pageable);
 
-    @Query("SELECT r FROM Record r " +
-            "JOIN FETCH r.analysis a " +
-            "JOIN FETCH r.folder f " +
-            "JOIN FETCH a.abilityList al " +
+    @Query("SELECT " + RECORD_DTO +
+            "FROM Record r " +
+            "JOIN r.analysis an " +
+            "JOIN r.folder f " +
+            "JOIN an.abilityList a " +
             "WHERE r.user = :user " +
             "AND (:last_record_id = 0 OR r.recordId < :last_record_id) " + // 제일 마지막에 읽은 데이터 이후부터 가져옴
-            "AND r.folder is not null") // 임시 저장 기록 제외
-    List<Record> findRecords(
+            "AND r.folder is not null " + // 임시 저장 기록 제외
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            RECORD_DTO_GROUP_BY)
+    List<RecordResponse.RecordDto> findRecords(
             @Param(value = "user") User user,
             @Param(value = "last_record_id") Long lastRecordId,
             Pageable pageable);
 
-
-    @Query("SELECT r FROM Ability a " +
-            "JOIN a.analysis an " +
-            "JOIN an.record r " +
-            "JOIN FETCH r.folder f " +
-            "WHERE a.user = :user " +
-            "AND a.keyword = :keyword " +
+    @Query("SELECT new corecord.dev.domain.record.domain.dto.response.RecordResponse$KeywordRecordDto(" +
+            "an.analysisId, r.recordId, f.title, r.title, substring(r.content, 1, 30), r.createdAt) " + // 본문은 30자 미리보기만 조회
+            "FROM Record r " +
+            "JOIN r.analysis an " +
+            "JOIN r.folder f " +
+            "WHERE r.user = :user " +
             "AND (:last_record_id = 0 OR r.recordId < :last_record_id) " + // 제일 마지막에 읽은 데이터 이후부터 가져옴
-            "AND r.folder is not null") // 임시 저장 기록 제외
-    List<Record> findRecordsByKeyword(
+            "AND r.folder is not null " + // 임시 저장 기록 제외
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            "AND EXISTS (SELECT a.abilityId FROM Ability a " +
+            "WHERE a.analysis = an AND a.keyword = :keyword)") // record 인덱스 순서로 읽으며 키워드 보유 여부만 확인
+    List<RecordResponse.KeywordRecordDto> findRecordsByKeyword(
             @Param(value = "keyword")Keyword keyword,
             @Param(value = "user") User user,
             @Param(value = "last_record_id") Long lastRecordId,
             Pageable pageable
             );
 
-    @Query("SELECT r FROM Record r " +
-            "JOIN FETCH r.analysis a " +
-            "JOIN FETCH r.folder f " +
-            "JOIN FETCH a.abilityList al " +
+    @Query("SELECT " + RECORD_DTO +
+            "FROM Record r " +
+            "JOIN r.analysis an " +
+            "JOIN r.folder f " +
+            "JOIN an.abilityList a " +
             "WHERE r.user = :user " +
-            "AND r.folder is not null ")  // 임시 저장 기록 제외
-    List<Record> findRecordsOrderByCreatedAt(
+            "AND r.folder is not null " +  // 임시 저장 기록 제외
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            RECORD_DTO_GROUP_BY)
+    List<RecordResponse.RecordDto> findRecordsOrderByCreatedAt(
             @Param(value = "user") User user,
             Pageable pageable);
 
     @Query("SELECT r FROM Record r " +
-            "JOIN FETCH r.analysis a " +
+            "LEFT JOIN FETCH r.analysis a " + // 역량 분석 전인 가져오기 기록도 조회
             "JOIN FETCH r.folder f " +
-            "WHERE r.recordId = :id")
+            "WHERE r.recordId = :id " +
+            "AND f.deletedAt is null") // 삭제 처리된 폴더 제외
     Optional<Record> findRecordById(@Param(value = "id") Long id);
 
-    @Query("SELECT COUNT(r) " +
+    // 한 행씩 읽도록 MySQL 스트리밍 결과셋 사용 (fetchSize = Integer.MIN_VALUE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new corecord.dev.domain.record.domain.dto.response.RecordResponse$RecordExportDto(" +
+            "r.recordId, f.title, r.title, r.content, r.createdAt, " +
+            "an.analysisId, an.content, an.comment, a.keyword, a.content) " +
             "FROM Record r " +
-            "WHERE r.user = :user " +
-            "AND r.folder is not null") // 임시 저장 기록 제외
-    int getRecordCount(@Param(value = "user") User user);
+            "JOIN r.folder f " +
+            "LEFT JOIN r.analysis an " +
+            "LEFT JOIN an.abilityList a " +
+            "WHERE r.user.userId = :userId " +
+            "AND f.deletedAt is null " + // 삭제 처리된 폴더 제외
+            "ORDER BY r.recordId, a.abilityId") // 같은 경험 기록의 역량 키워드가 연속으로 오도록 정렬
+    Stream<RecordResponse.RecordExportDto> streamRecordExportList(@Param(value = "userId") Long userId);
 
-    @Modifying
-    @Query("DELETE " +
+    @Query("SELECT r.recordId " +
             "FROM Record r " +
-            "WHERE r.user.userId IN :userId")
-    void deleteRecordByUserId(@Param(value = "userId") Long userId);
+            "WHERE r.user.userId = :userId")
+    List<Long> findRecordIdListByUserId(@Param(value = "userId") Long userId, Pageable pageable);
+
+    @Query("SELECT r.recordId " +
+            "FROM Record r " +
+            "WHERE r.folder.folderId = :folderId")
+    List<Long> findRecordIdListByFolderId(@Param(value = "folderId") Long folderId, Pageable pageable);
+
+    // 폴더 없이 남은 임시 저장 기록 중 threshold 이전에 생성되었고, 기존 user.tmp_memo가 참조하지 않는 기록
+    @Query("SELECT r.recordId " +
+            "FROM Record r " +
+            "WHERE r.recordId > :lastRecordId " +
+            "AND r.folder IS NULL " +
+            "AND r.createdAt < :threshold " +
+            "AND NOT EXISTS (SELECT a.analysisId FROM Analysis a WHERE a.record = r) " +
+            "AND NOT EXISTS (SELECT u.userId FROM User u WHERE u.tmpMemo = r.recordId) " +
+            "ORDER BY r.recordId")
+    List<Long> findOrphanTmpRecordIdList(
+            @Param(value = "lastRecordId") Long lastRecordId,
+            @Param(value = "threshold") LocalDateTime threshold,
+            Pageable pageable);
 
-    @Modifying
-    @Query("DELETE " +
+    @Query("SELECT r.chatRoom.chatRoomId " +
             "FROM Record r " +
-            "WHERE r.folder = :folder")
-    void deleteRecordByFolder(@Param(value = "folder") Folder folder);
+            "WHERE r.recordId IN :recordIdList " +
+            "AND r.chatRoom is not null")
+    List<Long> findChatRoomIdListByRecordIdList(@Param(value = "recordIdList") List<Long> recordIdList);
 }
@@ -0,0 +1,7 @@
+package corecord.dev.domain.record.domain.repository;
+
+import corecord.dev.domain.record.domain.entity.TmpMemo;
+import org.springframework.data.repository.CrudRepository;
+
+public interface TmpMemoRepository extends CrudRepository<TmpMemo, Long> {
+}
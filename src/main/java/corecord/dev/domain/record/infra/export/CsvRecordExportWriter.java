@@ -0,0 +1,68 @@
+package corecord.dev.domain.record.infra.export;
+
+import corecord.dev.common.base.BaseEntity;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 역량 키워드 1개당 한 행을 출력 (역량 키워드가 없는 경험 기록은 한 행)
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 기록
+ */
+public class CsvRecordExportWriter implements RecordExportWriter {
+
+    private static final String HEADER =
+            "recordId,folder,title,content,createdAt,analysisId,analysisContent,comment,keyword,abilityContent";
+
+    private final Writer writer;
+
+    public CsvRecordExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(RecordResponse.RecordExportDto row) throws IOException {
+        writeField(String.valueOf(row.getRecordId()));
+        writeField(row.getFolder());
+        writeField(row.getTitle());
+        writeField(row.getContent());
+        writeField(BaseEntity.formatDate(row.getCreatedAt()));
+        writeField(row.getAnalysisId() == null ? null : String.valueOf(row.getAnalysisId()));
+        writeField(row.getAnalysisContent());
+        writeField(row.getComment());
+        writeField(row.getKeyword() == null ? null : row.getKeyword().getValue());
+        writeLastField(row.getAbilityContent());
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        writeValue(value);
+        writer.write(',');
+    }
+
+    private void writeLastField(String value) throws IOException {
+        writeValue(value);
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: 모든 값을 큰따옴표로 감싸고 내부 큰따옴표는 두 번 기록
+    private void writeValue(String value) throws IOException {
+        if (value == null)
+            return;
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
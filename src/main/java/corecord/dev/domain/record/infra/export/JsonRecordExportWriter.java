@@ -0,0 +1,83 @@
+package corecord.dev.domain.record.infra.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import corecord.dev.common.base.BaseEntity;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/*
+ * 경험 기록 1건을 하나의 JSON 객체로 출력
+ * recordId, abilityId 순으로 정렬된 행을 받아 같은 recordId의 역량 키워드를 abilityList로 묶음
+ */
+public class JsonRecordExportWriter implements RecordExportWriter {
+
+    private final JsonGenerator generator;
+    private Long currentRecordId;
+    private boolean hasAnalysis;
+
+    public JsonRecordExportWriter(OutputStream outputStream) throws IOException {
+        this.generator = new JsonFactory()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .createGenerator(outputStream);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void write(RecordResponse.RecordExportDto row) throws IOException {
+        if (!Objects.equals(currentRecordId, row.getRecordId())) {
+            closeRecord();
+            openRecord(row);
+        }
+
+        if (hasAnalysis && row.getKeyword() != null) {
+            generator.writeStartObject();
+            generator.writeStringField("keyword", row.getKeyword().getValue());
+            generator.writeStringField("content", row.getAbilityContent());
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        closeRecord();
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private void openRecord(RecordResponse.RecordExportDto row) throws IOException {
+        currentRecordId = row.getRecordId();
+        hasAnalysis = row.getAnalysisId() != null;
+
+        generator.writeStartObject();
+        generator.writeNumberField("recordId", row.getRecordId());
+        generator.writeStringField("folder", row.getFolder());
+        generator.writeStringField("title", row.getTitle());
+        generator.writeStringField("content", row.getContent());
+        generator.writeStringField("createdAt", BaseEntity.formatDate(row.getCreatedAt()));
+
+        if (!hasAnalysis) {
+            generator.writeNullField("analysis");
+            return;
+        }
+        generator.writeObjectFieldStart("analysis");
+        generator.writeNumberField("analysisId", row.getAnalysisId());
+        generator.writeStringField("content", row.getAnalysisContent());
+        generator.writeStringField("comment", row.getComment());
+        generator.writeArrayFieldStart("abilityList");
+    }
+
+    private void closeRecord() throws IOException {
+        if (currentRecordId == null)
+            return;
+
+        if (hasAnalysis) {
+            generator.writeEndArray();  // abilityList
+            generator.writeEndObject(); // analysis
+        }
+        generator.writeEndObject();
+    }
+}
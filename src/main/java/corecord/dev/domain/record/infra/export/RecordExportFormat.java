@@ -0,0 +1,38 @@
+package corecord.dev.domain.record.infra.export;
+
+import corecord.dev.domain.record.exception.RecordException;
+import corecord.dev.domain.record.status.RecordErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Getter
+@AllArgsConstructor
+public enum RecordExportFormat {
+    JSON("application/json", "json"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static RecordExportFormat of(String format) {
+        for (RecordExportFormat exportFormat : values()) {
+            if (exportFormat.name().equalsIgnoreCase(format))
+                return exportFormat;
+        }
+        throw new RecordException(RecordErrorStatus.INVALID_EXPORT_FORMAT);
+    }
+
+    public RecordExportWriter createWriter(OutputStream outputStream) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonRecordExportWriter(outputStream);
+            case CSV -> new CsvRecordExportWriter(outputStream);
+        };
+    }
+
+    public String getFileName() {
+        return "records." + extension;
+    }
+}
@@ -0,0 +1,17 @@
+package corecord.dev.domain.record.infra.export;
+
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+
+import java.io.IOException;
+
+/*
+ * 경험 기록 내보내기 행을 순서대로 받아 출력 스트림에 바로 기록
+ * 행 단위로 쓰고 버리기 때문에 경험 기록 수와 무관하게 일정한 메모리만 사용
+ */
+public interface RecordExportWriter {
+
+    void write(RecordResponse.RecordExportDto row) throws IOException;
+
+    // 남은 내용을 출력하고 flush (출력 스트림은 닫지 않음)
+    void finish() throws IOException;
+}
@@ -1,21 +1,31 @@
 package corecord.dev.domain.record.presentation;
 
 import corecord.dev.common.response.ApiResponse;
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.common.web.UserId;
 import corecord.dev.domain.record.status.RecordSuccessStatus;
 import corecord.dev.domain.record.domain.dto.request.RecordRequest;
 import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.record.application.RecordExportService;
 import corecord.dev.domain.record.application.RecordService;
+import corecord.dev.domain.record.infra.export.RecordExportFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/records")
 public class RecordController {
     private final RecordService recordService;
+    private final RecordExportService recordExportService;
+    private final DataVersionManager dataVersionManager;
 
     @PostMapping("")
     public ResponseEntity<ApiResponse<RecordResponse.MemoRecordDto>> createMemoRecord(
@@ -26,6 +36,24 @@ public class RecordController {
         return ApiResponse.success(RecordSuccessStatus.MEMO_RECORD_CREATE_SUCCESS, recordResponse);
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<RecordResponse.RecordImportDto>> importMemoRecordList(
+            @UserId Long userId,
+            @RequestBody @Valid RecordRequest.RecordImportDto recordImportDto
+    ) {
+        RecordResponse.RecordImportDto recordResponse = recordService.importMemoRecordList(userId, recordImportDto);
+        return ApiResponse.success(RecordSuccessStatus.MEMO_RECORD_IMPORT_SUCCESS, recordResponse);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<RecordResponse.RecordImportStatusDto>> getImportStatus(
+            @UserId Long userId,
+            @PathVariable(name = "jobId") String jobId
+    ) {
+        RecordResponse.RecordImportStatusDto recordResponse = recordService.getImportStatus(userId, jobId);
+        return ApiResponse.success(RecordSuccessStatus.MEMO_RECORD_IMPORT_STATUS_GET_SUCCESS, recordResponse);
+    }
+
     @GetMapping("/memo/{recordId}")
     public ResponseEntity<ApiResponse<RecordResponse.MemoRecordDto>> getMemoRecordDetail(
             @UserId Long userId,
@@ -44,6 +72,15 @@ public class RecordController {
         return ApiResponse.success(RecordSuccessStatus.MEMO_RECORD_TMP_CREATE_SUCCESS);
     }
 
+    @PatchMapping("/memo/tmp")
+    public ResponseEntity<ApiResponse<String>> autosaveTmpMemoRecord(
+            @UserId Long userId,
+            @RequestBody @Valid RecordRequest.TmpMemoRecordDto tmpMemoRecordDto
+    ) {
+        recordService.autosaveTmpMemoRecord(userId, tmpMemoRecordDto);
+        return ApiResponse.success(RecordSuccessStatus.MEMO_RECORD_TMP_AUTOSAVE_SUCCESS);
+    }
+
     @GetMapping("/memo/tmp")
     public ResponseEntity<ApiResponse<RecordResponse.TmpMemoRecordDto>> getTmpMemoRecord(
             @UserId Long userId
@@ -56,8 +93,11 @@ public class RecordController {
     public ResponseEntity<ApiResponse<RecordResponse.RecordListDto>> getRecordListByFolder(
         @UserId Long userId,
         @RequestParam(name = "folder", defaultValue = "all") String folder,
-        @RequestParam(name = "lastRecordId", defaultValue = "0") Long lastRecordId
+        @RequestParam(name = "lastRecordId", defaultValue = "0") Long lastRecordId,
+        ServletWebRequest webRequest
     ) {
+        if (dataVersionManager.checkNotModified(userId, webRequest))
+            return null;
         RecordResponse.RecordListDto recordResponse = recordService.getRecordList(userId, folder, lastRecordId);
         return ApiResponse.success(RecordSuccessStatus.RECORD_LIST_GET_SUCCESS, recordResponse);
     }
@@ -66,8 +106,11 @@ public class RecordController {
     public ResponseEntity<ApiResponse<RecordResponse.KeywordRecordListDto>> getRecordListByKeyword(
             @UserId Long userId,
             @RequestParam(name = "keyword") String keyword,
-            @RequestParam(name = "lastRecordId", defaultValue = "0") Long lastRecordId
+            @RequestParam(name = "lastRecordId", defaultValue = "0") Long lastRecordId,
+        ServletWebRequest webRequest
     ) {
+        if (dataVersionManager.checkNotModified(userId, webRequest))
+            return null;
         RecordResponse.KeywordRecordListDto recordResponse = recordService.getKeywordRecordList(userId, keyword, lastRecordId);
         return ApiResponse.success(RecordSuccessStatus.KEYWORD_RECORD_LIST_GET_SUCCESS, recordResponse);
     }
@@ -83,10 +126,31 @@ public class RecordController {
 
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<RecordResponse.RecordListDto>> getRecentRecordList(
-            @UserId Long userId
+            @UserId Long userId,
+            ServletWebRequest webRequest
     ) {
+        if (dataVersionManager.checkNotModified(userId, webRequest))
+            return null;
         RecordResponse.RecordListDto recordResponse = recordService.getRecentRecordList(userId);
         return ApiResponse.success(RecordSuccessStatus.RECENT_RECORD_LIST_GET_SUCCESS, recordResponse);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecordList(
+            @UserId Long userId,
+            @RequestParam(name = "format", defaultValue = "json") String format,
+            @RequestParam(name = "zip", defaultValue = "false") boolean zip
+    ) {
+        RecordExportFormat exportFormat = RecordExportFormat.of(format);
+        StreamingResponseBody body = recordExportService.exportRecordList(userId, exportFormat, zip);
+
+        String fileName = zip ? "records.zip" : exportFormat.getFileName();
+        MediaType contentType = zip
+                ? MediaType.parseMediaType("application/zip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
 }
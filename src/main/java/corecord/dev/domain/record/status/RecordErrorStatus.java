@@ -14,7 +14,10 @@ public enum RecordErrorStatus implements BaseErrorStatus {
     USER_RECORD_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "E401_RECORD_UNAUTHORIZED", "유저가 경험 기록에 대한 권한이 없습니다."),
     RECORD_NOT_FOUND(HttpStatus.NOT_FOUND, "E0404_RECORD", "존재하지 않는 경험 기록입니다."),
     ALREADY_TMP_MEMO(HttpStatus.BAD_REQUEST, "E0400_TMP_MEMO", "유저가 이미 임시 저장된 메모를 가지고 있습니다."),
-    NO_RECORD(HttpStatus.BAD_REQUEST, "E0400_NO_RECORD", "경험 기록의 내용이 충분하지 않습니다.")
+    NO_RECORD(HttpStatus.BAD_REQUEST, "E0400_NO_RECORD", "경험 기록의 내용이 충분하지 않습니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "E0400_EXPORT_FORMAT", "지원하지 않는 내보내기 형식입니다."),
+    INVALID_IMPORT_SIZE(HttpStatus.BAD_REQUEST, "E0400_IMPORT_SIZE", "한 번에 가져올 수 있는 경험 기록 수를 벗어났습니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "E0404_IMPORT_JOB", "존재하지 않거나 만료된 경험 기록 가져오기 작업입니다.")
     ;
 
     private final HttpStatus httpStatus;
@@ -12,6 +12,9 @@ public enum RecordSuccessStatus implements BaseSuccessStatus {
     MEMO_RECORD_CREATE_SUCCESS(HttpStatus.CREATED, "S404", "경험 기록이 성공적으로 완료되었습니다."),
     MEMO_RECORD_DETAIL_GET_SUCCESS(HttpStatus.OK, "S401", "메모 경험 기록 세부 조회가 성공적으로 완료되었습니다."),
     MEMO_RECORD_TMP_CREATE_SUCCESS(HttpStatus.OK, "S403", "메모 경험 기록 임시 저장이 성공적으로 완료되었습니다."),
+    MEMO_RECORD_TMP_AUTOSAVE_SUCCESS(HttpStatus.OK, "S405", "메모 경험 기록 자동 저장이 성공적으로 완료되었습니다."),
+    MEMO_RECORD_IMPORT_SUCCESS(HttpStatus.ACCEPTED, "S406", "메모 경험 기록 일괄 가져오기가 완료되었습니다. 역량 분석은 순차적으로 진행됩니다."),
+    MEMO_RECORD_IMPORT_STATUS_GET_SUCCESS(HttpStatus.OK, "S407", "메모 경험 기록 가져오기 상태 조회가 성공적으로 완료되었습니다."),
     MEMO_RECORD_TMP_GET_SUCCESS(HttpStatus.OK, "S402", "메모 경험 기록 임시 저장 내역 조회가 성공적으로 완료되었습니다."),
     RECORD_LIST_GET_SUCCESS(HttpStatus.OK, "S602", "폴더별 경험 기록 리스트 조회가 성공적으로 완료되었습니다."),
     KEYWORD_RECORD_LIST_GET_SUCCESS(HttpStatus.OK, "S503", "역량 키워드별 경험 기록 리스트 조회가 성공적으로 완료되었습니다."),
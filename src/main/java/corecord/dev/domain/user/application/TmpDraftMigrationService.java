@@ -0,0 +1,101 @@
+package corecord.dev.domain.user.application;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.user.domain.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TmpDraftMigrationService {
+
+    private static final String LOCK_KEY = "draft:migration:lock";
+
+    private final UserDbService userDbService;
+    private final RecordDbService recordDbService;
+    private final ChatDbService chatDbService;
+    private final RedisLock redisLock;
+
+    @Value("${draft.migration.enabled}")
+    private boolean enabled;
+
+    @Value("${draft.migration.size}")
+    private int size;
+
+    @Value("${draft.migration.lock-ttl}")
+    private long lockTtl;
+
+    /*
+     * 서버 시작 후 한 번, 기동 스레드가 아닌 스케줄러 스레드에서 실행
+     * Redis 락을 잡은 노드 하나만 이전하며, 이미 이전된 유저는 조회 대상에서 빠지므로 늦게 실행된 노드는 바로 종료된다.
+     */
+    @Scheduled(initialDelayString = "${draft.migration.initial-delay}")
+    public void run() {
+        if (!enabled)
+            return;
+
+        Optional<String> token = redisLock.tryLock(LOCK_KEY, Duration.ofMillis(lockTtl));
+        if (token.isEmpty())
+            return; // 다른 노드에서 실행 중
+
+        try {
+            migrateTmpDrafts();
+        } finally {
+            redisLock.unlock(LOCK_KEY, token.get());
+        }
+    }
+
+    /**
+     * user.tmp_memo, user.tmp_chat에 남아있는 임시 저장 내역을 Redis로 이전
+     * userId 순으로 size 만큼씩 처리하며, 실패한 유저는 건너뛰고 다음 실행 시 다시 시도한다.
+     */
+    public void migrateTmpDrafts() {
+        long lastUserId = 0L;
+        int migratedCount = 0;
+
+        List<User> userList;
+        do {
+            userList = userDbService.findTmpDraftUserList(lastUserId, size);
+            for (User user : userList) {
+                try {
+                    migrateUser(user);
+                    migratedCount++;
+                } catch (RuntimeException e) {
+                    log.error("임시 저장 내역 이전 실패 userId: {}", user.getUserId(), e);
+                }
+                lastUserId = user.getUserId();
+            }
+        } while (userList.size() == size);
+
+        log.info("임시 저장 내역 이전 완료 migratedCount: {}", migratedCount);
+    }
+
+    private void migrateUser(User user) {
+        Long userId = user.getUserId();
+        Optional<Record> tmpRecord = Optional.ofNullable(user.getTmpMemo())
+                .flatMap(recordDbService::findTmpRecordById);
+
+        // 이미 Redis에 저장된 최신 내역이 있으면 덮어쓰지 않음
+        if (tmpRecord.isPresent() && !recordDbService.existsTmpMemo(userId))
+            recordDbService.saveTmpMemo(userId, tmpRecord.get().getTitle(), tmpRecord.get().getContent());
+
+        if (user.getTmpChat() != null && chatDbService.findTmpChat(userId).isEmpty())
+            chatDbService.saveTmpChat(userId, user.getTmpChat());
+
+        userDbService.clearTmpDraft(userId);
+
+        // 임시 저장용 Record row 제거
+        tmpRecord.ifPresent(record -> recordDbService.deleteRecordList(List.of(record.getRecordId())));
+    }
+}
@@ -1,31 +1,77 @@
 package corecord.dev.domain.user.application;
 
+import corecord.dev.common.cache.EntityCacheInvalidator;
 import corecord.dev.common.exception.GeneralException;
 import corecord.dev.common.status.ErrorStatus;
+import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.user.domain.entity.User;
 import corecord.dev.domain.user.domain.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserDbService {
     private final UserRepository userRepository;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Transactional
+    public void deleteUser(User user) {
+        user.delete();
+    }
 
     @Transactional
-    public void updateUserTmpChat(User user, Long chatRoomId) {
-        user.updateTmpChat(chatRoomId);
+    public void increaseRecordCount(User user) {
+        userRepository.updateRecordCount(user.getUserId(), 1);
+        entityCacheInvalidator.evict(User.class, user.getUserId());
     }
 
     @Transactional
-    public void deleteUserTmpChat(User user) {
-        user.deleteTmpChat();
+    public void decreaseRecordCount(User user) {
+        userRepository.updateRecordCount(user.getUserId(), -1);
+        entityCacheInvalidator.evict(User.class, user.getUserId());
+    }
+
+    @Transactional
+    public void decreaseRecordCountByFolder(Folder folder) {
+        userRepository.decreaseRecordCountByFolder(folder.getFolderId());
+        entityCacheInvalidator.evict(User.class, folder.getUser().getUserId());
+    }
+
+    @Transactional
+    public int reconcileRecordCount(Long fromId, Long toId) {
+        int updated = userRepository.reconcileRecordCount(fromId, toId);
+        if (updated > 0)
+            entityCacheInvalidator.evictAll(User.class);
+        return updated;
+    }
+
+    public List<Long> findUserIdListByUserIdRange(Long fromId, Long toId) {
+        return userRepository.findUserIdListByUserIdRange(fromId, toId);
+    }
+
+    public Long findMaxUserId() {
+        return userRepository.findMaxUserId();
+    }
+
+    @Transactional
+    public void clearTmpDraft(Long userId) {
+        userRepository.clearTmpDraftByUserId(userId);
+        entityCacheInvalidator.evict(User.class, userId);
+    }
+
+    public List<User> findTmpDraftUserList(Long lastUserId, int size) {
+        return userRepository.findTmpDraftUserList(lastUserId, PageRequest.of(0, size));
     }
 
     @Transactional
     public void deleteUserByUserId(Long userId) {
         userRepository.deleteUserByUserId(userId);
+        entityCacheInvalidator.evict(User.class, userId);
     }
 
     @Transactional
@@ -34,16 +80,22 @@ public class UserDbService {
     }
 
     public boolean IsUserExistByProviderId(String providerId) {
-        return userRepository.existsByProviderId(providerId);
+        return userRepository.existsByProviderIdAndDeletedAtIsNull(providerId);
+    }
+
+    public List<Long> findDeletedUserIdList(int size) {
+        return userRepository.findDeletedUserIdList(PageRequest.of(0, size));
     }
 
     public User getUser(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted()) // 탈퇴 처리된 유저 제외
                 .orElseThrow(() -> new GeneralException(ErrorStatus.UNAUTHORIZED));
     }
 
     public User findUserById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted()) // 탈퇴 처리된 유저 제외
                 .orElseThrow(() -> new GeneralException(ErrorStatus.UNAUTHORIZED));
     }
 
@@ -0,0 +1,96 @@
+package corecord.dev.domain.user.application;
+
+import corecord.dev.domain.ability.application.AbilityDbService;
+import corecord.dev.domain.analysis.application.AnalysisDbService;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.folder.application.FolderDbService;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.user.domain.entity.PurgeStep;
+import corecord.dev.domain.user.domain.entity.UserPurge;
+import corecord.dev.domain.user.domain.repository.UserPurgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserPurgeService {
+
+    private final UserDbService userDbService;
+    private final AbilityDbService abilityDbService;
+    private final AnalysisDbService analysisDbService;
+    private final ChatDbService chatDbService;
+    private final RecordDbService recordDbService;
+    private final FolderDbService folderDbService;
+    private final UserPurgeRepository userPurgeRepository;
+
+    @Value("${purge.batch-size}")
+    private int batchSize;
+
+    @Value("${purge.user.size}")
+    private int userSize;
+
+    /**
+     * 탈퇴 처리된 유저의 데이터를 주기적으로 삭제
+     * 배치마다 트랜잭션을 분리해 다른 유저의 쓰기 작업이 긴 락에 막히지 않도록 한다.
+     */
+    @Scheduled(fixedDelayString = "${purge.user.fixed-delay}")
+    public void purgeDeletedUsers() {
+        List<Long> userIdList = userDbService.findDeletedUserIdList(userSize);
+
+        for (Long userId : userIdList) {
+            try {
+                purgeUser(userId);
+            } catch (RuntimeException e) {
+                // 실패한 유저는 다음 주기에 남은 단계부터 다시 삭제
+                log.error("회원 데이터 삭제 실패 userId: {}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * 유저의 연관 데이터를 FK 순서대로 batchSize 만큼씩 삭제
+     * 이전 주기에 실패한 경우 저장된 단계부터 이어서 삭제
+     * @param userId
+     */
+    public void purgeUser(Long userId) {
+        UserPurge userPurge = userPurgeRepository.findById(userId)
+                .orElseGet(() -> UserPurge.of(userId));
+
+        purgeStep(userPurge, PurgeStep.ABILITY, () -> abilityDbService.deleteAbilityByUserId(userId, batchSize));
+        purgeStep(userPurge, PurgeStep.ANALYSIS, () -> analysisDbService.deleteAnalysisByUserId(userId, batchSize));
+        purgeStep(userPurge, PurgeStep.CHAT, () -> chatDbService.deleteChatByUserId(userId, batchSize));
+        purgeStep(userPurge, PurgeStep.RECORD, () -> recordDbService.deleteRecordByUserId(userId, batchSize));
+        purgeStep(userPurge, PurgeStep.CHAT_ROOM, () -> chatDbService.deleteChatRoomByUserId(userId, batchSize));
+        purgeStep(userPurge, PurgeStep.FOLDER, () -> folderDbService.deleteFolderByUserId(userId, batchSize));
+
+        userPurge.updateStep(PurgeStep.USER);
+        userPurgeRepository.save(userPurge);
+        userDbService.deleteUserByUserId(userId);
+        recordDbService.deleteTmpMemo(userId);
+        chatDbService.deleteTmpChat(userId);
+
+        userPurge.updateStep(PurgeStep.COMPLETED);
+        userPurgeRepository.save(userPurge);
+        log.info("회원 데이터 삭제 완료 userId: {}, purgedCount: {}", userId, userPurge.getPurgedCount());
+    }
+
+    private void purgeStep(UserPurge userPurge, PurgeStep step, IntSupplier deleteBatch) {
+        if (userPurge.isPassed(step))
+            return;
+        userPurge.updateStep(step);
+
+        int deletedCount;
+        do {
+            deletedCount = deleteBatch.getAsInt();
+            userPurge.addPurgedCount(deletedCount);
+            userPurgeRepository.save(userPurge);
+        } while (deletedCount == batchSize);
+    }
+}
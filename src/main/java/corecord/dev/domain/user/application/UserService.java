@@ -1,11 +1,6 @@
 package corecord.dev.domain.user.application;
 
-import corecord.dev.domain.ability.application.AbilityDbService;
-import corecord.dev.domain.analysis.application.AnalysisDbService;
 import corecord.dev.domain.auth.jwt.JwtUtil;
-import corecord.dev.domain.chat.application.ChatDbService;
-import corecord.dev.domain.folder.application.FolderDbService;
-import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.auth.domain.entity.RefreshToken;
 import corecord.dev.domain.auth.status.TokenErrorStatus;
 import corecord.dev.domain.auth.exception.TokenException;
@@ -32,12 +27,7 @@ public class UserService {
 
     private final JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final AnalysisDbService analysisDbService;
-    private final AbilityDbService abilityDbService;
-    private final ChatDbService chatDbService;
     private final UserDbService userDbService;
-    private final FolderDbService folderDbService;
-    private final RecordDbService recordDbService;
 
     /**
      * 회원가입
@@ -93,19 +83,17 @@ public class UserService {
 
     /**
      * 회원 탈퇴
+     * 유저를 탈퇴 처리하고 토큰을 만료시킨다. 연관된 데이터는 UserPurgeService에서 비동기로 삭제한다.
      * @param userId
      * @param refreshToken
      */
     @Transactional
     public void deleteUser(Long userId, String refreshToken) {
-        // 연관된 데이터 삭제
-        abilityDbService.deleteAbilityByUserId(userId);
-        analysisDbService.deleteAnalysisByUserId(userId);
-        chatDbService.deleteChatByUserId(userId);
-        recordDbService.deleteRecordByUserId(userId);
-        chatDbService.deleteChatRoomByUserId(userId);
-        folderDbService.deleteFolderByUserId(userId);
-        userDbService.deleteUserByUserId(userId);
+        User user = userDbService.getUser(userId);
+        userDbService.deleteUser(user);
+
+        // 유저의 모든 리프레쉬 토큰 삭제
+        refreshTokenRepository.deleteAll(refreshTokenRepository.findAllByUserId(userId));
         deleteRefreshTokenInRedis(refreshToken);
     }
 
@@ -158,7 +146,6 @@ public class UserService {
     public UserResponse.UserInfoDto getUserInfo(Long userId) {
         User user = userDbService.getUser(userId);
 
-        int recordCount = recordDbService.getRecordCount(user);;
-        return UserConverter.toUserInfoDto(user, recordCount);
+        return UserConverter.toUserInfoDto(user);
     }
 }
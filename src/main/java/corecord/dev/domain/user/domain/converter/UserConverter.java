@@ -25,9 +25,9 @@ public class UserConverter {
                 .build();
     }
 
-    public static UserResponse.UserInfoDto toUserInfoDto(User user, int recordCount) {
+    public static UserResponse.UserInfoDto toUserInfoDto(User user) {
         return UserResponse.UserInfoDto.builder()
-                .recordCount(recordCount)
+                .recordCount(user.getRecordCount())
                 .nickname(user.getNickName())
                 .status(user.getStatus().getValue())
                 .build();
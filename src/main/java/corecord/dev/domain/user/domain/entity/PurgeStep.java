@@ -0,0 +1,12 @@
+package corecord.dev.domain.user.domain.entity;
+
+public enum PurgeStep {
+    ABILITY,
+    ANALYSIS,
+    CHAT,
+    RECORD,
+    CHAT_ROOM,
+    FOLDER,
+    USER,
+    COMPLETED
+}
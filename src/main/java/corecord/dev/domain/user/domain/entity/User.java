@@ -7,15 +7,22 @@ import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.record.domain.entity.Record;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+// 거의 모든 요청에서 조회되고 변경이 드문 엔티티, 2차 캐시 무효화는 EntityCacheInvalidator 참고
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,12 +41,22 @@ public class User extends BaseEntity {
     @Column(name = "status", nullable = false)
     private Status status;
 
+    // 임시 저장 기록, 역량 분석 전인 가져오기 기록을 제외한 경험 기록 수, 네이티브 쿼리로만 증감
+    @ColumnDefault("0")
+    @Column(name = "record_count", nullable = false, insertable = false, updatable = false)
+    private int recordCount;
+
+    // 임시 저장 내역은 Redis(TmpChat, TmpMemo)로 이전, 기존 데이터 마이그레이션용으로만 남겨둠
     @Column(name = "tmp_chat")
     private Long tmpChat;
 
     @Column(name = "tmp_memo")
     private Long tmpMemo;
 
+    // 탈퇴 처리 시각, 연관 데이터는 UserPurgeService에서 비동기로 삭제
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Record> records;
 
@@ -52,19 +69,11 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Folder> folders;
 
-    public void updateTmpMemo(Long tmpMemo) {
-        this.tmpMemo = tmpMemo;
-    }
-
-    public void updateTmpChat(Long tmpChat) {
-        this.tmpChat = tmpChat;
-    }
-
-    public void deleteTmpMemo(){
-        this.tmpMemo = null;
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
     }
 
-    public void deleteTmpChat(){
-        this.tmpChat = null;
+    public boolean isDeleted() {
+        return this.deletedAt != null;
     }
 }
@@ -0,0 +1,39 @@
+package corecord.dev.domain.user.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+@Getter
+@RedisHash(value = "userPurge", timeToLive = 86400)
+@AllArgsConstructor
+@Builder
+public class UserPurge {
+    @Id
+    private Long userId;
+    private PurgeStep step;
+    private Long purgedCount;
+
+    public static UserPurge of(Long userId) {
+        return UserPurge.builder()
+                .userId(userId)
+                .step(PurgeStep.ABILITY)
+                .purgedCount(0L)
+                .build();
+    }
+
+    // 저장된 단계가 step보다 뒤이면 step은 이미 완료된 단계
+    public boolean isPassed(PurgeStep step) {
+        return this.step.compareTo(step) > 0;
+    }
+
+    public void updateStep(PurgeStep step) {
+        this.step = step;
+    }
+
+    public void addPurgedCount(int count) {
+        this.purgedCount += count;
+    }
+}
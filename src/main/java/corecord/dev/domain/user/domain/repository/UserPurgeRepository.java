@@ -0,0 +1,7 @@
+package corecord.dev.domain.user.domain.repository;
+
+import corecord.dev.domain.user.domain.entity.UserPurge;
+import org.springframework.data.repository.CrudRepository;
+
+public interface UserPurgeRepository extends CrudRepository<UserPurge, Long> {
+}
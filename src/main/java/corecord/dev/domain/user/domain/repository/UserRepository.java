@@ -1,18 +1,93 @@
 package corecord.dev.domain.user.domain.repository;
 
+import corecord.dev.common.cache.EntityCacheInvalidator;
 import corecord.dev.domain.user.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByProviderId(String providerId);
-    boolean existsByProviderId(String providerId);
+    Optional<User> findByProviderIdAndDeletedAtIsNull(String providerId);
+    boolean existsByProviderIdAndDeletedAtIsNull(String providerId);
+
+    @Query("SELECT u.userId " +
+            "FROM User u " +
+            "WHERE u.deletedAt is not null " + // 탈퇴 처리된 유저
+            "ORDER BY u.deletedAt")
+    List<Long> findDeletedUserIdList(Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheInvalidator.RECORD_COUNT_SPACE))
+    @Query(value = "UPDATE user " +
+            "SET record_count = GREATEST(record_count + :delta, 0) " +
+            "WHERE user_id = :userId",
+            nativeQuery = true)
+    void updateRecordCount(
+            @Param(value = "userId") Long userId,
+            @Param(value = "delta") int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheInvalidator.RECORD_COUNT_SPACE))
+    @Query(value = "UPDATE user u " +
+            "JOIN folder f ON f.user_id = u.user_id " +
+            "SET u.record_count = GREATEST(u.record_count - f.record_count, 0) " +
+            "WHERE f.folder_id = :folderId",
+            nativeQuery = true)
+    void decreaseRecordCountByFolder(@Param(value = "folderId") Long folderId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheInvalidator.RECORD_COUNT_SPACE))
+    @Query(value = "UPDATE user u " +
+            "LEFT JOIN (" +
+            "SELECT r.user_id, COUNT(*) AS cnt " +
+            "FROM record r " +
+            "JOIN folder f ON f.folder_id = r.folder_id " + // 임시 저장 기록 제외
+            "JOIN analysis a ON a.record_id = r.record_id " + // 역량 분석 전인 가져오기 기록 제외
+            "WHERE r.user_id BETWEEN :from_id AND :to_id " +
+            "AND f.deleted_at IS NULL " +
+            "GROUP BY r.user_id) c ON c.user_id = u.user_id " +
+            "SET u.record_count = COALESCE(c.cnt, 0) " +
+            "WHERE u.user_id BETWEEN :from_id AND :to_id " +
+            "AND u.deleted_at IS NULL " +
+            "AND u.record_count <> COALESCE(c.cnt, 0)", // 실제 개수와 다른 유저만 수정
+            nativeQuery = true)
+    int reconcileRecordCount(
+            @Param(value = "from_id") Long fromId,
+            @Param(value = "to_id") Long toId);
+
+    @Query("SELECT u.userId " +
+            "FROM User u " +
+            "WHERE u.userId BETWEEN :fromId AND :toId " +
+            "AND u.deletedAt is null")
+    List<Long> findUserIdListByUserIdRange(
+            @Param(value = "fromId") Long fromId,
+            @Param(value = "toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(u.userId), 0) FROM User u")
+    Long findMaxUserId();
+
+    @Query("SELECT u " +
+            "FROM User u " +
+            "WHERE u.userId > :lastUserId " +
+            "AND (u.tmpMemo is not null OR u.tmpChat is not null) " + // DB에 남아있는 임시 저장 내역
+            "ORDER BY u.userId")
+    List<User> findTmpDraftUserList(@Param(value = "lastUserId") Long lastUserId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE User u " +
+            "SET u.tmpMemo = null, u.tmpChat = null " +
+            "WHERE u.userId = :userId")
+    void clearTmpDraftByUserId(@Param(value = "userId") Long userId);
 
     @Modifying
     @Query("DELETE FROM User u " +
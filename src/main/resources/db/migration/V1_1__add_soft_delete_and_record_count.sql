@@ -0,0 +1,27 @@
+-- 탈퇴/폴더 삭제(deleted_at)와 경험 기록 수(record_count) 컬럼
+-- 기준선(V1) 이후 추가된 컬럼이므로 V2 인덱스보다 먼저 추가하고, 기존 경험 기록으로 record_count를 채운다.
+
+ALTER TABLE user
+    ADD COLUMN record_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN deleted_at   DATETIME(6);
+
+ALTER TABLE folder
+    ADD COLUMN record_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN deleted_at   DATETIME(6);
+
+-- 보정 작업(reconcileRecordCount)과 같은 기준: 폴더에 속하고 역량 분석이 있는(목록에 보이는) 경험 기록만 센다.
+UPDATE folder f
+    JOIN (SELECT r.folder_id, COUNT(*) AS cnt
+          FROM record r
+                   JOIN analysis a ON a.record_id = r.record_id
+          WHERE r.folder_id IS NOT NULL
+          GROUP BY r.folder_id) c ON c.folder_id = f.folder_id
+SET f.record_count = c.cnt;
+
+UPDATE user u
+    JOIN (SELECT r.user_id, COUNT(*) AS cnt
+          FROM record r
+                   JOIN folder f ON f.folder_id = r.folder_id
+                   JOIN analysis a ON a.record_id = r.record_id
+          GROUP BY r.user_id) c ON c.user_id = u.user_id
+SET u.record_count = c.cnt;
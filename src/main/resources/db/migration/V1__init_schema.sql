@@ -0,0 +1,90 @@
+-- ddl-auto: update 로 생성되던 스키마 기준선 (Flyway 도입 이전 운영 스키마)
+-- 기존 DB는 baseline-on-migrate 로 V1을 건너뛰고 V1_1부터 적용한다.
+-- 이후 추가되는 컬럼, 인덱스는 V1에 넣지 않고 별도 마이그레이션으로 추가한다.
+
+CREATE TABLE user (
+    user_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    provider_id  VARCHAR(255) NOT NULL,
+    nick_name    VARCHAR(255) NOT NULL,
+    status       ENUM ('UNIVERSITY_STUDENT','GRADUATE_STUDENT','JOB_SEEKER','INTERN','EMPLOYED','OTHER') NOT NULL,
+    tmp_chat     BIGINT,
+    tmp_memo     BIGINT,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE folder (
+    folder_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    title        VARCHAR(15) NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    PRIMARY KEY (folder_id),
+    CONSTRAINT fk_folder_user FOREIGN KEY (user_id) REFERENCES user (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_room (
+    chat_room_id BIGINT NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    user_id      BIGINT NOT NULL,
+    PRIMARY KEY (chat_room_id),
+    CONSTRAINT fk_chat_room_user FOREIGN KEY (user_id) REFERENCES user (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat (
+    chat_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    author       INTEGER      NOT NULL,
+    content      VARCHAR(500) NOT NULL,
+    chat_room_id BIGINT       NOT NULL,
+    PRIMARY KEY (chat_id),
+    CONSTRAINT fk_chat_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (chat_room_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE record (
+    record_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    type         ENUM ('MEMO','CHAT') NOT NULL,
+    title        VARCHAR(50),
+    content      VARCHAR(500) NOT NULL,
+    user_id      BIGINT       NOT NULL,
+    chat_room_id BIGINT,
+    folder_id    BIGINT,
+    PRIMARY KEY (record_id),
+    CONSTRAINT uk_record_chat_room UNIQUE (chat_room_id),
+    CONSTRAINT fk_record_user FOREIGN KEY (user_id) REFERENCES user (user_id),
+    CONSTRAINT fk_record_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (chat_room_id),
+    CONSTRAINT fk_record_folder FOREIGN KEY (folder_id) REFERENCES folder (folder_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE analysis (
+    analysis_id BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    content     VARCHAR(500) NOT NULL,
+    comment     VARCHAR(300) NOT NULL,
+    record_id   BIGINT,
+    PRIMARY KEY (analysis_id),
+    CONSTRAINT uk_analysis_record UNIQUE (record_id),
+    CONSTRAINT fk_analysis_record FOREIGN KEY (record_id) REFERENCES record (record_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ability (
+    ability_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    keyword     ENUM ('PROBLEM_SOLViNG_SKILL','ANALYTICAL_SKILL','GLOBAL_SKILL','JUDGEMENT_SKILL',
+                      'TARGET_AWARENESS','MOMENTUM','COMMUNICATION','LEADERSHIP','COLLABORATION',
+                      'ADAPTABILITY','CREATIVITY','LOGIC','CHALLENGE_MINDSET','SELF_IMPROVEMENT',
+                      'RESPONSIBILITY') NOT NULL,
+    content     VARCHAR(300) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    analysis_id BIGINT       NOT NULL,
+    PRIMARY KEY (ability_id),
+    CONSTRAINT fk_ability_user FOREIGN KEY (user_id) REFERENCES user (user_id),
+    CONSTRAINT fk_ability_analysis FOREIGN KEY (analysis_id) REFERENCES analysis (analysis_id)
+) ENGINE = InnoDB;
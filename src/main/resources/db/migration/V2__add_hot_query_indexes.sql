@@ -0,0 +1,30 @@
+-- Repository 조회 쿼리별 인덱스
+-- InnoDB 보조 인덱스는 PK를 포함하므로 (user_id, ...) 인덱스는 record_id, folder_id 순서도 함께 제공한다.
+
+-- 로그인: UserRepository.findByProviderIdAndDeletedAtIsNull
+CREATE INDEX idx_user_provider_deleted ON user (provider_id, deleted_at);
+-- 탈퇴 유저 삭제 배치: UserRepository.findDeletedUserIdList
+CREATE INDEX idx_user_deleted ON user (deleted_at);
+
+-- 폴더 목록: FolderRepository.findFolderDtoList (ORDER BY folder_id)
+CREATE INDEX idx_folder_user_deleted ON folder (user_id, deleted_at);
+-- 폴더명 조회/중복 검사: FolderRepository.findFolderByTitle, existsByTitleAndUser
+CREATE INDEX idx_folder_user_title ON folder (user_id, title, deleted_at);
+-- 삭제 폴더 정리 배치: FolderRepository.findDeletedFolderIdList
+CREATE INDEX idx_folder_deleted ON folder (deleted_at);
+
+-- 전체/키워드/최근 경험 기록 keyset 조회(RecordRepository.findRecords, findRecordsByKeyword, findRecordsOrderByCreatedAt)는
+-- fk_record_user의 (user_id) 인덱스 = (user_id, record_id)를 사용하므로 별도 인덱스를 두지 않는다.
+-- user_id로 시작하는 인덱스를 추가하면 MySQL이 FK용으로 자동 생성된 인덱스를 제거하므로 아래 인덱스는 folder_id로 시작한다.
+
+-- 폴더별 경험 기록 keyset 조회, 폴더 삭제 배치: RecordRepository.findRecordsByFolder, findRecordIdListByFolderId
+-- fk_record_folder의 (folder_id) 인덱스를 대신함
+CREATE INDEX idx_record_folder_user_record ON record (folder_id, user_id, record_id);
+
+-- 키워드 통계/목록: AbilityRepository.findKeywordStateDtoList, getKeywordList
+CREATE INDEX idx_ability_user_keyword ON ability (user_id, keyword);
+-- 키워드별 경험 기록의 EXISTS 조건: RecordRepository.findRecordsByKeyword
+CREATE INDEX idx_ability_analysis_keyword ON ability (analysis_id, keyword);
+
+-- 채팅 목록: ChatRepository.findByChatRoomOrderByChatId
+CREATE INDEX idx_chat_chat_room_chat ON chat (chat_room_id, chat_id);
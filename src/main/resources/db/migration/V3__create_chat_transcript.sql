@@ -0,0 +1,15 @@
+-- 경험 기록으로 변환된 채팅방의 채팅을 채팅방당 한 행으로 압축 보관
+-- data: 채팅 entry(길이 prefix)를 이어붙인 append-only 로그를 Deflate로 압축
+-- offsets: 압축 해제한 로그에서 각 entry의 시작 위치(4byte int 배열)
+CREATE TABLE chat_transcript (
+    chat_room_id  BIGINT   NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    message_count INTEGER  NOT NULL,
+    last_chat_id  BIGINT   NOT NULL,
+    data          LONGBLOB NOT NULL,
+    offsets       BLOB     NOT NULL,
+    PRIMARY KEY (chat_room_id),
+    -- 채팅방 일괄 삭제(탈퇴, 폴더 삭제) 시 함께 제거
+    CONSTRAINT fk_chat_transcript_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (chat_room_id) ON DELETE CASCADE
+) ENGINE = InnoDB;
@@ -0,0 +1,7 @@
+-- 인사말, 가이드 채팅을 chat 행 대신 템플릿 참조로 저장
+-- greeting_template, nick_name: 인사말 템플릿과 파라미터 (기존 채팅방은 NULL, 인사말이 chat 행으로 남아있음)
+-- guide_chat_id: 가이드를 요청한 사용자 채팅 id, 가이드 채팅은 이 채팅 뒤에 렌더링
+ALTER TABLE chat_room
+    ADD COLUMN greeting_template VARCHAR(30)  NULL,
+    ADD COLUMN nick_name         VARCHAR(255) NULL,
+    ADD COLUMN guide_chat_id     BIGINT       NULL;
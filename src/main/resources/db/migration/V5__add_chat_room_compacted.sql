@@ -0,0 +1,8 @@
+-- 채팅이 transcript로 압축된 적이 있는 채팅방 표시
+-- 채팅 조회 시 compacted인 채팅방만 chat_transcript를 조회한다.
+ALTER TABLE chat_room
+    ADD COLUMN compacted BIT(1) NOT NULL DEFAULT 0;
+
+UPDATE chat_room cr
+    JOIN chat_transcript ct ON ct.chat_room_id = cr.chat_room_id
+SET cr.compacted = 1;
@@ -1,5 +1,7 @@
 package corecord.dev.analysis.service;
 
+import corecord.dev.common.lock.SingleFlightExecutor;
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.ability.domain.entity.Ability;
 import corecord.dev.domain.ability.domain.entity.Keyword;
 import corecord.dev.domain.ability.status.AbilityErrorStatus;
@@ -14,6 +16,7 @@ import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
 import corecord.dev.domain.analysis.exception.AnalysisException;
 import corecord.dev.domain.analysis.application.AnalysisService;
 import corecord.dev.domain.analysis.infra.openai.application.OpenAiService;
+import corecord.dev.domain.folder.application.FolderDbService;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.record.domain.entity.RecordType;
@@ -28,10 +31,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -56,6 +61,15 @@ public class AnalysisServiceTest {
     @Mock
     private AbilityService abilityService;
 
+    @Mock
+    private FolderDbService folderDbService;
+
+    @Mock
+    private DataVersionManager dataVersionManager;
+
+    @Mock
+    private SingleFlightExecutor singleFlightExecutor;
+
     @InjectMocks
     private AnalysisService analysisService;
 
@@ -99,6 +113,92 @@ public class AnalysisServiceTest {
         assertEquals(response.getComment(), testComment);
     }
 
+    @Test
+    @DisplayName("가져온 경험 기록의 역량 분석이 생성되면 폴더, 유저의 경험 기록 수 증가")
+    void createAnalysisIfAbsentTest() {
+        // Given
+        when(singleFlightExecutor.execute(eq("analysis:1"), eq(AnalysisResponse.AnalysisDto.class), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(recordDbService.findRecordById(1L)).thenReturn(record);
+        when(openAiService.generateMemoSummary(any(String.class))).thenReturn(testContent);
+        when(openAiService.generateAbilityAnalysis(any(String.class)))
+                .thenReturn(new AnalysisAiResponse(Map.of("커뮤니케이션", "Test Keyword Content"), "Test Comment"));
+        doAnswer(invocation -> {
+            Analysis savedAnalysis = invocation.getArgument(0);
+            ReflectionTestUtils.setField(savedAnalysis, "abilityList", new ArrayList<>());
+            savedAnalysis.setCreatedAt(LocalDateTime.now());
+            return null;
+        }).when(analysisDbService).saveAnalysis(any(Analysis.class));
+
+        // When
+        AnalysisResponse.AnalysisDto response = analysisService.createAnalysisIfAbsent(1L, user);
+
+        // Then
+        verify(folderDbService).increaseRecordCount(folder);
+        verify(userDbService).increaseRecordCount(user);
+        verify(dataVersionManager).bump(user.getUserId());
+        assertEquals(testComment, response.getComment());
+    }
+
+    @Test
+    @DisplayName("가져온 경험 기록에 그 사이 역량 분석이 생성되었으면 다시 호출하지 않음")
+    void createAnalysisIfAbsentWithExistingAnalysisTest() {
+        // Given
+        Record analyzedRecord = Record.builder()
+                .recordId(1L)
+                .title(testTitle)
+                .content(testContent)
+                .user(user)
+                .type(RecordType.MEMO)
+                .folder(folder)
+                .analysis(analysis)
+                .build();
+        when(singleFlightExecutor.execute(eq("analysis:1"), eq(AnalysisResponse.AnalysisDto.class), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(recordDbService.findRecordById(1L)).thenReturn(analyzedRecord);
+        when(analysisDbService.findAnalysisById(1L)).thenReturn(analysis);
+
+        // When
+        AnalysisResponse.AnalysisDto response = analysisService.createAnalysisIfAbsent(1L, user);
+
+        // Then
+        verify(openAiService, never()).generateAbilityAnalysis(anyString());
+        verify(dataVersionManager, never()).bump(anyLong());
+        assertEquals(analysis.getAnalysisId(), response.getAnalysisId());
+    }
+
+    @Test
+    @DisplayName("역량 분석 요청이 락을 기다리는 동안 역량 분석이 생성되었으면 다시 조회한 기록으로 교체")
+    void postAnalysisWithAnalysisCreatedWhileWaitingTest() {
+        // Given
+        Record analyzedRecord = Record.builder()
+                .recordId(1L)
+                .title(testTitle)
+                .content(testContent)
+                .user(user)
+                .type(RecordType.MEMO)
+                .folder(folder)
+                .analysis(analysis)
+                .build();
+        when(userDbService.findUserById(1L)).thenReturn(user);
+        when(recordDbService.findRecordById(1L)).thenReturn(record, analyzedRecord);
+        when(singleFlightExecutor.execute(eq("analysis:1"), eq(AnalysisResponse.AnalysisDto.class), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        when(openAiService.generateMemoSummary(any(String.class))).thenReturn(testContent);
+        when(openAiService.generateAbilityAnalysis(any(String.class)))
+                .thenReturn(new AnalysisAiResponse(Map.of("커뮤니케이션", "Test Keyword Content"), "Test Comment"));
+
+        // When
+        AnalysisResponse.AnalysisDto response = analysisService.postAnalysis(1L, 1L);
+
+        // Then
+        verify(analysisDbService).updateAnalysisContent(analysis, testContent);
+        verify(analysisDbService, never()).saveAnalysis(any(Analysis.class));
+        verify(folderDbService, never()).increaseRecordCount(any(Folder.class));
+        verify(userDbService, never()).increaseRecordCount(any(User.class));
+        assertEquals(analysis.getAnalysisId(), response.getAnalysisId());
+    }
+
     @Test
     @DisplayName("메모 역량 분석 요약 글자수 예외 발생 테스트")
     void createMemoAnalysisWithNotEnoughContentTest() {
@@ -197,6 +297,7 @@ public class AnalysisServiceTest {
         verify(recordDbService, times(1)).updateRecordTitle(record, "Updated Title");
         verify(analysisDbService, times(1)).updateAnalysisContent(analysis, "Updated Content".repeat(5));
         verify(abilityService, times(1)).updateAbilityContents(analysis, abilityMap);
+        verify(singleFlightExecutor).evict("analysis:" + record.getRecordId());
 
         assertEquals(response.getAnalysisId(), analysis.getAnalysisId());
         assertEquals(response.getRecordId(), record.getRecordId());
@@ -278,6 +379,10 @@ public class AnalysisServiceTest {
         verify(userDbService, times(1)).findUserById(1L);
         verify(analysisDbService, times(1)).findAnalysisById(1L);
         verify(analysisDbService).deleteAnalysis(analysis);
+        verify(folderDbService).decreaseRecordCount(folder);
+        verify(userDbService).decreaseRecordCount(user);
+        verify(singleFlightExecutor).evict("analysis:" + record.getRecordId());
+        verify(dataVersionManager).bump(user.getUserId());
     }
 
     private User createMockUser() {
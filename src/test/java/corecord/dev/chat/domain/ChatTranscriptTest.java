@@ -0,0 +1,128 @@
+package corecord.dev.chat.domain;
+
+import corecord.dev.domain.chat.domain.entity.Chat;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.ChatTranscript;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChatTranscriptTest {
+
+    private final ChatRoom chatRoom = ChatRoom.builder().chatRoomId(1L).build();
+
+    @Test
+    @DisplayName("transcript에 추가한 채팅을 순서대로 복원할 수 있다.")
+    void appendAndDecode() {
+        // Given
+        ChatTranscript transcript = ChatTranscript.of(1L);
+
+        // When
+        transcript.appendChatList(List.of(createChat(1L, 0, "안녕하세요"), createChat(2L, 1, "경험을 알려주세요.")));
+        transcript.appendChatList(List.of(createChat(3L, 0, "프로젝트에서 리더를 맡았어요.")));
+
+        // Then
+        List<Chat> chatList = transcript.toChatList(chatRoom);
+        assertEquals(3, transcript.getMessageCount());
+        assertEquals(3L, transcript.getLastChatId());
+        assertEquals(List.of(1L, 2L, 3L), chatList.stream().map(Chat::getChatId).toList());
+        assertEquals(1, chatList.get(1).getAuthor());
+        assertEquals("프로젝트에서 리더를 맡았어요.", chatList.get(2).getContent());
+        assertEquals(LocalDateTime.of(2024, 11, 1, 12, 0, 3), chatList.get(2).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("이미 transcript에 포함된 채팅은 다시 추가되지 않는다.")
+    void appendDuplicateChat() {
+        // Given
+        ChatTranscript transcript = ChatTranscript.of(1L);
+        transcript.appendChatList(List.of(createChat(1L, 0, "안녕하세요"), createChat(2L, 1, "반가워요")));
+
+        // When
+        transcript.appendChatList(List.of(createChat(2L, 1, "반가워요"), createChat(3L, 0, "다음 채팅")));
+
+        // Then
+        assertEquals(3, transcript.getMessageCount());
+        assertEquals(List.of(1L, 2L, 3L), transcript.toChatList(chatRoom).stream().map(Chat::getChatId).toList());
+    }
+
+    @Test
+    @DisplayName("cursor 이전의 최신 채팅만 필요한 개수만큼 복원한다.")
+    void decodeBefore() {
+        // Given
+        ChatTranscript transcript = createTranscript(10);
+
+        // When
+        List<Chat> latestList = transcript.toChatListBefore(chatRoom, 0L, 3);
+        List<Chat> beforeList = transcript.toChatListBefore(chatRoom, 5L, 3);
+        List<Chat> firstList = transcript.toChatListBefore(chatRoom, 3L, 3);
+
+        // Then
+        assertEquals(List.of(8L, 9L, 10L), latestList.stream().map(Chat::getChatId).toList());
+        assertEquals(List.of(2L, 3L, 4L), beforeList.stream().map(Chat::getChatId).toList());
+        assertEquals(List.of(1L, 2L), firstList.stream().map(Chat::getChatId).toList());
+        assertEquals("채팅 4", beforeList.get(2).getContent());
+    }
+
+    @Test
+    @DisplayName("cursor 이후의 채팅만 복원한다.")
+    void decodeAfter() {
+        // Given
+        ChatTranscript transcript = createTranscript(10);
+
+        // When
+        List<Chat> afterList = transcript.toChatListAfter(chatRoom, 7L);
+        List<Chat> emptyList = transcript.toChatListAfter(chatRoom, 10L);
+
+        // Then
+        assertEquals(List.of(8L, 9L, 10L), afterList.stream().map(Chat::getChatId).toList());
+        assertEquals(List.of(), emptyList);
+    }
+
+    @Test
+    @DisplayName("created_at이 없는 채팅도 추가하고 복원할 수 있다.")
+    void appendChatWithoutCreatedAt() {
+        // Given
+        ChatTranscript transcript = ChatTranscript.of(1L);
+        Chat chat = Chat.builder()
+                .chatId(1L)
+                .author(0)
+                .content("안녕하세요")
+                .chatRoom(chatRoom)
+                .build();
+
+        // When
+        transcript.appendChatList(List.of(chat));
+
+        // Then
+        List<Chat> chatList = transcript.toChatList(chatRoom);
+        assertEquals("안녕하세요", chatList.get(0).getContent());
+        assertNull(chatList.get(0).getCreatedAt());
+    }
+
+    private ChatTranscript createTranscript(int chatCount) {
+        ChatTranscript transcript = ChatTranscript.of(1L);
+        List<Chat> chatList = new ArrayList<>();
+        for (long chatId = 1; chatId <= chatCount; chatId++)
+            chatList.add(createChat(chatId, (int) (chatId % 2), "채팅 " + chatId));
+        transcript.appendChatList(chatList);
+        return transcript;
+    }
+
+    private Chat createChat(Long chatId, int author, String content) {
+        Chat chat = Chat.builder()
+                .chatId(chatId)
+                .author(author)
+                .content(content)
+                .chatRoom(chatRoom)
+                .build();
+        chat.setCreatedAt(LocalDateTime.of(2024, 11, 1, 12, 0, chatId.intValue()));
+        return chat;
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -79,6 +80,29 @@ class ChatRepositoryTest {
         assertEquals("Third message", chats.get(2).getContent());
     }
 
+    @Test
+    @DisplayName("채팅 ID 기준 이후, 이전 채팅 범위 조회 테스트")
+    void findChatsAfterAndBefore() {
+        // Given
+        User user = createTestUser();
+        ChatRoom chatRoom = createTestChatRoom(user);
+
+        for (int i = 1; i <= 5; i++)
+            createTestChat(chatRoom, "Message " + i);
+        List<Chat> chats = chatRepository.findByChatRoomOrderByChatId(chatRoom);
+        Long thirdChatId = chats.get(2).getChatId();
+
+        // When
+        List<Chat> afterChats = chatRepository.findChatsAfter(chatRoom, thirdChatId);
+        List<Chat> beforeChats = chatRepository.findChatsBefore(chatRoom, thirdChatId, PageRequest.of(0, 1));
+        List<Chat> latestChats = chatRepository.findChatsBefore(chatRoom, 0L, PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(List.of("Message 4", "Message 5"), afterChats.stream().map(Chat::getContent).toList());
+        assertEquals(List.of("Message 2"), beforeChats.stream().map(Chat::getContent).toList());
+        assertEquals(List.of("Message 5", "Message 4"), latestChats.stream().map(Chat::getContent).toList());
+    }
+
     private User createTestUser() {
         // 사용자 저장 시 persist 호출
         User user = User.builder()
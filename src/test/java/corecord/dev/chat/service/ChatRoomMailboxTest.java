@@ -0,0 +1,194 @@
+package corecord.dev.chat.service;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.application.ChatRoomMailbox;
+import corecord.dev.domain.chat.exception.ChatException;
+import corecord.dev.domain.chat.status.ChatErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMailboxTest {
+
+    @Mock
+    private RedisLock redisLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomMailbox chatRoomMailbox;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+        meterRegistry = new SimpleMeterRegistry();
+        chatRoomMailbox = new ChatRoomMailbox(redisLock, meterRegistry, 10000, 5000, 10);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 채팅은 동시에 하나씩만 처리")
+    void executeSameChatRoomSeriallyTest() throws Exception {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Integer>> futureList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futureList.add(executorService.submit(() -> chatRoomMailbox.execute(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return 1;
+            })));
+        }
+        for (Future<Integer> future : futureList)
+            future.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, meterRegistry.get("chat.mailbox.depth").gauge().value());
+        assertEquals(0, meterRegistry.get("chat.mailbox.rooms").gauge().value());
+        assertEquals(8, meterRegistry.get("chat.mailbox.wait").timer().count());
+        verify(redisLock, times(8)).unlock("chatRoom:lock:1", "token");
+    }
+
+    @Test
+    @DisplayName("서로 다른 채팅방의 채팅은 병렬로 처리")
+    void executeDifferentChatRoomInParallelTest() throws Exception {
+        // Given
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When
+        // 두 채팅방이 동시에 실행 중이어야 barrier를 통과할 수 있음
+        Future<Integer> room1 = executorService.submit(() -> chatRoomMailbox.execute(1L, () -> awaitBarrier(barrier)));
+        Future<Integer> room2 = executorService.submit(() -> chatRoomMailbox.execute(2L, () -> awaitBarrier(barrier)));
+
+        // Then
+        assertEquals(0, room1.get(5, TimeUnit.SECONDS));
+        assertEquals(0, room2.get(5, TimeUnit.SECONDS));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 채팅은 도착한 순서대로 처리")
+    void executeSameChatRoomInArrivalOrderTest() throws Exception {
+        // Given
+        int turnCount = 5;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> executedOrder = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newFixedThreadPool(turnCount + 1);
+
+        // 첫 turn이 채팅방을 점유한 동안 나머지 turn을 하나씩 대기열에 넣음
+        Future<Integer> first = executorService.submit(() -> chatRoomMailbox.execute(1L, () -> {
+            started.countDown();
+            awaitLatch(release);
+            return 0;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<Future<Integer>> futureList = new ArrayList<>();
+        for (int i = 1; i <= turnCount; i++) {
+            int order = i;
+            futureList.add(executorService.submit(() -> chatRoomMailbox.execute(1L, () -> {
+                executedOrder.add(order);
+                return order;
+            })));
+            awaitDepth(i);
+        }
+
+        // When
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        for (Future<Integer> future : futureList)
+            future.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertEquals(List.of(1, 2, 3, 4, 5), executedOrder);
+    }
+
+    @Test
+    @DisplayName("wait-timeout 안에 채팅방 Redis 락을 얻지 못하면 CHAT_ROOM_BUSY 예외 발생")
+    void executeWithRedisLockTimeoutTest() {
+        // Given
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+        ChatRoomMailbox timeoutMailbox = new ChatRoomMailbox(redisLock, meterRegistry, 10000, 100, 10);
+        AtomicInteger executed = new AtomicInteger();
+
+        // When
+        ChatException exception = assertThrows(ChatException.class,
+                () -> timeoutMailbox.execute(1L, executed::incrementAndGet));
+
+        // Then
+        assertEquals(ChatErrorStatus.CHAT_ROOM_BUSY, exception.getChatErrorStatus());
+        assertEquals(0, executed.get());
+        assertEquals(0, meterRegistry.get("chat.mailbox.depth").gauge().value());
+        assertEquals(0, meterRegistry.get("chat.mailbox.rooms").gauge().value());
+        verify(redisLock, atLeastOnce()).tryLock(eq("chatRoom:lock:1"), any(Duration.class));
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+
+    // 대기 중인 turn 수가 expected가 될 때까지 기다림
+    private void awaitDepth(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (meterRegistry.get("chat.mailbox.depth").gauge().value() != expected) {
+            if (System.currentTimeMillis() > deadline)
+                fail("대기 중인 turn 수가 " + expected + "가 되지 않음");
+            Thread.sleep(5);
+        }
+        // depth 증가 직후 공정 락 대기열에 들어갈 때까지 여유를 둠
+        Thread.sleep(50);
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int awaitBarrier(CyclicBarrier barrier) {
+        try {
+            barrier.await(2, TimeUnit.SECONDS);
+            return 0;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package corecord.dev.chat.service;
 
+import corecord.dev.common.lock.SingleFlightExecutor;
 import corecord.dev.domain.chat.application.ChatAIService;
 import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.chat.application.ChatRoomMailbox;
 import corecord.dev.domain.chat.application.ChatService;
 import corecord.dev.domain.chat.domain.dto.request.ChatRequest;
 import corecord.dev.domain.chat.domain.dto.response.ChatResponse;
 import corecord.dev.domain.chat.domain.dto.response.ChatSummaryAiResponse;
 import corecord.dev.domain.chat.domain.entity.Chat;
 import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.ChatTemplate;
+import corecord.dev.domain.chat.domain.entity.TmpChat;
 import corecord.dev.domain.chat.exception.ChatException;
 import corecord.dev.domain.chat.infra.clova.application.ClovaService;
 import corecord.dev.domain.chat.infra.clova.dto.request.ClovaRequest;
@@ -22,10 +26,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +53,12 @@ class ChatServiceTest {
     @Mock
     private ChatAIService chatAIService;
 
+    @Mock
+    private SingleFlightExecutor singleFlightExecutor;
+
+    @Mock
+    private ChatRoomMailbox chatRoomMailbox;
+
     private User user;
     private ChatRoom chatRoom;
 
@@ -52,6 +66,12 @@ class ChatServiceTest {
     void setUp() {
         user = createTestUser();
         chatRoom = createTestChatRoom();
+
+        // 중복 요청이 없는 경우와 같이 전달받은 로직을 그대로 실행
+        lenient().when(singleFlightExecutor.execute(anyString(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+        lenient().when(chatRoomMailbox.execute(anyLong(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
     }
 
     @Test
@@ -60,15 +80,13 @@ class ChatServiceTest {
         // Given
         when(userDbService.findUserById(user.getUserId())).thenReturn(user);
         when(chatDbService.createChatRoom(user)).thenReturn(chatRoom);
-        when(chatDbService.saveChat(anyInt(), anyString(), any(ChatRoom.class)))
-                .thenAnswer(invocation -> createTestChat(invocation.getArgument(1), invocation.getArgument(0)));
 
         // When
         ChatResponse.ChatRoomDto result = chatService.createChatRoom(user.getUserId());
 
         // Then
         verify(chatDbService).createChatRoom(user);
-        verify(chatDbService).saveChat(0, "안녕하세요! testUser님\n오늘은 어떤 경험을 했나요?\n저와 함께 정리해보아요!", chatRoom);
+        verify(chatDbService, never()).saveChat(anyInt(), anyString(), any(ChatRoom.class)); // 인사말은 템플릿으로 저장
         assertEquals(result.getFirstChat(), "안녕하세요! testUser님\n오늘은 어떤 경험을 했나요?\n저와 함께 정리해보아요!");
     }
 
@@ -84,7 +102,7 @@ class ChatServiceTest {
         when(chatDbService.findChatsByChatRoom(chatRoom)).thenReturn(List.of(userChat, aiChat));
 
         // When
-        ChatResponse.ChatListDto result = chatService.getChatList(user.getUserId(), chatRoom.getChatRoomId());
+        ChatResponse.ChatListDto result = chatService.getChatList(user.getUserId(), chatRoom.getChatRoomId(), null, null, null);
 
         // Then
         assertEquals(result.getChats().size(), 2);
@@ -92,10 +110,64 @@ class ChatServiceTest {
         assertEquals(result.getChats().get(1).getContent(), "aiChat");
     }
 
+    @Test
+    @DisplayName("이전 채팅 페이지 조회 시 limit개를 반환하고 남은 이전 채팅 여부를 함께 반환")
+    void getChatListBeforeChatId() {
+        // Given
+        List<Chat> chatList = List.of(
+                createTestChat("chat2", 0),
+                createTestChat("chat3", 1)
+        );
+
+        when(userDbService.findUserById(user.getUserId())).thenReturn(user);
+        when(chatDbService.findChatRoomById(chatRoom.getChatRoomId(), user)).thenReturn(chatRoom);
+        when(chatDbService.findChatsBefore(chatRoom, 10L, 2)).thenReturn(new SliceImpl<>(chatList, PageRequest.of(0, 2), true));
+
+        // When
+        ChatResponse.ChatListDto result = chatService.getChatList(user.getUserId(), chatRoom.getChatRoomId(), null, 10L, 2);
+
+        // Then
+        assertTrue(result.isHasPrevious());
+        assertEquals(2, result.getChats().size());
+        assertEquals("chat2", result.getChats().get(0).getContent());
+        verify(chatDbService, never()).findChatsByChatRoom(chatRoom);
+    }
+
+    @Test
+    @DisplayName("afterChatId와 beforeChatId를 함께 요청하면 예외 발생")
+    void getChatListWithInvalidCursor() {
+        // Given
+        when(userDbService.findUserById(user.getUserId())).thenReturn(user);
+        when(chatDbService.findChatRoomById(chatRoom.getChatRoomId(), user)).thenReturn(chatRoom);
+
+        // When & Then
+        assertThrows(ChatException.class,
+                () -> chatService.getChatList(user.getUserId(), chatRoom.getChatRoomId(), 1L, 10L, null));
+    }
+
     @Nested
     @DisplayName("채팅 생성하기 테스트")
     class ChatServiceAiResponseTests {
 
+        @Test
+        @DisplayName("이미 채팅이 있는 채팅방에서 가이드 호출 시 예외 발생")
+        void createChatWithGuideAfterChat() {
+            // Given
+            ChatRequest.ChatDto request = ChatRequest.ChatDto.builder()
+                    .guide(true)
+                    .content("어떤 경험을 말해야 할지 모르겠어요.")
+                    .build();
+
+            when(userDbService.findUserById(user.getUserId())).thenReturn(user);
+            when(chatDbService.findChatRoomById(chatRoom.getChatRoomId(), user)).thenReturn(chatRoom);
+            when(chatDbService.countChatsByChatRoom(chatRoom)).thenReturn(2L);
+
+            // When & Then
+            assertThrows(ChatException.class,
+                    () -> chatService.createChat(user.getUserId(), chatRoom.getChatRoomId(), request));
+            verify(chatDbService, never()).saveChat(anyInt(), anyString(), any(ChatRoom.class));
+        }
+
         @Test
         @DisplayName("가이드 호출 시")
         void createChatWithGuide() {
@@ -107,6 +179,7 @@ class ChatServiceTest {
 
             when(userDbService.findUserById(user.getUserId())).thenReturn(user);
             when(chatDbService.findChatRoomById(chatRoom.getChatRoomId(), user)).thenReturn(chatRoom);
+            when(chatDbService.countChatsByChatRoom(chatRoom)).thenReturn(0L);
             when(chatDbService.saveChat(anyInt(), anyString(), any(ChatRoom.class)))
                     .thenAnswer(invocation -> createTestChat(invocation.getArgument(1), invocation.getArgument(0)));
 
@@ -118,10 +191,13 @@ class ChatServiceTest {
             );
 
             // Then
-            verify(chatDbService, times(3)).saveChat(anyInt(), anyString(), eq(chatRoom)); // 사용자 입력 1개, 가이드 2개
+            verify(chatDbService, times(1)).saveChat(anyInt(), anyString(), eq(chatRoom)); // 사용자 입력 1개, 가이드는 템플릿으로 렌더링
+            verify(chatDbService).updateGuideChat(eq(chatRoom), any(Chat.class));
             assertEquals(result.getChats().size(), 2); // Guide 메시지는 두 개 생성
             assertEquals(result.getChats().get(0).getContent(), "걱정 마세요!\n저와 대화하다 보면 경험이 정리될 거예요\uD83D\uDCDD");
             assertEquals(result.getChats().get(1).getContent(), "오늘은 어떤 경험을 했나요?\n상황과 해결한 문제를 말해주세요!");
+            assertNull(result.getChats().get(0).getChatId()); // 렌더링한 채팅은 chat_id 없이 type으로 구분
+            assertEquals("guide", result.getChats().get(0).getType());
         }
 
         @Test
@@ -257,16 +333,17 @@ class ChatServiceTest {
             // Then
             verify(userDbService).findUserById(user.getUserId());
             verify(chatDbService).findChatRoomById(chatRoom.getChatRoomId(), user);
-            verify(userDbService).updateUserTmpChat(user, chatRoom.getChatRoomId());
+            verify(chatDbService).saveTmpChat(user.getUserId(), chatRoom.getChatRoomId());
         }
 
         @Test
         @DisplayName("이미 임시 저장된 채팅방이 있을 경우 예외 처리")
         void saveChatTmpFailsWhenTmpChatExists() {
             // Given
-            user.updateTmpChat(chatRoom.getChatRoomId());
             when(userDbService.findUserById(user.getUserId())).thenReturn(user);
             when(chatDbService.findChatRoomById(chatRoom.getChatRoomId(), user)).thenReturn(chatRoom);
+            when(chatDbService.findTmpChat(user.getUserId()))
+                    .thenReturn(Optional.of(TmpChat.of(user.getUserId(), chatRoom.getChatRoomId(), 604800L)));
 
             // When & Then
             assertThrows(ChatException.class, () -> chatService.saveChatTmp(user.getUserId(), chatRoom.getChatRoomId()));
@@ -276,8 +353,9 @@ class ChatServiceTest {
         @DisplayName("조회 성공")
         void getChatTmp() {
             // Given
-            user.updateTmpChat(chatRoom.getChatRoomId());
             when(userDbService.findUserById(user.getUserId())).thenReturn(user);
+            when(chatDbService.findTmpChat(user.getUserId()))
+                    .thenReturn(Optional.of(TmpChat.of(user.getUserId(), chatRoom.getChatRoomId(), 604800L)));
 
             // When
             ChatResponse.ChatTmpDto result = chatService.getChatTmp(user.getUserId());
@@ -286,6 +364,7 @@ class ChatServiceTest {
             assertEquals(result.getChatRoomId(), chatRoom.getChatRoomId());
             assertTrue(result.isExist());
             verify(userDbService).findUserById(user.getUserId());
+            verify(chatDbService).deleteTmpChat(user.getUserId());
         }
     }
 
@@ -306,6 +385,8 @@ class ChatServiceTest {
         return ChatRoom.builder()
                 .chatRoomId(1L)
                 .user(user)
+                .greetingTemplate(ChatTemplate.GREETING)
+                .nickName(user.getNickName())
                 .chatList(new ArrayList<>())
                 .build();
     }
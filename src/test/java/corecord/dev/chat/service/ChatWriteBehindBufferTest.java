@@ -0,0 +1,147 @@
+package corecord.dev.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.application.ChatWriteBehindBuffer;
+import corecord.dev.domain.chat.domain.entity.Chat;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.repository.ChatBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindBufferTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ChatBulkRepository chatBulkRepository;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatWriteBehindBuffer = new ChatWriteBehindBuffer(redisTemplate, new ObjectMapper(), chatBulkRepository,
+                redisLock, meterRegistry, true, 200, 30000, 20);
+        chatRoom = ChatRoom.builder().chatRoomId(1L).build();
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 채팅과 버퍼의 채팅을 중복 없이 chat_id 순으로 반환")
+    void findChatListWithBufferedChatTest() {
+        // Given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.values("chat:writeBehind:room:1"))
+                .thenReturn(List.of(bufferedJson(12L, "아직 저장 전"), bufferedJson(11L, "flush 직후")));
+
+        // When
+        List<Chat> result = chatWriteBehindBuffer.findChatList(chatRoom, () -> List.of(createChat(10L), createChat(11L)));
+
+        // Then
+        assertEquals(List.of(10L, 11L, 12L), result.stream().map(Chat::getChatId).toList());
+        assertEquals("아직 저장 전", result.get(2).getContent());
+    }
+
+    @Test
+    @DisplayName("직전 flush에서 남은 processing 채팅을 먼저 다시 저장")
+    void flushReplayProcessingTest() {
+        // Given
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:writeBehind:processing", 0, -1)).thenReturn(List.of(bufferedJson(12L, "재처리")));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(List.of());
+
+        // When
+        chatWriteBehindBuffer.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Chat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatBulkRepository, times(1)).insertIgnoreChatList(captor.capture());
+        assertEquals(12L, captor.getValue().get(0).getChatId());
+        assertEquals(1L, captor.getValue().get(0).getChatRoom().getChatRoomId());
+        verify(redisTemplate).delete("chat:writeBehind:processing");
+        verify(redisLock).unlock("chat:writeBehind:flushLock", "token");
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 processing 리스트를 남겨 다음 flush에서 재시도")
+    void flushFailureKeepsProcessingTest() {
+        // Given
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:writeBehind:processing", 0, -1)).thenReturn(List.of(bufferedJson(12L, "재처리")));
+        doThrow(new IllegalStateException("DB 장애")).when(chatBulkRepository).insertIgnoreChatList(anyList());
+
+        // When
+        chatWriteBehindBuffer.flush();
+
+        // Then
+        verify(redisTemplate, never()).delete("chat:writeBehind:processing");
+        verify(redisLock).unlock("chat:writeBehind:flushLock", "token");
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 채팅 수를 지표로 기록")
+    void pendingGaugeTest() {
+        // Given
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.size("chat:writeBehind:pending")).thenReturn(350L);
+
+        // When
+        double pending = meterRegistry.get("chat.write-behind.pending").gauge().value();
+
+        // Then
+        assertEquals(350, pending);
+    }
+
+    private String bufferedJson(Long chatId, String content) {
+        return "{\"chatId\":" + chatId + ",\"chatRoomId\":1,\"author\":1,\"content\":\"" + content +
+                "\",\"createdAt\":\"2024-10-01T10:00:00\"}";
+    }
+
+    private Chat createChat(Long chatId) {
+        Chat chat = Chat.builder()
+                .chatId(chatId)
+                .author(1)
+                .content("저장된 채팅")
+                .chatRoom(chatRoom)
+                .build();
+        chat.setCreatedAt(LocalDateTime.now());
+        return chat;
+    }
+}
@@ -0,0 +1,96 @@
+package corecord.dev.chat.service;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.chat.application.OrphanReaperService;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.entity.TmpChat;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.user.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanReaperServiceTest {
+
+    @Mock
+    private ChatDbService chatDbService;
+
+    @Mock
+    private RecordDbService recordDbService;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanReaperService orphanReaperService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orphanReaperService = new OrphanReaperService(chatDbService, recordDbService, redisLock, meterRegistry,
+                2, 10, 604800, 600000);
+    }
+
+    @Test
+    @DisplayName("임시 저장된 채팅방을 제외한 고아 채팅방과 임시 저장 기록을 배치로 삭제")
+    void reapOrphansTest() {
+        // Given
+        User user = User.builder().userId(1L).build();
+        ChatRoom tmpChatRoom = ChatRoom.builder().chatRoomId(1L).user(user).build();
+        ChatRoom abandonedChatRoom = ChatRoom.builder().chatRoomId(2L).user(user).build();
+
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(recordDbService.findOrphanTmpRecordIdList(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(10L, 11L));
+        when(recordDbService.findOrphanTmpRecordIdList(eq(11L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(12L));
+        when(chatDbService.findAbandonedChatRoomList(eq(0L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(tmpChatRoom, abandonedChatRoom));
+        when(chatDbService.findAbandonedChatRoomList(eq(2L), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+        when(chatDbService.findTmpChat(1L)).thenReturn(Optional.of(TmpChat.of(1L, 1L, 604800L)));
+        when(chatDbService.deleteChatRoomListWithChats(List.of(2L))).thenReturn(3);
+
+        // When
+        orphanReaperService.reapOrphans();
+
+        // Then
+        verify(recordDbService).deleteRecordList(List.of(10L, 11L));
+        verify(recordDbService).deleteRecordList(List.of(12L));
+        verify(chatDbService).deleteChatRoomListWithChats(List.of(2L));
+        verify(redisLock).unlock(anyString(), eq("token"));
+
+        assertEquals(3.0, meterRegistry.get("reaper.reclaimed").tag("type", "record").counter().count());
+        assertEquals(1.0, meterRegistry.get("reaper.reclaimed").tag("type", "chat_room").counter().count());
+        assertEquals(3.0, meterRegistry.get("reaper.reclaimed").tag("type", "chat").counter().count());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 실행하지 않음")
+    void reapOrphansLockedTest() {
+        // Given
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        // When
+        orphanReaperService.reapOrphans();
+
+        // Then
+        verifyNoInteractions(chatDbService, recordDbService);
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+}
@@ -0,0 +1,87 @@
+package corecord.dev.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @InjectMocks
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅하고 쓰기를 기록")
+    void routeWriteToPrimary() {
+        // When
+        Object lookupKey = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verify(readYourWritesTracker).trackWrite();
+        verifyNoInteractions(replicaLagMonitor);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica로 라우팅")
+    void routeReadOnlyToReplica() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isAvailable()).thenReturn(true);
+        when(readYourWritesTracker.isSticky()).thenReturn(false);
+
+        // When
+        Object lookupKey = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+        verify(readYourWritesTracker, never()).trackWrite();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 readOnly 트랜잭션도 primary로 라우팅")
+    void routeReadOnlyToPrimaryWhenReplicaLags() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isAvailable()).thenReturn(false);
+
+        // When
+        Object lookupKey = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("방금 쓰기를 커밋한 사용자의 readOnly 트랜잭션은 primary로 라우팅")
+    void routeReadOnlyToPrimaryAfterOwnWrite() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isAvailable()).thenReturn(true);
+        when(readYourWritesTracker.isSticky()).thenReturn(true);
+
+        // When
+        Object lookupKey = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // Then
+        assertThat(lookupKey).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
@@ -0,0 +1,121 @@
+package corecord.dev.common.lock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.domain.chat.domain.dto.response.ChatResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightExecutorTest {
+
+    @Mock
+    private RedisLock redisLock;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SingleFlightExecutor singleFlightExecutor;
+
+    private final String key = "chatSummary:1:10";
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        singleFlightExecutor = new SingleFlightExecutor(redisLock, redisTemplate, objectMapper, 1000, 1000, 1000, 10);
+    }
+
+    @Test
+    @DisplayName("같은 key로 동시에 들어온 요청은 한 번만 실행하고 결과를 공유")
+    void executeConcurrentDuplicateTest() throws Exception {
+        // Given
+        when(redisLock.tryLock(eq("singleFlight:lock:" + key), any(Duration.class))).thenReturn(Optional.of("token"));
+        AtomicInteger callCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+
+        // When
+        List<Future<ChatResponse.ChatSummaryDto>> futureList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futureList.add(executorService.submit(() -> singleFlightExecutor.execute(key, ChatResponse.ChatSummaryDto.class, () -> {
+                callCount.incrementAndGet();
+                await(release);
+                return new ChatResponse.ChatSummaryDto(1L, "요약 제목", "요약 내용");
+            })));
+        }
+        Thread.sleep(300); // 나머지 요청이 진행 중인 요청에 합류할 때까지 대기
+        release.countDown();
+
+        // Then
+        for (Future<ChatResponse.ChatSummaryDto> future : futureList)
+            assertEquals("요약 제목", future.get(5, TimeUnit.SECONDS).getTitle());
+        executorService.shutdown();
+
+        assertEquals(1, callCount.get());
+        verify(valueOperations, times(1)).set(eq("singleFlight:result:" + key), anyString(), any(Duration.class));
+        verify(redisLock, times(1)).unlock("singleFlight:lock:" + key, "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 락을 기다렸다가 저장된 결과를 반환")
+    void executeWaitForOtherNodeTest() throws Exception {
+        // Given
+        String json = objectMapper.writeValueAsString(new ChatResponse.ChatSummaryDto(1L, "요약 제목", "요약 내용"));
+        when(valueOperations.get("singleFlight:result:" + key)).thenReturn(null, null, json);
+        when(redisLock.tryLock(eq("singleFlight:lock:" + key), any(Duration.class))).thenReturn(Optional.empty());
+
+        // When
+        ChatResponse.ChatSummaryDto result = singleFlightExecutor.execute(key, ChatResponse.ChatSummaryDto.class, () -> {
+            fail("다른 노드가 실행 중인 요청을 다시 실행함");
+            return null;
+        });
+
+        // Then
+        assertEquals("요약 내용", result.getContent());
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("자원이 수정되면 남아 있는 결과를 제거")
+    void evictTest() {
+        // When
+        singleFlightExecutor.evict(key);
+
+        // Then
+        verify(redisTemplate).delete("singleFlight:result:" + key);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package corecord.dev.common.metrics;
+
+import corecord.dev.domain.analysis.exception.AnalysisException;
+import corecord.dev.domain.analysis.status.AnalysisErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LlmMetrics llmMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        llmMetrics = new LlmMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("LLM 호출 시간과 토큰 사용량을 provider, operation별로 기록")
+    void recordSuccessTest() {
+        // When
+        String result = llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.MEMO_SUMMARY, () -> {
+            llmMetrics.recordTokens(LlmMetrics.OPENAI, LlmMetrics.MEMO_SUMMARY, 120, 30);
+            return "요약";
+        });
+
+        // Then
+        assertEquals("요약", result);
+        assertEquals(1, meterRegistry.get("llm.request")
+                .tags("provider", "openai", "operation", "memo_summary", "outcome", "success")
+                .timer().count());
+        assertEquals(120.0, meterRegistry.get("llm.tokens").tags("operation", "memo_summary", "type", "prompt").counter().count());
+        assertEquals(30.0, meterRegistry.get("llm.tokens").tags("operation", "memo_summary", "type", "completion").counter().count());
+    }
+
+    @Test
+    @DisplayName("응답 파싱 실패 시 parse_error 결과와 파싱 실패 수를 기록하고 예외를 그대로 던짐")
+    void recordParseFailureTest() {
+        // When
+        assertThrows(AnalysisException.class, () -> llmMetrics.record(LlmMetrics.OPENAI, LlmMetrics.ABILITY_ANALYSIS, () -> {
+            throw new AnalysisException(AnalysisErrorStatus.INVALID_ABILITY_ANALYSIS);
+        }));
+
+        // Then
+        assertEquals(1, meterRegistry.get("llm.request")
+                .tags("operation", "ability_analysis", "outcome", "parse_error")
+                .timer().count());
+        assertEquals(1.0, meterRegistry.get("llm.parse.failure")
+                .tags("operation", "ability_analysis", "error", "INVALID_ABILITY_ANALYSIS")
+                .counter().count());
+    }
+}
@@ -0,0 +1,289 @@
+package corecord.dev.common.migration;
+
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.ability.domain.repository.AbilityRepository;
+import corecord.dev.domain.chat.domain.entity.ChatRoom;
+import corecord.dev.domain.chat.domain.repository.ChatRepository;
+import corecord.dev.domain.chat.domain.repository.ChatRoomRepository;
+import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.folder.domain.repository.FolderRepository;
+import corecord.dev.domain.record.domain.repository.RecordRepository;
+import corecord.dev.domain.user.domain.entity.User;
+import corecord.dev.domain.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 인덱스가 Repository 조회 쿼리를 받쳐주는지 로컬 MySQL의 EXPLAIN 결과로 검증
+ * Repository 메서드를 실제로 호출해 Hibernate가 생성하고 값을 바인딩한 SQL을 기록한 뒤 EXPLAIN한다.
+ */
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class HotQueryExplainTest {
+
+    private static final String SEED_PROVIDER_ID = "explain-seed";
+    private static final int USER_COUNT = 30;
+    private static final int RECORD_PER_FOLDER = 40;
+
+    // 실행된 PreparedStatement의 toString()은 "...ClientPreparedStatement: <값이 바인딩된 SQL>" 형태
+    private static final Pattern STATEMENT_PREFIX = Pattern.compile("^.*?PreparedStatement(\\[\\d+])?: ", Pattern.DOTALL);
+    private static final List<String> EXECUTED_SQL_LIST = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RecordRepository recordRepository;
+    @Autowired
+    private FolderRepository folderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ChatRepository chatRepository;
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    @Autowired
+    private AbilityRepository abilityRepository;
+
+    private User user;
+    private Folder folder;
+    private ChatRoom chatRoom;
+    private Long lastRecordId;
+
+    record HotQuery(String name, boolean allowFilesort, Runnable query) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @BeforeAll
+    void seed() {
+        deleteSeed();
+        for (int i = 0; i < USER_COUNT; i++)
+            seedUser(i);
+
+        // 옵티마이저가 실제 분포로 실행 계획을 세우도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE TABLE user, folder, record, analysis, ability, chat_room, chat");
+
+        Long userId = jdbcTemplate.queryForObject(
+                "SELECT MIN(user_id) FROM user WHERE provider_id = ?", Long.class, SEED_PROVIDER_ID + 0);
+        Long folderId = jdbcTemplate.queryForObject(
+                "SELECT MIN(folder_id) FROM folder WHERE user_id = ?", Long.class, userId);
+        Long chatRoomId = jdbcTemplate.queryForObject(
+                "SELECT MIN(chat_room_id) FROM chat_room WHERE user_id = ?", Long.class, userId);
+        lastRecordId = jdbcTemplate.queryForObject(
+                "SELECT MAX(record_id) FROM record WHERE user_id = ?", Long.class, userId) - 10;
+
+        user = userRepository.findById(userId).orElseThrow();
+        folder = folderRepository.findById(folderId).orElseThrow();
+        chatRoom = chatRoomRepository.findById(chatRoomId).orElseThrow();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        deleteSeed();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    @DisplayName("조회 쿼리가 전체 스캔이나 filesort 없이 인덱스를 사용하는지 검증")
+    void explainHotQuery(HotQuery hotQuery) {
+        // Given
+        EXECUTED_SQL_LIST.clear();
+        hotQuery.query().run();
+        // 연관 엔티티 조회가 뒤따를 수 있으므로 처음 실행된 SQL이 Repository 쿼리
+        assertThat(EXECUTED_SQL_LIST).as("%s: 실행된 SQL 없음", hotQuery.name()).isNotEmpty();
+        String sql = EXECUTED_SQL_LIST.get(0);
+
+        // When
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        // Then
+        for (Map<String, Object> row : plan) {
+            String table = String.valueOf(row.get("table"));
+            String type = String.valueOf(row.get("type"));
+            String extra = String.valueOf(row.get("Extra"));
+
+            // <derived>, <subquery> 같은 내부 임시 테이블은 제외
+            if (table.startsWith("<"))
+                continue;
+
+            assertThat(type)
+                    .as("%s: %s 테이블 전체 스캔 %s\n%s", hotQuery.name(), table, row, sql)
+                    .isNotIn("ALL", "index");
+            if (!hotQuery.allowFilesort())
+                assertThat(extra)
+                        .as("%s: %s 테이블 filesort %s\n%s", hotQuery.name(), table, row, sql)
+                        .doesNotContain("Using filesort");
+        }
+    }
+
+    Stream<HotQuery> hotQueries() {
+        return Stream.of(
+                new HotQuery("RecordRepository.findRecords", false,
+                        () -> recordRepository.findRecords(user, lastRecordId, PageRequest.of(0, 31))),
+                new HotQuery("RecordRepository.findRecordsByFolder", false,
+                        () -> recordRepository.findRecordsByFolder(folder, user, lastRecordId, PageRequest.of(0, 31))),
+                new HotQuery("RecordRepository.findRecordsByKeyword", false,
+                        () -> recordRepository.findRecordsByKeyword(Keyword.COLLABORATION, user, lastRecordId, PageRequest.of(0, 31))),
+                new HotQuery("RecordRepository.findRecordsOrderByCreatedAt", false,
+                        () -> recordRepository.findRecordsOrderByCreatedAt(user, PageRequest.of(0, 6))),
+                new HotQuery("RecordRepository.findRecordIdListByFolderId", false,
+                        () -> recordRepository.findRecordIdListByFolderId(folder.getFolderId(), PageRequest.of(0, 500))),
+                new HotQuery("FolderRepository.findFolderDtoList", false,
+                        () -> folderRepository.findFolderDtoList(user)),
+                new HotQuery("FolderRepository.findFolderByTitle", false,
+                        () -> folderRepository.findFolderByTitle("seed-1", user)),
+                new HotQuery("FolderRepository.findDeletedFolderIdList", false,
+                        () -> folderRepository.findDeletedFolderIdList(PageRequest.of(0, 50))),
+                new HotQuery("UserRepository.findByProviderIdAndDeletedAtIsNull", false,
+                        () -> userRepository.findByProviderIdAndDeletedAtIsNull(user.getProviderId())),
+                new HotQuery("UserRepository.findDeletedUserIdList", false,
+                        () -> userRepository.findDeletedUserIdList(PageRequest.of(0, 10))),
+                new HotQuery("ChatRepository.findByChatRoomOrderByChatId", false,
+                        () -> chatRepository.findByChatRoomOrderByChatId(chatRoom)),
+                new HotQuery("ChatRepository.findChatIdListByUserId", false,
+                        () -> chatRepository.findChatIdListByUserId(user.getUserId(), PageRequest.of(0, 500))),
+                new HotQuery("AbilityRepository.findAbilityIdListByUserId", false,
+                        () -> abilityRepository.findAbilityIdListByUserId(user.getUserId(), PageRequest.of(0, 500))),
+                // 키워드 집계 결과(최대 15행) 정렬만 filesort 허용
+                new HotQuery("AbilityRepository.findKeywordStateDtoList", true,
+                        () -> abilityRepository.findKeywordStateDtoList(user)),
+                new HotQuery("AbilityRepository.getKeywordList", true,
+                        () -> abilityRepository.getKeywordList(user))
+        );
+    }
+
+    private void seedUser(int index) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO user (provider_id, nick_name, status, created_at, updated_at) " +
+                    "VALUES (?, ?, 'OTHER', NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            // 로그인 조회는 단건 조회이므로 provider_id는 유저마다 다르게 생성
+            ps.setString(1, SEED_PROVIDER_ID + index);
+            ps.setString(2, "seed" + index);
+            return ps;
+        }, keyHolder);
+        Long seedUserId = keyHolder.getKey().longValue();
+
+        jdbcTemplate.update("INSERT INTO folder (title, user_id, created_at, updated_at) " +
+                "VALUES ('seed-1', ?, NOW(), NOW()), ('seed-2', ?, NOW(), NOW()), ('seed-3', ?, NOW(), NOW())",
+                seedUserId, seedUserId, seedUserId);
+
+        jdbcTemplate.update("INSERT INTO record (type, title, content, user_id, folder_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT 'MEMO', CONCAT('seed-', seq.n), REPEAT('c', 60), f.user_id, f.folder_id, NOW(), NOW() " +
+                "FROM seq CROSS JOIN folder f WHERE f.user_id = ?",
+                RECORD_PER_FOLDER, seedUserId);
+
+        jdbcTemplate.update("INSERT INTO analysis (content, comment, record_id, created_at, updated_at) " +
+                "SELECT 'seed', 'seed', r.record_id, NOW(), NOW() FROM record r WHERE r.user_id = ?",
+                seedUserId);
+
+        // 분석마다 서로 다른 키워드 2개
+        jdbcTemplate.update("INSERT INTO ability (keyword, content, user_id, analysis_id, created_at, updated_at) " +
+                "SELECT ELT(1 + MOD(an.analysis_id + k.n * 7, 15), " +
+                "'PROBLEM_SOLViNG_SKILL', 'ANALYTICAL_SKILL', 'GLOBAL_SKILL', 'JUDGEMENT_SKILL', 'TARGET_AWARENESS', " +
+                "'MOMENTUM', 'COMMUNICATION', 'LEADERSHIP', 'COLLABORATION', 'ADAPTABILITY', 'CREATIVITY', 'LOGIC', " +
+                "'CHALLENGE_MINDSET', 'SELF_IMPROVEMENT', 'RESPONSIBILITY'), " +
+                "'seed', r.user_id, an.analysis_id, NOW(), NOW() " +
+                "FROM analysis an JOIN record r ON r.record_id = an.record_id " +
+                "CROSS JOIN (SELECT 0 AS n UNION ALL SELECT 1) k " +
+                "WHERE r.user_id = ?",
+                seedUserId);
+
+        jdbcTemplate.update("INSERT INTO chat_room (user_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10) " +
+                "SELECT ?, NOW(), NOW() FROM seq",
+                seedUserId);
+
+        jdbcTemplate.update("INSERT INTO chat (author, content, chat_room_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 6) " +
+                "SELECT MOD(seq.n, 2), 'seed', cr.chat_room_id, NOW(), NOW() " +
+                "FROM seq CROSS JOIN chat_room cr WHERE cr.user_id = ?",
+                seedUserId);
+    }
+
+    private void deleteSeed() {
+        String seedUsers = "(SELECT user_id FROM (SELECT user_id FROM user WHERE provider_id LIKE '" + SEED_PROVIDER_ID + "%') s)";
+        jdbcTemplate.update("DELETE FROM ability WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE an FROM analysis an JOIN record r ON r.record_id = an.record_id WHERE r.user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM record WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE c FROM chat c JOIN chat_room cr ON cr.chat_room_id = c.chat_room_id WHERE cr.user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM chat_room WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM folder WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM user WHERE provider_id LIKE ?", SEED_PROVIDER_ID + "%");
+    }
+
+    /*
+     * DataSource를 감싸 실행된 조회 PreparedStatement를 기록
+     * MySQL 드라이버는 클라이언트 측에서 값을 바인딩하므로 toString()에 실제 실행된 SQL이 담긴다.
+     */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource)
+                        return capture(DataSource.class, dataSource);
+                    return bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T capture(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                if (method.getName().equals("getConnection"))
+                    return capture(Connection.class, (Connection) result);
+                if (method.getName().equals("prepareStatement"))
+                    return capture(PreparedStatement.class, (PreparedStatement) result);
+                if (target instanceof PreparedStatement && method.getName().equals("executeQuery"))
+                    EXECUTED_SQL_LIST.add(STATEMENT_PREFIX.matcher(target.toString()).replaceFirst(""));
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package corecord.dev.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 측정 중인 스레드에서 Hibernate가 실행하는 SQL을 기록
+ * (hibernate.session_factory.statement_inspector로 등록, 스케줄러 등 다른 스레드의 SQL은 제외)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENT_LIST = new ThreadLocal<>();
+
+    static void start() {
+        STATEMENT_LIST.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        List<String> statementList = STATEMENT_LIST.get();
+        STATEMENT_LIST.remove();
+        return statementList == null ? List.of() : statementList;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statementList = STATEMENT_LIST.get();
+        if (statementList != null)
+            statementList.add(sql);
+        return sql;
+    }
+}
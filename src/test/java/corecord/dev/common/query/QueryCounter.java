@@ -0,0 +1,64 @@
+package corecord.dev.common.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 한 번에 실행된 SQL과 영속성 컨텍스트에 로드된 엔티티 수를 측정
+ * 요청 단위로 EntityManager를 공유하는 OSIV(spring.jpa.open-in-view)와 같은 조건으로 호출한다.
+ */
+public class QueryCounter {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public QueryCount measure(Runnable action) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        QueryCountInspector.start();
+        try {
+            action.run();
+            int entityCount = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            return new QueryCount(QueryCountInspector.stop(), entityCount);
+        } finally {
+            QueryCountInspector.stop();
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    public record QueryCount(List<String> statementList, int entityCount) {
+
+        public QueryCount assertStatementCount(int expected) {
+            assertThat(statementList.size())
+                    .as("SQL %d개 예상, %d개 실행%n%s", expected, statementList.size(), formatStatementList())
+                    .isEqualTo(expected);
+            return this;
+        }
+
+        public QueryCount assertEntityCount(int expected) {
+            assertThat(entityCount)
+                    .as("엔티티 %d개 로드 예상, %d개 로드%n%s", expected, entityCount, formatStatementList())
+                    .isEqualTo(expected);
+            return this;
+        }
+
+        private String formatStatementList() {
+            return IntStream.range(0, statementList.size())
+                    .mapToObj(i -> (i + 1) + ") " + statementList.get(i))
+                    .collect(Collectors.joining(System.lineSeparator()));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package corecord.dev.common.query;
+
+import corecord.dev.domain.folder.application.FolderCache;
+import corecord.dev.domain.folder.application.FolderService;
+import corecord.dev.domain.record.application.RecordService;
+import corecord.dev.domain.user.application.UserDbService;
+import corecord.dev.domain.user.application.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User, Folder 2차 캐시 적용 전후 요청당 DB 조회 수 비교
+ * 캐시가 빈 상태(첫 요청)와 캐시된 상태에서 같은 요청을 반복해 SQL 수를 검증하고, 실패 시 캐시 적중 수를 함께 보여준다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=corecord.dev.common.query.QueryCountInspector",
+        "chat.write-behind.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SecondLevelCacheTest {
+
+    private static final String SEED_PROVIDER_ID = "second-level-cache-seed";
+    private static final String FOLDER_TITLE = "seed-1";
+    private static final int REPEAT = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private RecordService recordService;
+    @Autowired
+    private FolderService folderService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserDbService userDbService;
+    @Autowired
+    private FolderCache folderCache;
+
+    private QueryCounter queryCounter;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeAll
+    void seed() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        deleteSeed();
+
+        userId = insertUser();
+        Long folderId = insertFolder(userId);
+        jdbcTemplate.update("INSERT INTO record (type, title, content, user_id, folder_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10) " +
+                "SELECT 'MEMO', CONCAT('seed-', seq.n), REPEAT('c', 60), ?, ?, NOW(), NOW() FROM seq",
+                userId, folderId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        deleteSeed();
+    }
+
+    @BeforeEach
+    void evictCache() {
+        entityManagerFactory.getCache().evictAll();
+        folderCache.evict(userId);
+    }
+
+    @Test
+    @DisplayName("경험 기록 목록 조회: 캐시된 사용자는 DB에서 다시 조회하지 않음")
+    void getRecordList() {
+        // When
+        int cold = queryCounter.measure(() -> recordService.getRecordList(userId, "all", 0L)).statementList().size();
+        WarmMeasurement warm = measureWarm(() -> recordService.getRecordList(userId, "all", 0L));
+
+        // Then
+        // 사용자 조회 + 목록 DTO 조회 -> 목록 DTO 조회
+        assertThat(cold).isEqualTo(2);
+        assertThat(warm.perCall()).as(warm.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폴더별 경험 기록 목록 조회: 사용자, 폴더명 -> folderId 모두 캐시에서 조회")
+    void getRecordListByFolder() {
+        // When
+        int cold = queryCounter.measure(() -> recordService.getRecordList(userId, FOLDER_TITLE, 0L)).statementList().size();
+        WarmMeasurement warm = measureWarm(() -> recordService.getRecordList(userId, FOLDER_TITLE, 0L));
+
+        // Then
+        // 사용자 조회 + 폴더 목록 조회(FolderCache) + 목록 DTO 조회 -> 목록 DTO 조회
+        assertThat(cold).isEqualTo(3);
+        assertThat(warm.perCall()).as(warm.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폴더 목록 조회: 캐시된 사용자는 DB에서 다시 조회하지 않음")
+    void getFolderList() {
+        // When
+        int cold = queryCounter.measure(() -> folderService.getFolderList(userId)).statementList().size();
+        WarmMeasurement warm = measureWarm(() -> folderService.getFolderList(userId));
+
+        // Then
+        // 사용자 조회 + 폴더 목록 DTO 조회 -> 폴더 목록 DTO 조회
+        assertThat(cold).isEqualTo(2);
+        assertThat(warm.perCall()).as(warm.toString()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("네이티브 쿼리로 기록 수를 변경하면 캐시된 사용자를 무효화")
+    void evictOnRecordCountUpdate() {
+        // Given
+        int recordCount = userService.getUserInfo(userId).getRecordCount();
+
+        // When
+        userDbService.increaseRecordCount(userDbService.findUserById(userId));
+
+        // Then
+        assertThat(userService.getUserInfo(userId).getRecordCount()).isEqualTo(recordCount + 1);
+        userDbService.decreaseRecordCount(userDbService.findUserById(userId));
+        assertThat(userService.getUserInfo(userId).getRecordCount()).isEqualTo(recordCount);
+    }
+
+    record WarmMeasurement(double perCall, long cacheHitCount) {
+        @Override
+        public String toString() {
+            return String.format("요청 %d회: SQL %.2f개/요청, 2차 캐시 적중 %d회", REPEAT, perCall, cacheHitCount);
+        }
+    }
+
+    // 캐시를 채운 뒤 REPEAT번 호출한 요청당 평균 SQL 수
+    private WarmMeasurement measureWarm(Runnable action) {
+        queryCounter.measure(action);
+        long hitCount = statistics.getSecondLevelCacheHitCount();
+
+        int statementCount = 0;
+        for (int i = 0; i < REPEAT; i++)
+            statementCount += queryCounter.measure(action).statementList().size();
+
+        return new WarmMeasurement((double) statementCount / REPEAT,
+                statistics.getSecondLevelCacheHitCount() - hitCount);
+    }
+
+    private Long insertUser() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO user (provider_id, nick_name, status, created_at, updated_at) " +
+                    "VALUES (?, 'cache', 'OTHER', NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, SEED_PROVIDER_ID);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private Long insertFolder(Long userId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO folder (title, record_count, user_id, created_at, updated_at) " +
+                    "VALUES (?, 10, ?, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, FOLDER_TITLE);
+            ps.setLong(2, userId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void deleteSeed() {
+        String seedUsers = "(SELECT user_id FROM (SELECT user_id FROM user WHERE provider_id = '" + SEED_PROVIDER_ID + "') s)";
+        jdbcTemplate.update("DELETE FROM record WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM folder WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM user WHERE provider_id = ?", SEED_PROVIDER_ID);
+    }
+}
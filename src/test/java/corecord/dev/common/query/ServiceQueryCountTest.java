@@ -0,0 +1,271 @@
+package corecord.dev.common.query;
+
+import corecord.dev.domain.analysis.application.AnalysisService;
+import corecord.dev.domain.analysis.domain.dto.response.AnalysisResponse;
+import corecord.dev.domain.chat.application.ChatService;
+import corecord.dev.domain.chat.domain.dto.response.ChatResponse;
+import corecord.dev.domain.folder.application.FolderService;
+import corecord.dev.domain.record.application.RecordService;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.user.application.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출당 SQL 수와 로드되는 엔티티 수가 데이터 크기와 무관한지 검증 (N+1 회귀 방지)
+ * 크기별로 시드 데이터를 만들고 같은 기대값으로 검증하며, 실패 시 실행된 SQL 목록을 함께 출력한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=corecord.dev.common.query.QueryCountInspector",
+        "chat.write-behind.enabled=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false" // 캐시 적중 여부와 무관하게 쿼리 형태만 검증
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ServiceQueryCountTest {
+
+    private static final String SEED_PROVIDER_ID = "query-count-seed";
+    private static final int RECORD_LIST_SIZE = 30;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private RecordService recordService;
+    @Autowired
+    private AnalysisService analysisService;
+    @Autowired
+    private ChatService chatService;
+    @Autowired
+    private FolderService folderService;
+    @Autowired
+    private UserService userService;
+
+    private QueryCounter queryCounter;
+    private final Map<Integer, Seed> seedMap = new HashMap<>();
+
+    record Seed(Long userId, Long analysisId, Long chatRoomId, Long deleteFolderId, Long deleteUserId) {
+    }
+
+    @BeforeAll
+    void seed() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        deleteSeed();
+        for (int size : new int[]{1, 10, 100})
+            seedMap.put(size, seedUser(size));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        deleteSeed();
+    }
+
+    @ParameterizedTest(name = "records = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("경험 기록 목록 조회: 사용자 조회 + 목록 DTO 조회")
+    void getRecordList(int size) {
+        Seed seed = seedMap.get(size);
+        AtomicReference<RecordResponse.RecordListDto> result = new AtomicReference<>();
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> result.set(recordService.getRecordList(seed.userId(), "all", 0L)));
+
+        // Then
+        queryCount.assertStatementCount(2).assertEntityCount(1);
+        assertThat(result.get().getRecordDtoList()).hasSize(Math.min(size, RECORD_LIST_SIZE));
+    }
+
+    @ParameterizedTest(name = "records = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("키워드별 경험 기록 목록 조회: 사용자 조회 + 목록 DTO 조회")
+    void getKeywordRecordList(int size) {
+        Seed seed = seedMap.get(size);
+        AtomicReference<RecordResponse.KeywordRecordListDto> result = new AtomicReference<>();
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> result.set(recordService.getKeywordRecordList(seed.userId(), "커뮤니케이션", 0L)));
+
+        // Then
+        queryCount.assertStatementCount(2).assertEntityCount(1);
+        assertThat(result.get().getRecordDtoList()).hasSize(Math.min(size, RECORD_LIST_SIZE));
+    }
+
+    @ParameterizedTest(name = "records = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("역량 분석 상세 조회: 사용자 조회 + 분석, 기록, 폴더, 역량 fetch join 조회")
+    void getAnalysis(int size) {
+        Seed seed = seedMap.get(size);
+        AtomicReference<AnalysisResponse.AnalysisDto> result = new AtomicReference<>();
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> result.set(analysisService.getAnalysis(seed.userId(), seed.analysisId())));
+
+        // Then
+        // user, analysis, record, folder, ability 2개
+        queryCount.assertStatementCount(2).assertEntityCount(6);
+        assertThat(result.get().getAbilityDtoList()).hasSize(2);
+    }
+
+    @ParameterizedTest(name = "chats = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("채팅 목록 조회: 사용자, 채팅방, 채팅 조회 (압축된 적 없는 채팅방은 transcript 조회 없음)")
+    void getChatList(int size) {
+        Seed seed = seedMap.get(size);
+        AtomicReference<ChatResponse.ChatListDto> result = new AtomicReference<>();
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> result.set(chatService.getChatList(seed.userId(), seed.chatRoomId(), null, null, null)));
+
+        // Then
+        // user, chat_room, chat size개 (chat.chatRoom은 이미 로드된 채팅방을 사용)
+        queryCount.assertStatementCount(3).assertEntityCount(size + 2);
+        assertThat(result.get().getChats()).hasSize(size);
+    }
+
+    @ParameterizedTest(name = "records = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("폴더 삭제: 경험 기록은 비동기로 삭제하므로 기록 수와 무관")
+    void deleteFolder(int size) {
+        Seed seed = seedMap.get(size);
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> folderService.deleteFolder(seed.userId(), seed.deleteFolderId()));
+
+        // Then
+        // 사용자, 폴더 조회 + 사용자 기록 수 감소 + 폴더 삭제 처리 + 폴더 목록 조회
+        queryCount.assertStatementCount(5).assertEntityCount(2);
+    }
+
+    @ParameterizedTest(name = "records = {0}")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("회원 탈퇴: 연관 데이터는 비동기로 삭제하므로 데이터 크기와 무관")
+    void deleteUser(int size) {
+        Seed seed = seedMap.get(size);
+
+        // When
+        QueryCounter.QueryCount queryCount = queryCounter.measure(
+                () -> userService.deleteUser(seed.deleteUserId(), null));
+
+        // Then
+        // 사용자 조회 + 탈퇴 처리
+        queryCount.assertStatementCount(2).assertEntityCount(1);
+    }
+
+    /*
+     * 폴더 두 개에 경험 기록(분석, 역량 2개)을 size개씩, 채팅방 하나에 채팅 size개를 가진 사용자와
+     * 같은 규모의 탈퇴용 사용자를 생성
+     */
+    private Seed seedUser(int size) {
+        Long userId = insertUser("query-count-" + size);
+        Long folderId = insertFolder(userId, "seed-1");
+        Long deleteFolderId = insertFolder(userId, "seed-2");
+        insertRecordList(userId, size);
+
+        Long deleteUserId = insertUser("query-count-delete-" + size);
+        insertFolder(deleteUserId, "seed-1");
+        insertRecordList(deleteUserId, size);
+
+        Long analysisId = jdbcTemplate.queryForObject(
+                "SELECT MIN(an.analysis_id) FROM analysis an JOIN record r ON r.record_id = an.record_id " +
+                        "WHERE r.folder_id = ?", Long.class, folderId);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO chat_room (user_id, created_at, updated_at) " +
+                    "VALUES (?, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            return ps;
+        }, keyHolder);
+        Long chatRoomId = keyHolder.getKey().longValue();
+
+        jdbcTemplate.update("INSERT INTO chat (author, content, chat_room_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT MOD(seq.n, 2), 'seed', ?, NOW(), NOW() FROM seq",
+                size, chatRoomId);
+
+        return new Seed(userId, analysisId, chatRoomId, deleteFolderId, deleteUserId);
+    }
+
+    private Long insertUser(String nickName) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO user (provider_id, nick_name, status, created_at, updated_at) " +
+                    "VALUES (?, ?, 'OTHER', NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, SEED_PROVIDER_ID);
+            ps.setString(2, nickName);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private Long insertFolder(Long userId, String title) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO folder (title, user_id, created_at, updated_at) " +
+                    "VALUES (?, ?, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, title);
+            ps.setLong(2, userId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // 사용자의 모든 폴더에 경험 기록 size개씩, 기록마다 COMMUNICATION, LEADERSHIP 역량
+    private void insertRecordList(Long userId, int size) {
+        jdbcTemplate.update("INSERT INTO record (type, title, content, user_id, folder_id, created_at, updated_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+                "SELECT 'MEMO', CONCAT('seed-', seq.n), REPEAT('c', 60), f.user_id, f.folder_id, NOW(), NOW() " +
+                "FROM seq CROSS JOIN folder f WHERE f.user_id = ?",
+                size, userId);
+
+        jdbcTemplate.update("INSERT INTO analysis (content, comment, record_id, created_at, updated_at) " +
+                "SELECT 'seed', 'seed', r.record_id, NOW(), NOW() FROM record r WHERE r.user_id = ?",
+                userId);
+
+        jdbcTemplate.update("INSERT INTO ability (keyword, content, user_id, analysis_id, created_at, updated_at) " +
+                "SELECT k.keyword, 'seed', r.user_id, an.analysis_id, NOW(), NOW() " +
+                "FROM analysis an JOIN record r ON r.record_id = an.record_id " +
+                "CROSS JOIN (SELECT 'COMMUNICATION' AS keyword UNION ALL SELECT 'LEADERSHIP') k " +
+                "WHERE r.user_id = ?",
+                userId);
+
+        // 목록 조회에서 제외되지 않도록 사용자, 폴더의 기록 수를 맞춤
+        jdbcTemplate.update("UPDATE folder SET record_count = ? WHERE user_id = ?", size, userId);
+        jdbcTemplate.update("UPDATE user SET record_count = (SELECT COUNT(*) FROM record WHERE user_id = ?) WHERE user_id = ?",
+                userId, userId);
+    }
+
+    private void deleteSeed() {
+        String seedUsers = "(SELECT user_id FROM (SELECT user_id FROM user WHERE provider_id = '" + SEED_PROVIDER_ID + "') s)";
+        jdbcTemplate.update("DELETE FROM ability WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE an FROM analysis an JOIN record r ON r.record_id = an.record_id WHERE r.user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM record WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE c FROM chat c JOIN chat_room cr ON cr.chat_room_id = c.chat_room_id WHERE cr.user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM chat_room WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM folder WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM user WHERE provider_id = ?", SEED_PROVIDER_ID);
+    }
+}
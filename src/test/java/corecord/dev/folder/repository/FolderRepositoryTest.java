@@ -1,16 +1,21 @@
 package corecord.dev.folder.repository;
 
+import corecord.dev.domain.analysis.domain.entity.Analysis;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.folder.domain.repository.FolderRepository;
+import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.user.domain.entity.Status;
 import corecord.dev.domain.user.domain.entity.User;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -68,6 +73,117 @@ public class FolderRepositoryTest {
         assertThat(result).isEqualTo(true);
     }
 
+    @Test
+    void findDeletedFolder() {
+        String testTitle = "Test Title";
+
+        // Given
+        User user = createUser("Test User");
+        entityManager.persist(user);
+
+        Folder folder = createFolder(testTitle, user);
+        folder.delete();
+        entityManager.persist(folder);
+
+        // When
+        Optional<Folder> result = folderRepository.findFolderByTitle(testTitle, user);
+        boolean exist = folderRepository.existsByTitleAndUser(testTitle, user);
+
+        // Then
+        assertThat(result.isPresent()).isFalse();
+        assertThat(exist).isEqualTo(false);
+        assertThat(folderRepository.findFolderDtoList(user)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역량 분석이 있는 경험 기록 수와 다른 폴더만 보정")
+    void reconcileRecordCount() {
+        // Given
+        User user = createUser("Test User");
+        entityManager.persist(user);
+
+        // 분석된 기록 2개 + 분석 전 가져오기 기록 1개, record_count 0
+        Folder folder = createFolder("Test Title1", user);
+        entityManager.persist(folder);
+        createRecord(user, folder, true);
+        createRecord(user, folder, true);
+        createRecord(user, folder, false);
+
+        // 기록 없음, record_count 3
+        Folder emptyFolder = createFolder("Test Title2", user);
+        entityManager.persist(emptyFolder);
+        folderRepository.updateRecordCount(emptyFolder.getFolderId(), 3);
+
+        // 분석된 기록 1개, record_count 1 (보정 대상 아님)
+        Folder reconciledFolder = createFolder("Test Title3", user);
+        entityManager.persist(reconciledFolder);
+        createRecord(user, reconciledFolder, true);
+        folderRepository.updateRecordCount(reconciledFolder.getFolderId(), 1);
+        entityManager.flush();
+
+        // When
+        int updated = folderRepository.reconcileRecordCount(folder.getFolderId(), reconciledFolder.getFolderId());
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(findRecordCount(folder)).isEqualTo(2);
+        assertThat(findRecordCount(emptyFolder)).isEqualTo(0);
+        assertThat(findRecordCount(reconciledFolder)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 폴더는 보정하지 않음")
+    void reconcileRecordCountWithDeletedFolder() {
+        // Given
+        User user = createUser("Test User");
+        entityManager.persist(user);
+
+        Folder folder = createFolder("Test Title", user);
+        entityManager.persist(folder);
+        folderRepository.updateRecordCount(folder.getFolderId(), 3);
+        folder.delete();
+        entityManager.flush();
+
+        // When
+        int updated = folderRepository.reconcileRecordCount(folder.getFolderId(), folder.getFolderId());
+        List<Long> userIdList = folderRepository.findUserIdListByFolderIdRange(folder.getFolderId(), folder.getFolderId());
+
+        // Then
+        assertThat(updated).isEqualTo(0);
+        assertThat(findRecordCount(folder)).isEqualTo(3);
+        assertThat(userIdList).isEmpty();
+    }
+
+    private int findRecordCount(Folder folder) {
+        // record_count는 엔티티에서 읽기 전용이므로 DB 값을 직접 조회
+        Number recordCount = (Number) entityManager
+                .createNativeQuery("SELECT record_count FROM folder WHERE folder_id = :folderId")
+                .setParameter("folderId", folder.getFolderId())
+                .getSingleResult();
+        return recordCount.intValue();
+    }
+
+    private Record createRecord(User user, Folder folder, boolean analyzed) {
+        Record record = Record.builder()
+                .title("Test Record")
+                .content("Test Content")
+                .user(user)
+                .type(RecordType.MEMO)
+                .folder(folder)
+                .build();
+        entityManager.persist(record);
+
+        if (analyzed) {
+            Analysis analysis = Analysis.builder()
+                    .content("Test Content")
+                    .comment("Test Comment")
+                    .record(record)
+                    .build();
+            entityManager.persist(analysis);
+        }
+        return record;
+    }
+
     private User createUser(String nickName) {
         return User.builder()
                 .providerId("Test Provider")
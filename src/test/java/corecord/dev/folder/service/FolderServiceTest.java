@@ -1,5 +1,6 @@
 package corecord.dev.folder.service;
 
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.folder.application.FolderDbService;
 import corecord.dev.domain.folder.domain.dto.request.FolderRequest;
 import corecord.dev.domain.folder.domain.dto.response.FolderResponse;
@@ -32,6 +33,9 @@ public class FolderServiceTest {
     @Mock
     private UserDbService userDbService;
 
+    @Mock
+    private DataVersionManager dataVersionManager;
+
     @InjectMocks
     private FolderService folderService;
 
@@ -66,6 +70,8 @@ public class FolderServiceTest {
         // Then
         verify(userDbService).findUserById(testId);
         verify(folderDbService).saveFolder(any(Folder.class));
+        verify(folderDbService).evictFolderCache(user);
+        verify(dataVersionManager).bump(testId);
         verify(folderDbService).findFolderDtoList(user);
 
         assertThat(response.getFolderDtoList()).isNotNull();
@@ -104,6 +110,7 @@ public class FolderServiceTest {
         // Then
         verify(folderDbService).findFolderById(testId);
         verify(folderDbService).isFolderExist(updatedTitle, user);
+        verify(folderDbService).evictFolderCache(user);
         verify(folderDbService).findFolderDtoList(user);
 
         assertThat(response.getFolderDtoList()).isNotNull();
@@ -112,6 +119,31 @@ public class FolderServiceTest {
         assertThat(folder.getTitle()).isEqualTo(updatedTitle);
     }
 
+    @Test
+    @DisplayName("폴더 삭제 기능")
+    void deleteFolder() {
+        // Given
+        User user = createMockUser(testId, "Test User");
+        Folder folder = createMockFolder(testId, testTitle, user);
+        user.getFolders().add(folder);
+
+        when(userDbService.findUserById(testId)).thenReturn(user);
+        when(folderDbService.findFolderById(testId)).thenReturn(folder);
+        doCallRealMethod().when(folderDbService).deleteFolder(folder);
+        when(folderDbService.findFolderDtoList(user)).thenReturn(List.of());
+
+        // When
+        FolderResponse.FolderDtoList response = folderService.deleteFolder(testId, testId);
+
+        // Then
+        verify(folderDbService).deleteFolder(folder);
+        verify(folderDbService).evictFolderCache(user);
+        verify(folderDbService, never()).deleteFolderById(testId);
+
+        assertThat(folder.isDeleted()).isTrue();
+        assertThat(response.getFolderDtoList()).isEqualTo(List.of());
+    }
+
     @Test
     @DisplayName("중복된 폴더 생성 시 오류 반환 테스트")
     void createDuplicateFolder() {
@@ -136,6 +168,7 @@ public class FolderServiceTest {
         verify(userDbService).findUserById(testId);
         verify(folderDbService).isFolderExist(testTitle, user);
         verify(folderDbService, never()).saveFolder(folder2);
+        verify(dataVersionManager, never()).bump(testId);
     }
 
     private User createMockUser(Long userId, String nickName) {
@@ -0,0 +1,157 @@
+package corecord.dev.record.export.repository;
+
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.record.domain.repository.RecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 경험 기록 내보내기 쿼리가 MySQL 스트리밍 커서(fetch size Integer.MIN_VALUE)로 읽히는지 검증
+ * RecordExportService와 같이 읽기 전용 TransactionTemplate 안에서 Stream을 소비한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RecordExportRepositoryTest {
+
+    private static final String SEED_PROVIDER_ID = "export-seed";
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    private Long userId;
+    private Long analyzedRecordId;
+    private Long pendingRecordId;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        deleteSeed();
+        userId = insert("INSERT INTO user (provider_id, nick_name, status, created_at, updated_at) " +
+                "VALUES (?, 'exportSeed', 'OTHER', NOW(), NOW())", SEED_PROVIDER_ID);
+        Long folderId = insert("INSERT INTO folder (title, user_id, created_at, updated_at) " +
+                "VALUES ('Test Folder', ?, NOW(), NOW())", userId);
+        Long deletedFolderId = insert("INSERT INTO folder (title, user_id, deleted_at, created_at, updated_at) " +
+                "VALUES ('Deleted Folder', ?, NOW(), NOW(), NOW())", userId);
+
+        // 역량 키워드 2개인 기록, 역량 분석 전인 기록, 삭제된 폴더의 기록
+        analyzedRecordId = insertRecord("Analyzed Record", folderId);
+        Long analysisId = insertAnalysis(analyzedRecordId);
+        insertAbility(analysisId, Keyword.COLLABORATION);
+        insertAbility(analysisId, Keyword.LEADERSHIP);
+
+        pendingRecordId = insertRecord("Pending Record", folderId);
+
+        Long deletedRecordId = insertRecord("Deleted Record", deletedFolderId);
+        insertAbility(insertAnalysis(deletedRecordId), Keyword.LOGIC);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteSeed();
+    }
+
+    @Test
+    @DisplayName("삭제된 폴더를 제외한 경험 기록을 역량 키워드 순서대로 스트리밍")
+    void streamRecordExportList() {
+        // When
+        List<RecordResponse.RecordExportDto> rows = new ArrayList<>();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<RecordResponse.RecordExportDto> stream = recordRepository.streamRecordExportList(userId)) {
+                stream.forEach(rows::add);
+            }
+        });
+
+        // Then
+        assertThat(rows).extracting(RecordResponse.RecordExportDto::getRecordId)
+                .containsExactly(analyzedRecordId, analyzedRecordId, pendingRecordId);
+        assertThat(rows).extracting(RecordResponse.RecordExportDto::getKeyword)
+                .containsExactly(Keyword.COLLABORATION, Keyword.LEADERSHIP, null);
+        assertThat(rows.get(2).getAnalysisId()).isNull();
+        assertThat(rows).extracting(RecordResponse.RecordExportDto::getFolder)
+                .containsOnly("Test Folder");
+    }
+
+    @Test
+    @DisplayName("스트리밍 커서가 열려 있는 동안 같은 커넥션에서 다른 쿼리를 실행할 수 없음")
+    void streamRecordExportListWithStreamingCursor() {
+        // When, Then
+        // fetch size 힌트가 빠지면 결과 전체를 메모리에 읽어 아래 쿼리가 정상 실행됨
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<RecordResponse.RecordExportDto> stream = recordRepository.streamRecordExportList(userId)) {
+                assertThat(stream.findFirst()).isPresent();
+                assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT 1", Integer.class))
+                        .isInstanceOf(DataAccessException.class)
+                        .hasStackTraceContaining("Streaming result set");
+            }
+        });
+    }
+
+    private Long insertRecord(String title, Long folderId) {
+        return insert("INSERT INTO record (type, title, content, user_id, folder_id, created_at, updated_at) " +
+                "VALUES ('MEMO', ?, 'Test Content', ?, ?, NOW(), NOW())", title, userId, folderId);
+    }
+
+    private Long insertAnalysis(Long recordId) {
+        return insert("INSERT INTO analysis (content, comment, record_id, created_at, updated_at) " +
+                "VALUES ('Test Content', 'Test Comment', ?, NOW(), NOW())", recordId);
+    }
+
+    private void insertAbility(Long analysisId, Keyword keyword) {
+        insert("INSERT INTO ability (keyword, content, user_id, analysis_id, created_at, updated_at) " +
+                "VALUES (?, 'Test Content', ?, ?, NOW(), NOW())", keyword.name(), userId, analysisId);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++)
+                ps.setObject(i + 1, args[i]);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void deleteSeed() {
+        String seedUsers = "(SELECT user_id FROM (SELECT user_id FROM user WHERE provider_id = '" + SEED_PROVIDER_ID + "') s)";
+        jdbcTemplate.update("DELETE FROM ability WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE an FROM analysis an JOIN record r ON r.record_id = an.record_id WHERE r.user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM record WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM folder WHERE user_id IN " + seedUsers);
+        jdbcTemplate.update("DELETE FROM user WHERE provider_id = ?", SEED_PROVIDER_ID);
+    }
+}
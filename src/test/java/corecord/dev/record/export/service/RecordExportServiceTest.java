@@ -0,0 +1,214 @@
+package corecord.dev.record.export.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import corecord.dev.domain.ability.domain.entity.Keyword;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.record.application.RecordExportService;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
+import corecord.dev.domain.record.exception.RecordException;
+import corecord.dev.domain.record.infra.export.RecordExportFormat;
+import corecord.dev.domain.record.status.RecordErrorStatus;
+import corecord.dev.domain.user.application.UserDbService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecordExportServiceTest {
+
+    @Mock
+    private RecordDbService recordDbService;
+
+    @Mock
+    private UserDbService userDbService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RecordExportService recordExportService;
+
+    private final Long userId = 1L;
+
+    @Test
+    @DisplayName("JSON 내보내기 시 같은 경험 기록의 역량 키워드를 하나로 묶음")
+    void exportJsonTest() throws Exception {
+        // Given
+        when(recordDbService.streamRecordExportList(userId)).thenReturn(Stream.of(
+                createExportRow(1L, 10L, Keyword.LEADERSHIP),
+                createExportRow(1L, 10L, Keyword.COLLABORATION),
+                createExportRow(2L, null, null)
+        ));
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        recordExportService.exportRecordList(userId, RecordExportFormat.JSON, false).writeTo(outputStream);
+
+        // Then
+        JsonNode records = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertEquals(2, records.size());
+        assertEquals(1L, records.get(0).get("recordId").asLong());
+        assertEquals(2, records.get(0).get("analysis").get("abilityList").size());
+        assertEquals(Keyword.LEADERSHIP.getValue(),
+                records.get(0).get("analysis").get("abilityList").get(0).get("keyword").asText());
+        assertTrue(records.get(1).get("analysis").isNull());
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 시 큰따옴표와 줄바꿈이 포함된 값을 이스케이프")
+    void exportCsvTest() throws Exception {
+        // Given
+        RecordResponse.RecordExportDto row = new RecordResponse.RecordExportDto(
+                1L, "폴더", "제목 \"인용\"", "첫 줄\n둘째 줄", LocalDateTime.of(2024, 10, 1, 0, 0),
+                null, null, null, null, null);
+        when(recordDbService.streamRecordExportList(userId)).thenReturn(Stream.of(row));
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        recordExportService.exportRecordList(userId, RecordExportFormat.CSV, false).writeTo(outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("\uFEFFrecordId,"));
+        assertEquals("\"1\",\"폴더\",\"제목 \"\"인용\"\"\",\"첫 줄\n둘째 줄\",\"2024.10.01\",,,,,", lines[1]);
+    }
+
+    @Test
+    @DisplayName("zip 내보내기 시 records 파일 하나를 압축해 반환")
+    void exportZipTest() throws Exception {
+        // Given
+        when(recordDbService.streamRecordExportList(userId))
+                .thenReturn(Stream.of(createExportRow(1L, 10L, Keyword.LOGIC)));
+
+        // When
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        recordExportService.exportRecordList(userId, RecordExportFormat.CSV, true).writeTo(outputStream);
+
+        // Then
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            assertNotNull(entry);
+            assertEquals("records.csv", entry.getName());
+            assertEquals(2, new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8).split("\r\n").length);
+            assertNull(zipInputStream.getNextEntry());
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 내보내기 형식 요청 시 예외 발생")
+    void exportInvalidFormatTest() {
+        // When
+        RecordException exception = assertThrows(RecordException.class, () -> RecordExportFormat.of("xml"));
+
+        // Then
+        assertEquals(RecordErrorStatus.INVALID_EXPORT_FORMAT, exception.getRecordErrorStatus());
+    }
+
+    @Test
+    @DisplayName("경험 기록 10만 건 내보내기 중 힙 사용량이 증가하지 않음")
+    void exportLargeRecordListWithConstantMemoryTest() throws Exception {
+        // Given
+        int recordCount = 100_000;
+        AtomicBoolean closed = new AtomicBoolean(false);
+        // 경험 기록 1건당 역량 키워드 3개, 총 30만 행을 미리 만들지 않고 하나씩 생성
+        Stream<RecordResponse.RecordExportDto> rows = LongStream.rangeClosed(1, recordCount)
+                .boxed()
+                .flatMap(recordId -> Stream.of(Keyword.LEADERSHIP, Keyword.LOGIC, Keyword.CREATIVITY)
+                        .map(keyword -> createExportRow(recordId, recordId, keyword)))
+                .onClose(() -> closed.set(true));
+        when(recordDbService.streamRecordExportList(userId)).thenReturn(rows);
+
+        long heapBefore = usedHeapAfterGc();
+        // 출력 도중 일정 바이트마다 GC 후 힙 사용량을 기록 (전체 문서를 메모리에 만든 뒤 쓰는 구현은 첫 출력 시점에 드러남)
+        CountingOutputStream outputStream = new CountingOutputStream(64 * 1024);
+
+        // When
+        recordExportService.exportRecordList(userId, RecordExportFormat.JSON, true).writeTo(outputStream);
+
+        // Then
+        long peakHeapGrowth = outputStream.peakUsedHeap - heapBefore;
+        assertTrue(outputStream.count > recordCount);
+        assertTrue(outputStream.sampleCount > 1, "sample count: " + outputStream.sampleCount);
+        assertTrue(closed.get());
+        assertTrue(peakHeapGrowth < 16 * 1024 * 1024, "peak heap growth: " + peakHeapGrowth);
+    }
+
+    private RecordResponse.RecordExportDto createExportRow(Long recordId, Long analysisId, Keyword keyword) {
+        return new RecordResponse.RecordExportDto(
+                recordId, "Test Folder", "Test Record " + recordId, "Test".repeat(10), LocalDateTime.now(),
+                analysisId,
+                analysisId == null ? null : "Test Analysis",
+                analysisId == null ? null : "Test Comment",
+                keyword,
+                keyword == null ? null : "Test Ability");
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private final long sampleInterval;
+        private long count;
+        private long nextSampleAt;
+        private long peakUsedHeap;
+        private int sampleCount;
+
+        private CountingOutputStream(long sampleInterval) {
+            this.sampleInterval = sampleInterval;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+            sampleUsedHeap();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+            sampleUsedHeap();
+        }
+
+        private void sampleUsedHeap() {
+            if (count < nextSampleAt)
+                return;
+
+            // 출력 중에는 GC 한 번으로 살아있는 객체만 남긴 뒤 측정
+            nextSampleAt = count + sampleInterval;
+            System.gc();
+            Runtime runtime = Runtime.getRuntime();
+            peakUsedHeap = Math.max(peakUsedHeap, runtime.totalMemory() - runtime.freeMemory());
+            sampleCount++;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import corecord.dev.domain.analysis.domain.entity.Analysis;
 import corecord.dev.domain.analysis.domain.repository.AnalysisRepository;
 import corecord.dev.domain.folder.domain.entity.Folder;
 import corecord.dev.domain.folder.domain.repository.FolderRepository;
+import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.record.domain.entity.Record;
 import corecord.dev.domain.record.domain.repository.RecordRepository;
@@ -52,7 +53,7 @@ public class MemoRecordRepositoryTest {
 
     private final Long lastRecordId = 0L;
     private final Pageable pageable = PageRequest.of(0, 5);
-    private final String testContent = "Test Content";
+    private final String testContent = "Test Content".repeat(5);
 
 
     @Test
@@ -66,14 +67,15 @@ public class MemoRecordRepositoryTest {
         Record record2 = createRecord("Test Record2", user, folder);
 
         // When
-        List<Record> result = recordRepository.findRecordsByFolder(folder, user, lastRecordId, pageable);
+        List<RecordResponse.RecordDto> result = recordRepository.findRecordsByFolder(folder, user, lastRecordId, pageable);
 
         // Then
         assertThat(result.size()).isEqualTo(2);
         assertThat(result.get(0).getRecordId()).isEqualTo(record1.getRecordId());
-        assertThat(result.get(0).getFolder().getFolderId()).isEqualTo(folder.getFolderId());
+        assertThat(result.get(0).getFolder()).isEqualTo(folder.getTitle());
+        assertThat(result.get(0).getKeywordList()).isEqualTo(List.of(Keyword.COLLABORATION.getValue()));
         assertThat(result.get(1).getRecordId()).isEqualTo(record2.getRecordId());
-        assertThat(result.get(1).getFolder().getFolderId()).isEqualTo(folder.getFolderId());
+        assertThat(result.get(1).getFolder()).isEqualTo(folder.getTitle());
     }
 
     @Test
@@ -84,7 +86,7 @@ public class MemoRecordRepositoryTest {
         Folder folder = createFolder("Test Folder", user);
 
         // When
-        List<Record> result = recordRepository.findRecordsByFolder(folder, user, lastRecordId, pageable);
+        List<RecordResponse.RecordDto> result = recordRepository.findRecordsByFolder(folder, user, lastRecordId, pageable);
 
         // Then
         assertEquals(result.size(), 0);
@@ -118,12 +120,13 @@ public class MemoRecordRepositoryTest {
         Record record2 = createRecord("Test Record2", user, folder);
 
         // When
-        List<Record> result = recordRepository.findRecordsByKeyword(Keyword.COLLABORATION, user, lastRecordId, pageable);
+        List<RecordResponse.KeywordRecordDto> result = recordRepository.findRecordsByKeyword(Keyword.COLLABORATION, user, lastRecordId, pageable);
 
         // Then
         assertEquals(result.size(), 2);
         assertEquals(result.get(0).getTitle(), record1.getTitle());
         assertEquals(result.get(1).getTitle(), record2.getTitle());
+        assertEquals(result.get(0).getContent(), testContent.substring(0, 30)); // 30자 미리보기
     }
 
     private User createUser(String nickName) {
@@ -1,17 +1,22 @@
 package corecord.dev.record.memo.service;
 
+import corecord.dev.common.web.DataVersionManager;
 import corecord.dev.domain.analysis.domain.entity.Analysis;
 import corecord.dev.domain.analysis.application.AnalysisService;
 import corecord.dev.domain.folder.application.FolderDbService;
 import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.folder.exception.FolderException;
+import corecord.dev.domain.folder.status.FolderErrorStatus;
 import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.record.domain.dto.request.RecordRequest;
 import corecord.dev.domain.record.domain.dto.response.RecordResponse;
 import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.TmpMemo;
 import corecord.dev.domain.record.domain.repository.RecordRepository;
 import corecord.dev.domain.record.status.RecordErrorStatus;
 import corecord.dev.domain.record.exception.RecordException;
+import corecord.dev.domain.record.application.RecordImportService;
 import corecord.dev.domain.record.application.RecordService;
 import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.entity.Status;
@@ -23,12 +28,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -47,6 +59,12 @@ public class MemoRecordServiceTest {
     @Mock
     private AnalysisService analysisService;
 
+    @Mock
+    private DataVersionManager dataVersionManager;
+
+    @Mock
+    private RecordImportService recordImportService;
+
     @InjectMocks
     private RecordService recordService;
 
@@ -71,7 +89,7 @@ public class MemoRecordServiceTest {
         when(folderDbService.findFolderById(1L)).thenReturn(folder);
         when(analysisService.createAnalysis(any(Record.class), any(User.class)))
                 .thenReturn(createMockAnalysis(record));
-        when(recordDbService.saveRecord(any(Record.class))).thenAnswer(invocation -> {
+        when(recordDbService.saveRecordAndIncreaseCount(any(Record.class), eq(folder), eq(user))).thenAnswer(invocation -> {
             Record savedRecord = invocation.getArgument(0);
             savedRecord.setCreatedAt(LocalDateTime.now());
             return savedRecord;
@@ -90,7 +108,7 @@ public class MemoRecordServiceTest {
         // Then
         verify(userDbService).findUserById(1L);
         verify(folderDbService).findFolderById(1L);
-        verify(recordDbService).saveRecord(any(Record.class));
+        verify(recordDbService).saveRecordAndIncreaseCount(any(Record.class), eq(folder), eq(user));
 
         assertEquals(response.getFolder(), folder.getTitle());
         assertEquals(response.getTitle(), testTitle);
@@ -141,9 +159,8 @@ public class MemoRecordServiceTest {
     @DisplayName("임시 메모 경험 기록 저장 테스트")
     void createTmpMemoRecordTest() {
         // Given
-        Record tmpRecord = createMockRecord(user, null);
         when(userDbService.findUserById(1L)).thenReturn(user);
-        when(recordDbService.saveRecord(any(Record.class))).thenReturn(tmpRecord);
+        when(recordDbService.existsTmpMemo(1L)).thenReturn(false);
 
         // When
         RecordRequest.TmpMemoRecordDto request = RecordRequest.TmpMemoRecordDto.builder()
@@ -155,16 +172,16 @@ public class MemoRecordServiceTest {
 
         // Then
         verify(userDbService, times(1)).findUserById(1L);
-        verify(recordDbService, times(1)).saveRecord(any(Record.class));
-        assertEquals(user.getTmpMemo(), tmpRecord.getRecordId());
+        verify(recordDbService, times(1)).saveTmpMemo(1L, testTitle, testContent);
+        verify(recordDbService, times(0)).saveRecordAndIncreaseCount(any(Record.class), any(Folder.class), any(User.class));
     }
 
     @Test
     @DisplayName("중복 임시 메모 경험 기록 저장 시 예외 발생 테스트")
     void createTmpMemoRecordDuplicateTest() {
         // Given
-        user.updateTmpMemo(1L); // 이미 임시 메모 경험 기록을 저장
         when(userDbService.findUserById(1L)).thenReturn(user);
+        when(recordDbService.existsTmpMemo(1L)).thenReturn(true); // 이미 임시 메모 경험 기록을 저장
 
         // When & Then
         RecordRequest.TmpMemoRecordDto request = RecordRequest.TmpMemoRecordDto.builder()
@@ -177,28 +194,45 @@ public class MemoRecordServiceTest {
         assertEquals(exception.getRecordErrorStatus(), RecordErrorStatus.ALREADY_TMP_MEMO);
 
         verify(userDbService, times(1)).findUserById(1L);
-        verify(recordDbService, times(0)).saveRecord(any(Record.class));
+        verify(recordDbService, times(0)).saveTmpMemo(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("작성 중인 메모 자동 저장 테스트")
+    void autosaveTmpMemoRecordTest() {
+        // Given
+        when(userDbService.findUserById(1L)).thenReturn(user);
+
+        // When
+        RecordRequest.TmpMemoRecordDto request = RecordRequest.TmpMemoRecordDto.builder()
+                .title(testTitle)
+                .content("작성 중") // 최소 글자 수 검사 제외
+                .build();
+
+        recordService.autosaveTmpMemoRecord(1L, request);
+
+        // Then
+        verify(recordDbService, times(1)).saveTmpMemo(1L, testTitle, "작성 중");
+        verify(recordDbService, times(0)).existsTmpMemo(1L);
     }
 
     @Test
     @DisplayName("임시 메모 경험 기록이 있는 경우 조회 테스트")
     void getTmpMemoRecordTest() {
         // Given
-        Record tmpRecord = createMockRecord(user, null);
-        user.updateTmpMemo(1L);
+        TmpMemo tmpMemo = TmpMemo.of(1L, testTitle, testContent, 604800L);
 
         when(userDbService.findUserById(1L)).thenReturn(user);
-        when(recordDbService.findTmpRecordById(1L)).thenReturn(tmpRecord);
+        when(recordDbService.findTmpMemo(1L)).thenReturn(Optional.of(tmpMemo));
 
         // When
         RecordResponse.TmpMemoRecordDto response = recordService.getTmpMemoRecord(1L);
 
         // Then
         verify(userDbService, times(1)).findUserById(1L);
-        verify(recordDbService, times(1)).findTmpRecordById(1L);
-        verify(recordDbService, times(1)).deleteRecord(tmpRecord);
+        verify(recordDbService, times(1)).findTmpMemo(1L);
+        verify(recordDbService, times(1)).deleteTmpMemo(1L);
 
-        assertNull(user.getTmpMemo());
         assertTrue(response.getIsExist());
         assertEquals(response.getTitle(), testTitle);
         assertEquals(response.getContent(), testContent);
@@ -208,23 +242,132 @@ public class MemoRecordServiceTest {
     @DisplayName("임시 메모 경험 기록이 없는 경우 조회 테스트")
     void getTmpMemoRecordWithoutRecordTest() {
         // Given
-        user.updateTmpMemo(null);
         when(userDbService.findUserById(1L)).thenReturn(user);
+        when(recordDbService.findTmpMemo(1L)).thenReturn(Optional.empty());
 
         // When
         RecordResponse.TmpMemoRecordDto response = recordService.getTmpMemoRecord(1L);
 
         // Then
         verify(userDbService, times(1)).findUserById(1L);
+        verify(recordDbService, times(0)).deleteTmpMemo(1L);
 
         assertFalse(response.getIsExist());
         assertNull(response.getTitle());
         assertNull(response.getContent());
     }
 
+    @Test
+    @DisplayName("메모 경험 기록 일괄 가져오기 시 글자 수 검사에 실패한 항목만 제외하고 저장")
+    void importMemoRecordListTest() {
+        // Given
+        ReflectionTestUtils.setField(recordService, "importMaxSize", 200);
+        RecordRequest.RecordImportDto request = RecordRequest.RecordImportDto.builder()
+                .folderId(1L)
+                .recordList(List.of(
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content(testContent).build(),
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content("Test").build(),
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content(testContent).build()))
+                .build();
+
+        when(userDbService.findUserById(1L)).thenReturn(user);
+        when(folderDbService.findFolderById(1L)).thenReturn(folder);
+        when(recordDbService.saveMemoRecordList(eq(user), eq(folder), anyList())).thenReturn(List.of(10L, 11L));
+        when(recordImportService.scheduleAnalysis(1L, List.of(10L, 11L))).thenReturn("job");
+
+        // When
+        RecordResponse.RecordImportDto response = recordService.importMemoRecordList(1L, request);
+
+        // Then
+        verify(recordDbService).saveMemoRecordList(eq(user), eq(folder), argThat(list -> list.size() == 2));
+        verify(folderDbService, never()).increaseRecordCount(any(Folder.class));
+        verify(userDbService, never()).increaseRecordCount(any(User.class));
+        verify(analysisService, never()).createAnalysis(any(Record.class), any(User.class));
+
+        assertEquals("job", response.getJobId());
+        assertEquals(List.of(10L, 11L), response.getRecordIdList());
+        assertEquals(1, response.getFailureList().size());
+        assertEquals(1, response.getFailureList().get(0).getIndex());
+        assertEquals(RecordErrorStatus.NOT_ENOUGH_MEMO_RECORD_CONTENT.getCode(), response.getFailureList().get(0).getCode());
+    }
+
+    @Test
+    @DisplayName("가져올 메모 수가 최대 개수를 넘으면 예외 발생")
+    void importMemoRecordListOverflowTest() {
+        // Given
+        ReflectionTestUtils.setField(recordService, "importMaxSize", 1);
+        RecordRequest.RecordImportDto request = RecordRequest.RecordImportDto.builder()
+                .folderId(1L)
+                .recordList(List.of(
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content(testContent).build(),
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content(testContent).build()))
+                .build();
+
+        when(userDbService.findUserById(1L)).thenReturn(user);
+        when(folderDbService.findFolderById(1L)).thenReturn(folder);
+
+        // When
+        RecordException exception = assertThrows(RecordException.class,
+                () -> recordService.importMemoRecordList(1L, request));
+
+        // Then
+        assertEquals(RecordErrorStatus.INVALID_IMPORT_SIZE, exception.getRecordErrorStatus());
+        verify(recordDbService, never()).saveMemoRecordList(any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 폴더에 경험 기록을 생성하면 예외 발생")
+    void createMemoRecordInOtherUserFolder() {
+        // Given
+        User otherUser = createMockUser(2L);
+        when(userDbService.findUserById(2L)).thenReturn(otherUser);
+        when(folderDbService.findFolderById(1L)).thenReturn(folder);
+
+        // When & Then
+        RecordRequest.RecordDto request = RecordRequest.RecordDto.builder()
+                .title(testTitle)
+                .content(testContent)
+                .folderId(1L)
+                .recordType(RecordType.MEMO)
+                .build();
+
+        FolderException exception = assertThrows(FolderException.class,
+                () -> recordService.createMemoRecord(2L, request));
+        assertEquals(FolderErrorStatus.USER_FOLDER_UNAUTHORIZED, exception.getFolderErrorStatus());
+        verify(recordDbService, never()).saveRecordAndIncreaseCount(any(Record.class), any(Folder.class), any(User.class));
+    }
+
+    @Test
+    @DisplayName("다른 유저의 폴더로 메모를 일괄 가져오면 예외 발생")
+    void importMemoRecordListToOtherUserFolder() {
+        // Given
+        User otherUser = createMockUser(2L);
+        RecordRequest.RecordImportDto request = RecordRequest.RecordImportDto.builder()
+                .folderId(1L)
+                .recordList(List.of(
+                        RecordRequest.ImportMemoDto.builder().title(testTitle).content(testContent).build()))
+                .build();
+
+        when(userDbService.findUserById(2L)).thenReturn(otherUser);
+        when(folderDbService.findFolderById(1L)).thenReturn(folder);
+
+        // When
+        FolderException exception = assertThrows(FolderException.class,
+                () -> recordService.importMemoRecordList(2L, request));
+
+        // Then
+        assertEquals(FolderErrorStatus.USER_FOLDER_UNAUTHORIZED, exception.getFolderErrorStatus());
+        verify(recordDbService, never()).saveMemoRecordList(any(), any(), anyList());
+        verify(recordImportService, never()).scheduleAnalysis(anyLong(), anyList());
+    }
+
     private User createMockUser() {
+        return createMockUser(1L);
+    }
+
+    private User createMockUser(Long userId) {
         return User.builder()
-                .userId(1L)
+                .userId(userId)
                 .providerId("Test Provider")
                 .nickName("Test User")
                 .status(Status.GRADUATE_STUDENT)
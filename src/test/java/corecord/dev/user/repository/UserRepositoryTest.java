@@ -1,5 +1,9 @@
 package corecord.dev.user.repository;
 
+import corecord.dev.domain.analysis.domain.entity.Analysis;
+import corecord.dev.domain.folder.domain.entity.Folder;
+import corecord.dev.domain.record.domain.entity.Record;
+import corecord.dev.domain.record.domain.entity.RecordType;
 import corecord.dev.domain.user.domain.entity.Status;
 import corecord.dev.domain.user.domain.entity.User;
 import corecord.dev.domain.user.domain.repository.UserRepository;
@@ -12,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -43,6 +48,91 @@ public class UserRepositoryTest {
         assertThat(deletedUser).isEmpty();
     }
 
+    @Test
+    @DisplayName("임시 저장, 삭제된 폴더, 역량 분석 전 기록을 제외한 경험 기록 수로 보정")
+    void reconcileRecordCount() {
+        // Given
+        User user = createUser();
+        entityManager.persist(user);
+
+        Folder folder = createFolder(user);
+        entityManager.persist(folder);
+        createRecord(user, folder, true);
+        createRecord(user, folder, true);
+        createRecord(user, folder, false); // 역량 분석 전 가져오기 기록
+        createRecord(user, null, true); // 임시 저장 기록
+
+        Folder deletedFolder = createFolder(user);
+        entityManager.persist(deletedFolder);
+        createRecord(user, deletedFolder, true);
+        deletedFolder.delete();
+
+        // 삭제된 유저는 보정하지 않음
+        User deletedUser = createUser();
+        entityManager.persist(deletedUser);
+        userRepository.updateRecordCount(deletedUser.getUserId(), 3);
+        deletedUser.delete();
+        entityManager.flush();
+
+        // When
+        int updated = userRepository.reconcileRecordCount(user.getUserId(), deletedUser.getUserId());
+        List<Long> userIdList = userRepository.findUserIdListByUserIdRange(user.getUserId(), deletedUser.getUserId());
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(findRecordCount(user)).isEqualTo(2);
+        assertThat(findRecordCount(deletedUser)).isEqualTo(3);
+        assertThat(userIdList).isEqualTo(List.of(user.getUserId()));
+
+        // 이미 맞는 값이면 수정하지 않음
+        assertThat(userRepository.reconcileRecordCount(user.getUserId(), deletedUser.getUserId())).isEqualTo(0);
+    }
+
+    private int findRecordCount(User user) {
+        // record_count는 엔티티에서 읽기 전용이므로 DB 값을 직접 조회
+        Number recordCount = (Number) entityManager
+                .createNativeQuery("SELECT record_count FROM user WHERE user_id = :userId")
+                .setParameter("userId", user.getUserId())
+                .getSingleResult();
+        return recordCount.intValue();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .providerId("providerId")
+                .nickName("testUser")
+                .status(Status.UNIVERSITY_STUDENT)
+                .folders(new ArrayList<>())
+                .build();
+    }
+
+    private Folder createFolder(User user) {
+        return Folder.builder()
+                .title("Test Folder")
+                .user(user)
+                .build();
+    }
+
+    private Record createRecord(User user, Folder folder, boolean analyzed) {
+        Record record = Record.builder()
+                .title("Test Record")
+                .content("Test Content")
+                .user(user)
+                .type(RecordType.MEMO)
+                .folder(folder)
+                .build();
+        entityManager.persist(record);
+
+        if (analyzed) {
+            Analysis analysis = Analysis.builder()
+                    .content("Test Content")
+                    .comment("Test Comment")
+                    .record(record)
+                    .build();
+            entityManager.persist(analysis);
+        }
+        return record;
+    }
 
     private User createTestUser() {
         return User.builder()
@@ -0,0 +1,81 @@
+package corecord.dev.user.service;
+
+import corecord.dev.common.lock.RedisLock;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.user.application.TmpDraftMigrationService;
+import corecord.dev.domain.user.application.UserDbService;
+import corecord.dev.domain.user.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TmpDraftMigrationServiceTest {
+
+    @Mock
+    private UserDbService userDbService;
+
+    @Mock
+    private RecordDbService recordDbService;
+
+    @Mock
+    private ChatDbService chatDbService;
+
+    @Mock
+    private RedisLock redisLock;
+
+    @InjectMocks
+    private TmpDraftMigrationService tmpDraftMigrationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tmpDraftMigrationService, "enabled", true);
+        ReflectionTestUtils.setField(tmpDraftMigrationService, "size", 2);
+        ReflectionTestUtils.setField(tmpDraftMigrationService, "lockTtl", 1800000L);
+    }
+
+    @Test
+    @DisplayName("락을 잡은 노드가 임시 저장 채팅을 Redis로 이전 후 락 해제")
+    void runTest() {
+        // Given
+        User user = User.builder().userId(1L).tmpChat(10L).build();
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.of("token"));
+        when(userDbService.findTmpDraftUserList(0L, 2)).thenReturn(List.of(user));
+        when(chatDbService.findTmpChat(1L)).thenReturn(Optional.empty());
+
+        // When
+        tmpDraftMigrationService.run();
+
+        // Then
+        verify(chatDbService).saveTmpChat(1L, 10L);
+        verify(userDbService).clearTmpDraft(1L);
+        verify(redisLock).unlock(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 이전 중이면 조회하지 않음")
+    void runWithLockedTest() {
+        // Given
+        when(redisLock.tryLock(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        // When
+        tmpDraftMigrationService.run();
+
+        // Then
+        verifyNoInteractions(userDbService);
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+}
@@ -0,0 +1,144 @@
+package corecord.dev.user.service;
+
+import corecord.dev.domain.ability.application.AbilityDbService;
+import corecord.dev.domain.analysis.application.AnalysisDbService;
+import corecord.dev.domain.chat.application.ChatDbService;
+import corecord.dev.domain.folder.application.FolderDbService;
+import corecord.dev.domain.record.application.RecordDbService;
+import corecord.dev.domain.user.application.UserDbService;
+import corecord.dev.domain.user.application.UserPurgeService;
+import corecord.dev.domain.user.domain.entity.PurgeStep;
+import corecord.dev.domain.user.domain.entity.UserPurge;
+import corecord.dev.domain.user.domain.repository.UserPurgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserPurgeServiceTest {
+
+    @Mock
+    private UserDbService userDbService;
+
+    @Mock
+    private AbilityDbService abilityDbService;
+
+    @Mock
+    private AnalysisDbService analysisDbService;
+
+    @Mock
+    private ChatDbService chatDbService;
+
+    @Mock
+    private RecordDbService recordDbService;
+
+    @Mock
+    private FolderDbService folderDbService;
+
+    @Mock
+    private UserPurgeRepository userPurgeRepository;
+
+    @InjectMocks
+    private UserPurgeService userPurgeService;
+
+    private static final Long USER_ID = 1L;
+    private static final int BATCH_SIZE = 2;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userPurgeService, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("탈퇴 유저 데이터 배치 삭제 테스트")
+    void purgeUser() {
+        // Given
+        when(userPurgeRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(abilityDbService.deleteAbilityByUserId(USER_ID, BATCH_SIZE)).thenReturn(2, 2, 1);
+        when(analysisDbService.deleteAnalysisByUserId(USER_ID, BATCH_SIZE)).thenReturn(1);
+        when(chatDbService.deleteChatByUserId(USER_ID, BATCH_SIZE)).thenReturn(0);
+        when(recordDbService.deleteRecordByUserId(USER_ID, BATCH_SIZE)).thenReturn(1);
+        when(chatDbService.deleteChatRoomByUserId(USER_ID, BATCH_SIZE)).thenReturn(0);
+        when(folderDbService.deleteFolderByUserId(USER_ID, BATCH_SIZE)).thenReturn(1);
+
+        // When
+        userPurgeService.purgeUser(USER_ID);
+
+        // Then
+        verify(abilityDbService, times(3)).deleteAbilityByUserId(USER_ID, BATCH_SIZE);
+
+        InOrder inOrder = inOrder(abilityDbService, analysisDbService, chatDbService, recordDbService, folderDbService, userDbService);
+        inOrder.verify(abilityDbService, times(3)).deleteAbilityByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(analysisDbService).deleteAnalysisByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(chatDbService).deleteChatByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(recordDbService).deleteRecordByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(chatDbService).deleteChatRoomByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(folderDbService).deleteFolderByUserId(USER_ID, BATCH_SIZE);
+        inOrder.verify(userDbService).deleteUserByUserId(USER_ID);
+
+        ArgumentCaptor<UserPurge> captor = ArgumentCaptor.forClass(UserPurge.class);
+        verify(userPurgeRepository, atLeastOnce()).save(captor.capture());
+        UserPurge userPurge = captor.getValue();
+        assertThat(userPurge.getStep()).isEqualTo(PurgeStep.COMPLETED);
+        assertThat(userPurge.getPurgedCount()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("이전에 실패한 탈퇴 유저는 저장된 단계부터 이어서 삭제 테스트")
+    void purgeUser_ResumeFromSavedStep() {
+        // Given
+        UserPurge savedPurge = UserPurge.builder()
+                .userId(USER_ID)
+                .step(PurgeStep.RECORD)
+                .purgedCount(5L)
+                .build();
+        when(userPurgeRepository.findById(USER_ID)).thenReturn(Optional.of(savedPurge));
+        when(recordDbService.deleteRecordByUserId(USER_ID, BATCH_SIZE)).thenReturn(1);
+        when(chatDbService.deleteChatRoomByUserId(USER_ID, BATCH_SIZE)).thenReturn(0);
+        when(folderDbService.deleteFolderByUserId(USER_ID, BATCH_SIZE)).thenReturn(1);
+
+        // When
+        userPurgeService.purgeUser(USER_ID);
+
+        // Then
+        verify(abilityDbService, never()).deleteAbilityByUserId(anyLong(), anyInt());
+        verify(analysisDbService, never()).deleteAnalysisByUserId(anyLong(), anyInt());
+        verify(chatDbService, never()).deleteChatByUserId(anyLong(), anyInt());
+        verify(recordDbService).deleteRecordByUserId(USER_ID, BATCH_SIZE);
+        verify(userDbService).deleteUserByUserId(USER_ID);
+        assertThat(savedPurge.getStep()).isEqualTo(PurgeStep.COMPLETED);
+        assertThat(savedPurge.getPurgedCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("탈퇴 유저 삭제 실패 시 다음 유저 삭제 진행 테스트")
+    void purgeDeletedUsers_ContinueOnFailure() {
+        // Given
+        ReflectionTestUtils.setField(userPurgeService, "userSize", 10);
+        when(userDbService.findDeletedUserIdList(10)).thenReturn(List.of(USER_ID, 2L));
+        when(userPurgeRepository.findById(any())).thenReturn(Optional.empty());
+        when(abilityDbService.deleteAbilityByUserId(USER_ID, BATCH_SIZE)).thenThrow(new RuntimeException());
+        when(abilityDbService.deleteAbilityByUserId(2L, BATCH_SIZE)).thenReturn(0);
+
+        // When
+        userPurgeService.purgeDeletedUsers();
+
+        // Then
+        verify(userDbService, never()).deleteUserByUserId(USER_ID);
+        verify(userDbService).deleteUserByUserId(2L);
+    }
+}
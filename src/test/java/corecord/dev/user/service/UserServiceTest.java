@@ -1,8 +1,8 @@
 package corecord.dev.user.service;
 
+import corecord.dev.domain.auth.domain.entity.RefreshToken;
 import corecord.dev.domain.auth.domain.repository.RefreshTokenRepository;
 import corecord.dev.domain.auth.jwt.JwtUtil;
-import corecord.dev.domain.record.application.RecordDbService;
 import corecord.dev.domain.user.application.UserDbService;
 import corecord.dev.domain.user.domain.dto.request.UserRequest;
 import corecord.dev.domain.user.domain.dto.response.UserResponse;
@@ -20,6 +20,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -37,9 +39,6 @@ public class UserServiceTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
-    @Mock
-    private RecordDbService recordDbService;
-
     @InjectMocks
     private UserService userService;
 
@@ -82,12 +81,12 @@ public class UserServiceTest {
     void getUserInfo() {
         // Given
         when(userDbService.getUser(newUser.getUserId())).thenReturn(newUser);
-        when(recordDbService.getRecordCount(newUser)).thenReturn(0);
 
         // When
         UserResponse.UserInfoDto userInfoDto = userService.getUserInfo(newUser.getUserId());
 
         // Then
+        assertThat(userInfoDto.getRecordCount()).isEqualTo(newUser.getRecordCount());
         assertThat(userInfoDto.getNickname()).isEqualTo(newUser.getNickName());
         assertThat(userInfoDto.getStatus()).isEqualTo(newUser.getStatus().getValue());
     }
@@ -111,6 +110,25 @@ public class UserServiceTest {
         verify(userDbService).getUser(newUser.getUserId());
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 테스트")
+    void deleteUser() {
+        // Given
+        RefreshToken refreshToken = RefreshToken.of(REFRESH_TOKEN, newUser.getUserId());
+
+        when(userDbService.getUser(newUser.getUserId())).thenReturn(newUser);
+        doCallRealMethod().when(userDbService).deleteUser(newUser);
+        when(refreshTokenRepository.findAllByUserId(newUser.getUserId())).thenReturn(List.of(refreshToken));
+
+        // When
+        userService.deleteUser(newUser.getUserId(), REFRESH_TOKEN);
+
+        // Then
+        assertThat(newUser.isDeleted()).isTrue();
+        verify(refreshTokenRepository).deleteAll(List.of(refreshToken));
+        verify(userDbService, never()).deleteUserByUserId(anyLong());
+    }
+
     @Test
     @DisplayName("닉네임 유효성 검증 - 닉네임이 길이 초과일 때 예외 발생")
     void validateUserInfo_NickNameExceedsLength_ThrowsUserException() {